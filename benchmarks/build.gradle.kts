@@ -0,0 +1,38 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.1"
+}
+
+dependencies {
+    implementation(project(":folia-scheduler-wrapper"))
+    implementation(project(":platform:common"))
+    implementation(project(":platform:bukkit"))
+    implementation(project(":platform:folia"))
+    implementation(project(":platform:paper"))
+    implementation(project(":platform:simulated"))
+    implementation("dev.folia:folia-api:1.20.1-R0.1-SNAPSHOT")
+}
+
+jmh {
+    jmhVersion.set("1.36")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+
+    // ./gradlew :benchmarks:jmh -PjmhIncludes=WrappedSchedulerBenchmark
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
+}
+
+tasks {
+    register<JavaExec>("stress") {
+        group = "benchmark"
+        description = "Stresses both implementations against a threaded stub server."
+        classpath = sourceSets["main"].runtimeClasspath
+        mainClass.set("me.nahu.scheduler.wrapper.benchmark.stress.StressHarness")
+
+        // ./gradlew :benchmarks:stress -PstressArgs="tasks=5000000 producers=16"
+        (findProperty("stressArgs") as String?)?.let { args(it.split(" ")) }
+    }
+
+    withType<AbstractPublishToMaven>().configureEach {
+        enabled = false
+    }
+}
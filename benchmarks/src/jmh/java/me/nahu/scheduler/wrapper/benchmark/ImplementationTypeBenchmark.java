@@ -0,0 +1,40 @@
+package me.nahu.scheduler.wrapper.benchmark;
+
+import me.nahu.scheduler.wrapper.type.Capability;
+import me.nahu.scheduler.wrapper.type.ImplementationType;
+import me.nahu.scheduler.wrapper.type.ServerCapabilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of implementation type detection, as paid by every {@link me.nahu.scheduler.wrapper.WrappedSchedulerBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImplementationTypeBenchmark {
+
+    @Benchmark
+    public ImplementationType find() {
+        return ImplementationType.find();
+    }
+
+    @Benchmark
+    public boolean isApplicableBukkit() {
+        return ImplementationType.BUKKIT.isApplicable();
+    }
+
+    @Benchmark
+    public boolean hasCapability() {
+        return ServerCapabilities.get().has(Capability.REGION_OWNERSHIP_CHECK);
+    }
+}
@@ -0,0 +1,52 @@
+package me.nahu.scheduler.wrapper.benchmark;
+
+import me.nahu.scheduler.wrapper.util.LazyValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link LazyValue} reads, both loaded and cold.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyValueBenchmark {
+
+    private LazyValue<Object> loadedValue;
+
+    @Setup
+    public void setup() {
+        this.loadedValue = new LazyValue<>(Object::new);
+        this.loadedValue.eager();
+    }
+
+    @Benchmark
+    public Object loadedGetValue() {
+        return loadedValue.getValue();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object loadedGetValueContended() {
+        return loadedValue.getValue();
+    }
+
+    @Benchmark
+    public Object coldGetValue() {
+        return new LazyValue<>(Object::new).getValue();
+    }
+}
@@ -0,0 +1,81 @@
+package me.nahu.scheduler.wrapper.benchmark;
+
+import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.implementation.simulated.SimulatedServer;
+import me.nahu.scheduler.wrapper.implementation.simulated.SimulatedWrappedScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the simulated server, scheduling a tick worth of mixed global, async, location and entity tasks through
+ * the wrapper and running them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulatedSchedulerBenchmark {
+
+    private static final int TASKS_PER_TICK = 10_000;
+
+    @Param({"2", "4"})
+    public int regionShift;
+
+    private SimulatedServer server;
+    private WrappedScheduler scheduler;
+    private List<Location> locations;
+    private List<Entity> entities;
+    private Runnable runnable;
+
+    private long executions;
+
+    @Setup
+    public void setup() {
+        this.server = new SimulatedServer(regionShift);
+        this.scheduler = new SimulatedWrappedScheduler(server, server.createPlugin("SimulatedSchedulerBenchmark"));
+        final World world = server.createWorld("world");
+        this.locations = new ArrayList<>();
+        this.entities = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            locations.add(new Location(world, (i % 8) * 512, 64, (i / 8) * 512));
+        }
+        for (int i = 0; i < 1024; i++) {
+            entities.add(server.spawnEntity(locations.get(i % locations.size())).getEntity());
+        }
+        this.runnable = () -> executions++;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_TICK)
+    public long tick() {
+        for (int i = 0; i < TASKS_PER_TICK; i++) {
+            switch (i & 3) {
+                case 0 -> scheduler.runTask(runnable);
+                case 1 -> scheduler.runTaskAsynchronously(runnable);
+                case 2 -> scheduler.runTaskAtLocation(locations.get(i & 63), runnable);
+                default -> scheduler.runTaskAtEntity(entities.get(i & 1023), runnable);
+            }
+        }
+        server.tick();
+        return executions;
+    }
+}
@@ -0,0 +1,79 @@
+package me.nahu.scheduler.wrapper.benchmark;
+
+import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.WrappedSchedulerBuilder;
+import me.nahu.scheduler.wrapper.benchmark.stub.Stubs;
+import me.nahu.scheduler.wrapper.runnable.WrappedRunnable;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.type.ImplementationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scheduling through {@link WrappedRunnable} and of its state checks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WrappedRunnableBenchmark {
+
+    @Param({"FOLIA", "PAPER", "BUKKIT"})
+    public ImplementationType implementationType;
+
+    private WrappedScheduler scheduler;
+    private WrappedRunnable scheduledRunnable;
+
+    @Setup
+    public void setup() {
+        Stubs.installServer();
+        this.scheduler = WrappedSchedulerBuilder.builder()
+            .plugin(Stubs.plugin("WrappedRunnableBenchmark"))
+            .implementationType(implementationType)
+            .build();
+        this.scheduledRunnable = new CountingRunnable();
+        this.scheduledRunnable.runTaskTimer(scheduler, 1L, 1L);
+    }
+
+    @Benchmark
+    public WrappedTask runTask() {
+        return new CountingRunnable().runTask(scheduler);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskTimer() {
+        final WrappedRunnable runnable = new CountingRunnable();
+        final WrappedTask task = runnable.runTaskTimer(scheduler, 1L, 1L);
+        // the stubs never end repeating tasks, left live they would grow the task registry for the rest of the run
+        runnable.cancel();
+        return task;
+    }
+
+    @Benchmark
+    public boolean isCancelled() {
+        return scheduledRunnable.isCancelled();
+    }
+
+    private static final class CountingRunnable extends WrappedRunnable {
+
+        private long executions;
+
+        @Override
+        public void run() {
+            executions++;
+        }
+    }
+}
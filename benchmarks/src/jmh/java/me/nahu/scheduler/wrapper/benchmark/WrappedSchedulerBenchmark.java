@@ -0,0 +1,150 @@
+package me.nahu.scheduler.wrapper.benchmark;
+
+import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.WrappedSchedulerBuilder;
+import me.nahu.scheduler.wrapper.benchmark.stub.StubEntityScheduler;
+import me.nahu.scheduler.wrapper.benchmark.stub.Stubs;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.type.ImplementationType;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Per-call cost of every {@code runTask*} variant, the stub schedulers run each submission once inline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WrappedSchedulerBenchmark {
+
+    @Param({"FOLIA", "PAPER", "BUKKIT"})
+    public ImplementationType implementationType;
+
+    private WrappedScheduler scheduler;
+    private Location location;
+    private List<Location> locations;
+    private Entity entity;
+    private Runnable runnable;
+    private Consumer<Location> consumer;
+
+    private long executions;
+
+    @Setup
+    public void setup() {
+        Stubs.installServer();
+        this.scheduler = WrappedSchedulerBuilder.builder()
+            .plugin(Stubs.plugin("WrappedSchedulerBenchmark"))
+            .implementationType(implementationType)
+            .build();
+        this.location = new Location(Stubs.world("world"), 0, 64, 0);
+        this.entity = Stubs.entity(location, new StubEntityScheduler());
+        this.locations = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            // spread over four region sections
+            locations.add(new Location(location.getWorld(), (i % 4) * 256, 64, i));
+        }
+        this.runnable = () -> executions++;
+        this.consumer = __ -> executions++;
+    }
+
+    @Benchmark
+    public WrappedTask runTask() {
+        return scheduler.runTask(runnable);
+    }
+
+    @Benchmark
+    public void runTaskCoalesced() {
+        scheduler.runTaskCoalesced(runnable);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskAsynchronously() {
+        return scheduler.runTaskAsynchronously(runnable);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskAtEntity() {
+        return scheduler.runTaskAtEntity(entity, runnable);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskAtLocation() {
+        return scheduler.runTaskAtLocation(location, runnable);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskTimer() {
+        return cancelled(scheduler.runTaskTimer(runnable, 1L, 1L));
+    }
+
+    @Benchmark
+    public WrappedTask runTaskTimerAsynchronously() {
+        return cancelled(scheduler.runTaskTimerAsynchronously(runnable, 1L, 1L));
+    }
+
+    @Benchmark
+    public WrappedTask runTaskTimerAtEntity() {
+        return cancelled(scheduler.runTaskTimerAtEntity(entity, runnable, 1L, 1L));
+    }
+
+    @Benchmark
+    public WrappedTask runTaskTimerAtLocation() {
+        return cancelled(scheduler.runTaskTimerAtLocation(location, runnable, 1L, 1L));
+    }
+
+    @Benchmark
+    public WrappedTask runTaskLater() {
+        return scheduler.runTaskLater(runnable, 1L);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskLaterAsynchronously() {
+        return scheduler.runTaskLaterAsynchronously(runnable, 1L);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskLaterAtEntity() {
+        return scheduler.runTaskLaterAtEntity(entity, runnable, 1L);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskLaterAtLocation() {
+        return scheduler.runTaskLaterAtLocation(location, runnable, 1L);
+    }
+
+    @Benchmark
+    public WrappedTask runTaskAtLocations() {
+        return scheduler.runTaskAtLocations(locations, consumer);
+    }
+
+    /**
+     * Cancel a repeating task right away, the stubs never end it and it would otherwise stay live, growing the task
+     * registry for the rest of the run.
+     *
+     * @param task {@link WrappedTask} task to cancel.
+     * @return Same task.
+     */
+    private static WrappedTask cancelled(WrappedTask task) {
+        task.cancel();
+        return task;
+    }
+}
@@ -0,0 +1,87 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Async scheduler of the stress server. Delays and periods are timed by a single timer thread handing each run off to
+ * the async pool, like Folia does.
+ * <p>
+ * Pending tasks are not tracked, so {@link #cancelTasks(Plugin)} only bumps a generation, and every task of the plugin
+ * from an older generation cancels itself instead of running.
+ */
+final class StressAsyncScheduler implements AsyncScheduler {
+
+    private final ScheduledExecutorService timer;
+    private final ExecutorService pool;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<Plugin, Long> cancelled = new ConcurrentHashMap<>();
+
+    StressAsyncScheduler(@NotNull ScheduledExecutorService timer, @NotNull ExecutorService pool) {
+        this.timer = timer;
+        this.pool = pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runNow(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task) {
+        final StressScheduledTask scheduled = new StressScheduledTask(plugin, guard(plugin, task), 0L);
+        pool.execute(scheduled::run);
+        return scheduled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long delay, @NotNull TimeUnit unit) {
+        final StressScheduledTask scheduled = new StressScheduledTask(plugin, guard(plugin, task), 0L);
+        scheduled.bind(timer.schedule(() -> pool.execute(scheduled::run), Math.max(0L, delay), unit));
+        return scheduled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long initialDelay, long period, @NotNull TimeUnit unit) {
+        final long nanos = Math.max(1L, unit.toNanos(period));
+        final StressScheduledTask scheduled = new StressScheduledTask(plugin, guard(plugin, task), nanos);
+        // a run still executing when the next one is due makes the next one skip
+        scheduled.bind(timer.scheduleAtFixedRate(() -> pool.execute(scheduled::run), Math.max(0L, unit.toNanos(initialDelay)), nanos, TimeUnit.NANOSECONDS));
+        return scheduled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTasks(@NotNull Plugin plugin) {
+        cancelled.put(plugin, generation.incrementAndGet());
+    }
+
+    @NotNull
+    private Consumer<ScheduledTask> guard(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task) {
+        final long created = generation.get();
+        return scheduled -> {
+            final Long cancelledAt = cancelled.get(plugin);
+            if (cancelledAt != null && cancelledAt > created) {
+                scheduled.cancel();
+                return;
+            }
+            task.accept(scheduled);
+        };
+    }
+}
@@ -0,0 +1,326 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scheduler.BukkitWorker;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Bukkit scheduler of the stress server. Every task is timed by the main tick loop, sync tasks run on it and async
+ * tasks are handed off to the async pool once due.
+ * <p>
+ * Only the methods used by the wrapper are supported, everything else throws {@link UnsupportedOperationException}.
+ */
+@SuppressWarnings("deprecation")
+final class StressBukkitScheduler implements BukkitScheduler {
+
+    private final AtomicInteger taskIds = new AtomicInteger();
+    private final TickLoop loop;
+    private final Executor pool;
+
+    StressBukkitScheduler(@NotNull TickLoop loop, @NotNull Executor pool) {
+        this.loop = loop;
+        this.pool = pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncDelayedTask(@NotNull Plugin plugin, @NotNull Runnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncDelayedTask(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncDelayedTask(@NotNull Plugin plugin, @NotNull Runnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncDelayedTask(@NotNull Plugin plugin, @NotNull BukkitRunnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncRepeatingTask(@NotNull Plugin plugin, @NotNull Runnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncRepeatingTask(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleAsyncDelayedTask(@NotNull Plugin plugin, @NotNull Runnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleAsyncDelayedTask(@NotNull Plugin plugin, @NotNull Runnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleAsyncRepeatingTask(@NotNull Plugin plugin, @NotNull Runnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @NotNull Future<T> callSyncMethod(@NotNull Plugin plugin, @NotNull Callable<T> task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTask(int taskId) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTasks(@NotNull Plugin plugin) {
+        loop.cancelTasks(plugin);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCurrentlyRunning(int taskId) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isQueued(int taskId) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<BukkitWorker> getActiveWorkers() {
+        return List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<BukkitTask> getPendingTasks() {
+        return List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTask(@NotNull Plugin plugin, @NotNull Runnable task) {
+        return schedule(plugin, task, false, 0L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTask(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTask(@NotNull Plugin plugin, @NotNull BukkitRunnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskAsynchronously(@NotNull Plugin plugin, @NotNull Runnable task) {
+        return schedule(plugin, task, true, 0L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskAsynchronously(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskAsynchronously(@NotNull Plugin plugin, @NotNull BukkitRunnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskLater(@NotNull Plugin plugin, @NotNull Runnable task, long delay) {
+        return schedule(plugin, task, false, delay, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskLater(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskLater(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskLaterAsynchronously(@NotNull Plugin plugin, @NotNull Runnable task, long delay) {
+        return schedule(plugin, task, true, delay, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskLaterAsynchronously(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskLaterAsynchronously(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskTimer(@NotNull Plugin plugin, @NotNull Runnable task, long delay, long period) {
+        return schedule(plugin, task, false, delay, period);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskTimer(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskTimer(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskTimerAsynchronously(@NotNull Plugin plugin, @NotNull Runnable task, long delay, long period) {
+        return schedule(plugin, task, true, delay, period);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskTimerAsynchronously(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskTimerAsynchronously(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Executor getMainThreadExecutor(@NotNull Plugin plugin) {
+        return task -> runTask(plugin, task);
+    }
+
+    @NotNull
+    private BukkitTask schedule(@NotNull Plugin plugin, @NotNull Runnable task, boolean async, long delay, long period) {
+        // a period below one means a single run on bukkit
+        final StressBukkitTask bukkitTask = new StressBukkitTask(taskIds.incrementAndGet(), plugin, task, async ? pool : null, period > 0L ? period : 0L);
+        return loop.submit(bukkitTask, delay);
+    }
+
+    @NotNull
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not supported by the stress scheduler!");
+    }
+}
@@ -0,0 +1,89 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+/**
+ * Bukkit task of the stress server. Async tasks are timed by the main thread and handed off to the async pool once
+ * due, like the Bukkit scheduler does.
+ */
+final class StressBukkitTask extends TickTask implements BukkitTask {
+
+    private final int taskId;
+    private final Runnable runnable;
+    private final Executor executor;
+
+    /**
+     * Main constructor for the task.
+     *
+     * @param taskId Id of the task.
+     * @param plugin {@link Plugin} owning plugin.
+     * @param runnable Task body.
+     * @param executor Async pool running the body, {@code null} if the task is synchronous.
+     * @param period Period between runs, zero or less if it only runs once.
+     */
+    StressBukkitTask(int taskId, @NotNull Plugin plugin, @NotNull Runnable runnable, @Nullable Executor executor, long period) {
+        super(plugin, period);
+        this.taskId = taskId;
+        this.runnable = runnable;
+        this.executor = executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void execute() {
+        if (executor == null) {
+            runnable.run();
+            return;
+        }
+        executor.execute(() -> {
+            if (isCancelled()) {
+                return;
+            }
+            try {
+                runnable.run();
+            } catch (Throwable throwable) {
+                plugin.getLogger().log(Level.SEVERE, "Async task generated an exception", throwable);
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwner() {
+        return plugin;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSync() {
+        return executor == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        cancelTask();
+    }
+}
@@ -0,0 +1,55 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Entity scheduler of the stress server, running every task on the tick loop owning the entity. Stress entities never
+ * move nor get removed, so the retired callbacks are never run.
+ */
+final class StressEntityScheduler implements EntityScheduler {
+
+    private final TickLoop loop;
+
+    StressEntityScheduler(@NotNull TickLoop loop) {
+        this.loop = loop;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean execute(@NotNull Plugin plugin, @NotNull Runnable run, @Nullable Runnable retired, long delay) {
+        loop.submit(new StressScheduledTask(plugin, __ -> run.run(), 0L), delay);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask run(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired) {
+        return loop.submit(new StressScheduledTask(plugin, task, 0L), 1L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired, long delayTicks) {
+        return loop.submit(new StressScheduledTask(plugin, task, 0L), delayTicks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired, long initialDelayTicks, long periodTicks) {
+        return loop.submit(new StressScheduledTask(plugin, task, Math.max(1L, periodTicks)), initialDelayTicks);
+    }
+}
@@ -0,0 +1,60 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Global region scheduler of the stress server, running every task on the global tick loop.
+ */
+final class StressGlobalRegionScheduler implements GlobalRegionScheduler {
+
+    private final TickLoop loop;
+
+    StressGlobalRegionScheduler(@NotNull TickLoop loop) {
+        this.loop = loop;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NotNull Plugin plugin, @NotNull Runnable run) {
+        loop.submit(new StressScheduledTask(plugin, __ -> run.run(), 0L), 1L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask run(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task) {
+        return loop.submit(new StressScheduledTask(plugin, task, 0L), 1L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long delayTicks) {
+        return loop.submit(new StressScheduledTask(plugin, task, 0L), delayTicks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long initialDelayTicks, long periodTicks) {
+        return loop.submit(new StressScheduledTask(plugin, task, Math.max(1L, periodTicks)), initialDelayTicks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTasks(@NotNull Plugin plugin) {
+        loop.cancelTasks(plugin);
+    }
+}
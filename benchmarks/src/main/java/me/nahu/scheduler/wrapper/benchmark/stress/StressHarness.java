@@ -0,0 +1,440 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.WrappedSchedulerBuilder;
+import me.nahu.scheduler.wrapper.benchmark.stub.Stubs;
+import me.nahu.scheduler.wrapper.metrics.HistogramSnapshot;
+import me.nahu.scheduler.wrapper.metrics.LatencyHistogram;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.type.ImplementationType;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Throughput and latency stress test of the wrapper, against a {@link StressServer}.
+ * <p>
+ * Many producer threads submit a mix of global, async, entity, location, delayed and repeating tasks as fast as the
+ * in-flight limit allows, and cancel a share of long delayed tasks right after submitting them. Reported per
+ * implementation are the submit and drain throughput, the p50, p99 and p999 of the latency from submission to run,
+ * past the requested delay, and the cost of cancelling. Every option is a {@code key=value} argument:
+ * <ul>
+ *     <li>{@code implementations}: comma separated implementation types, {@code FOLIA,BUKKIT} by default.</li>
+ *     <li>{@code tasks}: tasks submitted per implementation, {@code 2000000} by default.</li>
+ *     <li>{@code producers}: producer threads, {@code 8} by default.</li>
+ *     <li>{@code regions}: region threads, {@code 8} by default.</li>
+ *     <li>{@code async}: async pool threads, {@code 4} by default.</li>
+ *     <li>{@code tick}: length of a tick in milliseconds, {@code 50} by default.</li>
+ *     <li>{@code inflight}: tasks pending at once before producers block, {@code 200000} by default.</li>
+ *     <li>{@code entities}: entities tasks are spread over, {@code 1024} by default.</li>
+ *     <li>{@code locations}: locations tasks are spread over, {@code 4096} by default.</li>
+ *     <li>{@code wheel}: whether the timing wheels are enabled, {@code false} by default.</li>
+ *     <li>{@code timeout}: seconds to wait for the tasks to drain, {@code 120} by default.</li>
+ * </ul>
+ * Run it with {@code ./gradlew :benchmarks:stress -PstressArgs="tasks=5000000 producers=16"}.
+ */
+public final class StressHarness {
+
+    private static final int TIMER_RUNS = 5;
+    private static final long MAX_DELAY = 5L;
+    private static final long MAX_PERIOD = 3L;
+    // long enough for the cancel to always land before the run
+    private static final long CANCEL_DELAY = 40L;
+    private static final long SEED = 0x5EEDL;
+
+    private final StressServer server;
+    private final Settings settings;
+    private final ImplementationType implementationType;
+    private final Location[] locations;
+    private final Entity[] entities;
+
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final LatencyHistogram cancelLatency = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder leaked = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAccumulator lastCompletion = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    private final Semaphore inFlight;
+
+    private WrappedScheduler scheduler;
+
+    private StressHarness(@NotNull StressServer server, @NotNull Settings settings, @NotNull ImplementationType implementationType) {
+        this.server = server;
+        this.settings = settings;
+        this.implementationType = implementationType;
+        this.inFlight = new Semaphore(settings.inFlight());
+
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final World world = Stubs.world("stress");
+        this.locations = new Location[settings.locations()];
+        for (int index = 0; index < locations.length; index++) {
+            locations[index] = new Location(world, random.nextInt(-8192, 8192), 64, random.nextInt(-8192, 8192));
+        }
+        this.entities = new Entity[settings.entities()];
+        for (int index = 0; index < entities.length; index++) {
+            entities[index] = server.spawnEntity(locations[random.nextInt(locations.length)]);
+        }
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Run the stress test against every requested implementation, one after the other, on the same server.
+     *
+     * @param args Options, as {@code key=value} arguments.
+     * @throws InterruptedException If interrupted while waiting for the tasks.
+     */
+    public static void main(@NotNull String[] args) throws InterruptedException {
+        final Settings settings = Settings.parse(args);
+        final StressServer server = new StressServer(settings.regions(), settings.asyncThreads(), Duration.ofMillis(settings.tickMillis()));
+        server.install();
+        server.start();
+        try {
+            for (ImplementationType type : settings.implementations()) {
+                new StressHarness(server, settings, type).run(System.out);
+            }
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    private void run(@NotNull PrintStream out) throws InterruptedException {
+        this.scheduler = WrappedSchedulerBuilder.builder()
+            .plugin(Stubs.plugin("Stress-" + implementationType))
+            .implementationType(implementationType)
+            .timingWheel(settings.wheel())
+            .build();
+        try {
+            // warm up the dispatch paths before measuring
+            if (!execute(Math.max(1L, settings.tasks() / 10L))) {
+                out.printf("%s: warmup did not drain within %ss%n", implementationType, settings.timeoutSeconds());
+                return;
+            }
+            reset();
+
+            final long start = System.nanoTime();
+            final long submitted = submit(settings.tasks());
+            final long submitEnd = System.nanoTime();
+            final boolean drained = drain();
+            final long end = drained ? lastCompletion.get() : System.nanoTime();
+            report(out, submitted, submitEnd - start, Math.max(1L, end - start), drained);
+        } finally {
+            scheduler.cancelAllTasks();
+        }
+    }
+
+    private boolean execute(long tasks) throws InterruptedException {
+        submit(tasks);
+        return drain();
+    }
+
+    private long submit(long tasks) throws InterruptedException {
+        final int producers = settings.producers();
+        final CountDownLatch ready = new CountDownLatch(producers);
+        final CountDownLatch go = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(producers);
+        final AtomicInteger failures = new AtomicInteger();
+        for (int index = 0; index < producers; index++) {
+            final long share = tasks / producers + (index < tasks % producers ? 1L : 0L);
+            final SplittableRandom random = new SplittableRandom(SEED + index);
+            final Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                    for (long count = 0L; count < share; count++) {
+                        inFlight.acquire();
+                        submit(Operation.pick(random), random);
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException exception) {
+                    failures.incrementAndGet();
+                    exception.printStackTrace();
+                } finally {
+                    done.countDown();
+                }
+            }, "Stress-Producer-" + index);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        ready.await();
+        go.countDown();
+        done.await();
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " producers failed!");
+        }
+        return tasks;
+    }
+
+    private boolean drain() throws InterruptedException {
+        // every pending task holds a permit until it completes
+        if (!inFlight.tryAcquire(settings.inFlight(), settings.timeoutSeconds(), TimeUnit.SECONDS)) {
+            return false;
+        }
+        inFlight.release(settings.inFlight());
+        return true;
+    }
+
+    private void submit(@NotNull Operation operation, @NotNull SplittableRandom random) {
+        final long tickNanos = server.getTickNanos();
+        final Location location = locations[random.nextInt(locations.length)];
+        final Entity entity = entities[random.nextInt(entities.length)];
+        final long now = System.nanoTime();
+        switch (operation) {
+            case GLOBAL -> scheduler.runTask(() -> complete(operation, now));
+            case ASYNC -> scheduler.runTaskAsynchronously(() -> complete(operation, now));
+            case ENTITY -> accepted(scheduler.runTaskAtEntity(entity, () -> complete(operation, now)));
+            case LOCATION -> scheduler.runTaskAtLocation(location, () -> complete(operation, now));
+            case DELAYED -> {
+                final long delay = random.nextLong(1L, MAX_DELAY + 1L);
+                final long expected = now + delay * tickNanos;
+                switch (random.nextInt(4)) {
+                    case 0 -> scheduler.runTaskLater(() -> complete(operation, expected), delay);
+                    case 1 -> scheduler.runTaskLaterAsynchronously(() -> complete(operation, expected), delay);
+                    case 2 -> accepted(scheduler.runTaskLaterAtEntity(entity, () -> complete(operation, expected), delay));
+                    default -> scheduler.runTaskLaterAtLocation(location, () -> complete(operation, expected), delay);
+                }
+            }
+            case TIMER -> {
+                final long period = random.nextLong(1L, MAX_PERIOD + 1L);
+                final TimerProbe probe = new TimerProbe(now, period * tickNanos);
+                switch (random.nextInt(4)) {
+                    case 0 -> scheduler.runTaskTimer(probe, period, period);
+                    case 1 -> scheduler.runTaskTimerAsynchronously(probe, period, period);
+                    case 2 -> accepted(scheduler.runTaskTimerAtEntity(entity, probe, period, period));
+                    default -> scheduler.runTaskTimerAtLocation(location, probe, period, period);
+                }
+            }
+            case CANCEL -> {
+                final WrappedTask task = switch (random.nextInt(2)) {
+                    case 0 -> scheduler.runTaskLater(leaked::increment, CANCEL_DELAY);
+                    default -> scheduler.runTaskLaterAtLocation(location, leaked::increment, CANCEL_DELAY);
+                };
+                final long start = System.nanoTime();
+                task.cancel();
+                cancelLatency.record(System.nanoTime() - start);
+                inFlight.release();
+            }
+        }
+    }
+
+    private void accepted(WrappedTask task) {
+        if (task == null) {
+            rejected.increment();
+            inFlight.release();
+        }
+    }
+
+    private void complete(@NotNull Operation operation, long expected) {
+        final long now = System.nanoTime();
+        latencies.get(operation).record(now - expected);
+        completed.increment();
+        lastCompletion.accumulate(now);
+        inFlight.release();
+    }
+
+    private void reset() {
+        latencies.values().forEach(LatencyHistogram::reset);
+        cancelLatency.reset();
+        completed.reset();
+        leaked.reset();
+        rejected.reset();
+        lastCompletion.reset();
+    }
+
+    private void report(@NotNull PrintStream out, long submitted, long submitNanos, long totalNanos, boolean drained) {
+        out.printf(
+            "%n%s: %,d tasks from %d producers, %d regions, %d async threads, %dms ticks%n",
+            implementationType, submitted, settings.producers(), server.getRegionCount(), settings.asyncThreads(), settings.tickMillis()
+        );
+        out.printf("  submitted in %s, %s tasks/s%n", format(submitNanos), rate(submitted, submitNanos));
+        out.printf("  completed %,d in %s, %s tasks/s%s%n", completed.sum(), format(totalNanos), rate(completed.sum(), totalNanos), drained ? "" : " (timed out)");
+        out.printf("  %-10s %10s %10s %10s %10s %10s%n", "latency", "count", "p50", "p99", "p999", "max");
+        for (Operation operation : Operation.values()) {
+            if (operation != Operation.CANCEL) {
+                row(out, operation.name().toLowerCase(Locale.ROOT), latencies.get(operation).snapshot());
+            }
+        }
+        row(out, "cancel", cancelLatency.snapshot());
+        out.printf(
+            "  runs after cancel: %,d, rejected: %,d, live tasks after drain: %,d%n",
+            leaked.sum(), rejected.sum(), scheduler.getLiveTaskCount()
+        );
+    }
+
+    private static void row(@NotNull PrintStream out, @NotNull String name, @NotNull HistogramSnapshot snapshot) {
+        out.printf(
+            "  %-10s %,10d %10s %10s %10s %10s%n",
+            name,
+            snapshot.getCount(),
+            format(snapshot.getPercentile(50.0D)),
+            format(snapshot.getPercentile(99.0D)),
+            format(snapshot.getPercentile(99.9D)),
+            format(snapshot.getMax())
+        );
+    }
+
+    @NotNull
+    private static String format(@NotNull Duration duration) {
+        return format(duration.toNanos());
+    }
+
+    @NotNull
+    private static String format(long nanos) {
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(1L)) {
+            return String.format(Locale.ROOT, "%.1fus", nanos / 1_000.0D);
+        }
+        if (nanos < TimeUnit.SECONDS.toNanos(1L)) {
+            return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0D);
+        }
+        return String.format(Locale.ROOT, "%.2fs", nanos / 1_000_000_000.0D);
+    }
+
+    @NotNull
+    private static String rate(long count, long nanos) {
+        return String.format(Locale.ROOT, "%.2fM", count * 1_000.0D / Math.max(1L, nanos));
+    }
+
+    /**
+     * Kind of task submitted by the producers, with its share of the mix.
+     */
+    private enum Operation {
+        GLOBAL(20),
+        ASYNC(20),
+        ENTITY(20),
+        LOCATION(20),
+        DELAYED(10),
+        TIMER(5),
+        CANCEL(5);
+
+        private static final Operation[] VALUES = values();
+        private static final int TOTAL_WEIGHT = 100;
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        @NotNull
+        private static Operation pick(@NotNull SplittableRandom random) {
+            int roll = random.nextInt(TOTAL_WEIGHT);
+            for (Operation operation : VALUES) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException("Weights do not add up to " + TOTAL_WEIGHT + "!");
+        }
+    }
+
+    /**
+     * Repeating task recording how late each run is, stopping itself after {@link #TIMER_RUNS} runs.
+     */
+    private final class TimerProbe implements Consumer<WrappedTask> {
+
+        private final AtomicInteger runs = new AtomicInteger();
+        private final long start;
+        private final long period;
+
+        private TimerProbe(long start, long period) {
+            this.start = start;
+            this.period = period;
+        }
+
+        @Override
+        public void accept(@NotNull WrappedTask task) {
+            final int run = runs.incrementAndGet();
+            if (run > TIMER_RUNS) {
+                return;
+            }
+            final long now = System.nanoTime();
+            // the first run is due one period in, like every following one
+            latencies.get(Operation.TIMER).record(now - (start + run * period));
+            if (run == TIMER_RUNS) {
+                task.cancel();
+                completed.increment();
+                lastCompletion.accumulate(now);
+                inFlight.release();
+            }
+        }
+    }
+
+    /**
+     * Options of a stress run.
+     */
+    private record Settings(
+        @NotNull List<ImplementationType> implementations,
+        long tasks,
+        int producers,
+        int regions,
+        int asyncThreads,
+        long tickMillis,
+        int inFlight,
+        int entities,
+        int locations,
+        boolean wheel,
+        long timeoutSeconds
+    ) {
+
+        @NotNull
+        private static Settings parse(@NotNull String[] args) {
+            final Map<String, String> options = new HashMap<>();
+            for (String arg : args) {
+                final int separator = arg.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Options must be key=value, got " + arg + "!");
+                }
+                options.put(arg.substring(0, separator).toLowerCase(Locale.ROOT), arg.substring(separator + 1));
+            }
+
+            final List<ImplementationType> implementations = new ArrayList<>();
+            for (String name : options.getOrDefault("implementations", "FOLIA,BUKKIT").split(",")) {
+                implementations.add(ImplementationType.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            }
+            final Settings settings = new Settings(
+                List.copyOf(implementations),
+                Long.parseLong(options.getOrDefault("tasks", "2000000")),
+                Integer.parseInt(options.getOrDefault("producers", "8")),
+                Integer.parseInt(options.getOrDefault("regions", "8")),
+                Integer.parseInt(options.getOrDefault("async", "4")),
+                Long.parseLong(options.getOrDefault("tick", "50")),
+                Integer.parseInt(options.getOrDefault("inflight", "200000")),
+                Integer.parseInt(options.getOrDefault("entities", "1024")),
+                Integer.parseInt(options.getOrDefault("locations", "4096")),
+                Boolean.parseBoolean(options.getOrDefault("wheel", "false")),
+                Long.parseLong(options.getOrDefault("timeout", "120"))
+            );
+            options.keySet().removeAll(List.of(
+                "implementations", "tasks", "producers", "regions", "async", "tick", "inflight", "entities", "locations", "wheel", "timeout"
+            ));
+            if (!options.isEmpty()) {
+                throw new IllegalArgumentException("Unknown options " + options.keySet() + "!");
+            }
+            if (settings.tasks() <= 0L || settings.producers() <= 0 || settings.inFlight() <= 0 || settings.entities() <= 0 || settings.locations() <= 0) {
+                throw new IllegalArgumentException("Tasks, producers, in-flight limit, entities and locations must be greater than zero!");
+            }
+            return settings;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Region scheduler of the stress server, running every task on the tick loop owning its chunk.
+ */
+final class StressRegionScheduler implements RegionScheduler {
+
+    private final StressServer server;
+
+    StressRegionScheduler(@NotNull StressServer server) {
+        this.server = server;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Runnable run) {
+        server.loopOf(world, chunkX, chunkZ).submit(new StressScheduledTask(plugin, __ -> run.run(), 0L), 1L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask run(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Consumer<ScheduledTask> task) {
+        return server.loopOf(world, chunkX, chunkZ).submit(new StressScheduledTask(plugin, task, 0L), 1L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Consumer<ScheduledTask> task, long delayTicks) {
+        return server.loopOf(world, chunkX, chunkZ).submit(new StressScheduledTask(plugin, task, 0L), delayTicks);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Consumer<ScheduledTask> task, long initialDelayTicks, long periodTicks) {
+        return server.loopOf(world, chunkX, chunkZ).submit(new StressScheduledTask(plugin, task, Math.max(1L, periodTicks)), initialDelayTicks);
+    }
+}
@@ -0,0 +1,67 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Folia task of the stress server.
+ */
+final class StressScheduledTask extends TickTask implements ScheduledTask {
+
+    private final Consumer<ScheduledTask> consumer;
+
+    /**
+     * Main constructor for the task.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param consumer Task body.
+     * @param period Period between runs, zero or less if it only runs once.
+     */
+    StressScheduledTask(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> consumer, long period) {
+        super(plugin, period);
+        this.consumer = consumer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void execute() {
+        consumer.accept(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return plugin;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRepeatingTask() {
+        return period > 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull CancelledState cancel() {
+        return cancelTask();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ExecutionState getExecutionState() {
+        return getState();
+    }
+}
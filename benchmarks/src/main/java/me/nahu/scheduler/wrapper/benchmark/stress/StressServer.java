@@ -0,0 +1,210 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import me.nahu.scheduler.wrapper.benchmark.stub.Stubs;
+import me.nahu.scheduler.wrapper.implementation.folia.region.RegionSection;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Stub server backed by real threads, for stressing both implementations under concurrency.
+ * <p>
+ * The global region, which is also the Bukkit main thread, and every region are a {@link TickLoop} of their own.
+ * Chunks are grouped into sections like {@link RegionSection}, and each section is owned by one of the region loops.
+ * Async tasks run on a fixed pool, timed by a single timer thread. Ownership checks answer from the loop running on
+ * the calling thread, so the wrapper sees the same thread confinement it would on a real server.
+ */
+public final class StressServer {
+
+    private static final Logger LOGGER = Logger.getLogger("StressServer");
+
+    private final TickLoop global;
+    private final TickLoop[] regions;
+    private final ExecutorService asyncPool;
+    private final ScheduledThreadPoolExecutor asyncTimer;
+    private final long tickNanos;
+
+    private final StressGlobalRegionScheduler globalRegionScheduler;
+    private final StressRegionScheduler regionScheduler;
+    private final StressAsyncScheduler asyncScheduler;
+    private final StressBukkitScheduler bukkitScheduler;
+
+    /**
+     * Main constructor for the server. No thread is started until {@link #start()} is called.
+     *
+     * @param regionCount Amount of region threads.
+     * @param asyncThreads Amount of async pool threads.
+     * @param tick Length of a tick.
+     */
+    public StressServer(int regionCount, int asyncThreads, @NotNull Duration tick) {
+        if (regionCount <= 0) {
+            throw new IllegalArgumentException("Region count must be greater than zero!");
+        }
+        if (asyncThreads <= 0) {
+            throw new IllegalArgumentException("Async threads must be greater than zero!");
+        }
+        this.tickNanos = Objects.requireNonNull(tick, "Tick cannot be null!").toNanos();
+        if (tickNanos <= 0L) {
+            throw new IllegalArgumentException("Tick must be greater than zero!");
+        }
+
+        this.global = new TickLoop("Stress-GlobalRegion", tickNanos);
+        this.regions = new TickLoop[regionCount];
+        for (int index = 0; index < regionCount; index++) {
+            regions[index] = new TickLoop("Stress-Region-" + index, tickNanos);
+        }
+        final AtomicInteger asyncIds = new AtomicInteger();
+        this.asyncPool = Executors.newFixedThreadPool(asyncThreads, runnable -> daemon(runnable, "Stress-Async-" + asyncIds.getAndIncrement()));
+        this.asyncTimer = new ScheduledThreadPoolExecutor(1, runnable -> daemon(runnable, "Stress-AsyncTimer"));
+        asyncTimer.setRemoveOnCancelPolicy(true);
+
+        this.globalRegionScheduler = new StressGlobalRegionScheduler(global);
+        this.regionScheduler = new StressRegionScheduler(this);
+        this.asyncScheduler = new StressAsyncScheduler(asyncTimer, asyncPool);
+        this.bukkitScheduler = new StressBukkitScheduler(global, asyncPool);
+    }
+
+    /**
+     * Install the server as the Bukkit singleton. Only one server can be installed per JVM.
+     *
+     * @return {@link Server} installed server.
+     * @throws IllegalStateException If a server was already installed.
+     */
+    @NotNull
+    public Server install() {
+        synchronized (Bukkit.class) {
+            if (Bukkit.getServer() != null) {
+                throw new IllegalStateException("A server is already installed!");
+            }
+            final Server server = createServer();
+            Bukkit.setServer(server);
+            return server;
+        }
+    }
+
+    /**
+     * Start every tick thread.
+     */
+    public void start() {
+        global.start();
+        for (TickLoop region : regions) {
+            region.start();
+        }
+    }
+
+    /**
+     * Stop every thread, dropping every pending task.
+     */
+    public void shutdown() {
+        global.shutdown();
+        for (TickLoop region : regions) {
+            region.shutdown();
+        }
+        asyncTimer.shutdownNow();
+        asyncPool.shutdownNow();
+    }
+
+    /**
+     * Spawn an entity at the given location, owned by the region of the location for its whole life.
+     *
+     * @param location Location of the entity.
+     * @return {@link Entity} entity.
+     */
+    @NotNull
+    public Entity spawnEntity(@NotNull Location location) {
+        final Location copy = location.clone();
+        return Stubs.entity(copy, new StressEntityScheduler(loopOf(copy)));
+    }
+
+    /**
+     * Get the amount of region threads.
+     *
+     * @return Amount of regions.
+     */
+    public int getRegionCount() {
+        return regions.length;
+    }
+
+    /**
+     * Get the length of a tick.
+     *
+     * @return Length in nanoseconds.
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Get the loop owning the given chunk.
+     *
+     * @param world World of the chunk.
+     * @param chunkX X coordinate of the chunk.
+     * @param chunkZ Z coordinate of the chunk.
+     * @return {@link TickLoop} owning loop.
+     */
+    @NotNull
+    TickLoop loopOf(@NotNull World world, int chunkX, int chunkZ) {
+        int hash = RegionSection.of(world, chunkX, chunkZ).hashCode();
+        hash ^= hash >>> 16;
+        return regions[Math.floorMod(hash, regions.length)];
+    }
+
+    @NotNull
+    private TickLoop loopOf(@NotNull Location location) {
+        return loopOf(Objects.requireNonNull(location.getWorld(), "World cannot be null!"), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    private boolean isOwnedByCurrentRegion(@NotNull Object[] arguments) {
+        final TickLoop current = TickLoop.current();
+        if (current == null || current == global) {
+            return false;
+        }
+        if (arguments.length == 3) {
+            return loopOf((World) arguments[0], (int) arguments[1], (int) arguments[2]) == current;
+        }
+        final Location location = arguments[0] instanceof Entity entity ? entity.getLocation() : (Location) arguments[0];
+        return loopOf(location) == current;
+    }
+
+    @NotNull
+    private Server createServer() {
+        final InvocationHandler handler = (proxy, method, arguments) -> switch (method.getName()) {
+            case "equals" -> proxy == arguments[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "StressServer";
+            case "getLogger" -> LOGGER;
+            case "getName" -> "StressServer";
+            case "getVersion", "getBukkitVersion" -> "stress";
+            case "getScheduler" -> bukkitScheduler;
+            case "getGlobalRegionScheduler" -> globalRegionScheduler;
+            case "getRegionScheduler" -> regionScheduler;
+            case "getAsyncScheduler" -> asyncScheduler;
+            // every tick thread is a primary thread on folia, the main thread is the global region here
+            case "isPrimaryThread" -> TickLoop.current() != null;
+            case "isGlobalTickThread" -> TickLoop.current() == global;
+            case "isOwnedByCurrentRegion" -> isOwnedByCurrentRegion(arguments);
+            default -> throw new UnsupportedOperationException(method.getName() + " is not supported by the stress server!");
+        };
+        return (Server) Proxy.newProxyInstance(StressServer.class.getClassLoader(), new Class<?>[] { Server.class }, handler);
+    }
+
+    @NotNull
+    private static Thread daemon(@NotNull Runnable runnable, @NotNull String name) {
+        final Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,156 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Tick thread of the stress server, standing in for the global region or a single region of Folia, or for the main
+ * thread of Bukkit.
+ * <p>
+ * Submissions from any thread land in a lock-free inbox. At the start of every tick the loop moves the inbox into its
+ * own queue ordered by due tick, then runs everything due. A tick running over its length starts the next one right
+ * away without catching up, like the server tick loop does.
+ */
+final class TickLoop implements Runnable {
+
+    private static final ThreadLocal<TickLoop> CURRENT = new ThreadLocal<>();
+
+    private final Queue<TickTask> inbox = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<TickTask> scheduled = new PriorityQueue<>();
+    private final long tickNanos;
+    private final Thread thread;
+
+    private long sequence;
+    private volatile long currentTick;
+    private volatile boolean running = true;
+
+    /**
+     * Main constructor for the loop. The thread is not started until {@link #start()} is called.
+     *
+     * @param name Name of the thread.
+     * @param tickNanos Length of a tick in nanoseconds.
+     */
+    TickLoop(@NotNull String name, long tickNanos) {
+        this.tickNanos = tickNanos;
+        this.thread = new Thread(this, name);
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Get the loop running on the current thread.
+     *
+     * @return {@link TickLoop} loop, {@code null} if the current thread is not a tick thread.
+     */
+    @Nullable
+    static TickLoop current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Start the thread of the loop.
+     */
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Stop the loop after its current tick, dropping every pending task.
+     */
+    void shutdown() {
+        this.running = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Queue a task to run after the given delay.
+     *
+     * @param task {@link TickTask} task to queue.
+     * @param delay Delay in ticks, at least one.
+     * @param <T> Type of the task.
+     * @return The same task.
+     */
+    @NotNull
+    <T extends TickTask> T submit(@NotNull T task, long delay) {
+        task.due = currentTick + Math.max(1L, delay);
+        inbox.add(task);
+        return task;
+    }
+
+    /**
+     * Cancel every task of the given plugin queued so far, on the next tick.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     */
+    void cancelTasks(@NotNull Plugin plugin) {
+        submit(new TickTask(plugin, 0L) {
+            @Override
+            protected void execute() {
+                drainInbox();
+                for (TickTask task : scheduled) {
+                    if (task.plugin == plugin) {
+                        task.cancelTask();
+                    }
+                }
+            }
+        }, 1L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        CURRENT.set(this);
+        long next = System.nanoTime();
+        while (running) {
+            final long tick = currentTick + 1L;
+            currentTick = tick;
+            drainInbox();
+
+            TickTask task;
+            while ((task = scheduled.peek()) != null && task.due <= tick) {
+                scheduled.poll();
+                if (task.run()) {
+                    task.due = tick + task.period;
+                    task.sequence = sequence++;
+                    scheduled.add(task);
+                }
+            }
+
+            next += tickNanos;
+            long sleep = next - System.nanoTime();
+            if (sleep <= 0L) {
+                // overloaded tick, the next one starts right away
+                next = System.nanoTime();
+            }
+            while (sleep > 0L && running) {
+                LockSupport.parkNanos(this, sleep);
+                sleep = next - System.nanoTime();
+            }
+        }
+        inbox.clear();
+        scheduled.clear();
+    }
+
+    private void drainInbox() {
+        TickTask task;
+        while ((task = inbox.poll()) != null) {
+            task.sequence = sequence++;
+            scheduled.add(task);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return thread.getName();
+    }
+}
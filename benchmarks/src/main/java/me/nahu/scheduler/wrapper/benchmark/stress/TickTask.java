@@ -0,0 +1,166 @@
+package me.nahu.scheduler.wrapper.benchmark.stress;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask.CancelledState;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask.ExecutionState;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+
+/**
+ * Task of the stress server, following Folia's state transitions.
+ * <p>
+ * Unlike the inline stub tasks, these are run and cancelled from different threads, so every transition is a
+ * compare-and-set. Tasks due at the same tick of a {@link TickLoop} run in the order they reached it.
+ */
+abstract class TickTask implements Comparable<TickTask> {
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(TickTask.class, "state", ExecutionState.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    protected final Plugin plugin;
+    protected final long period;
+
+    // only touched by the loop the task is queued on
+    long due;
+    long sequence;
+
+    private volatile ExecutionState state = ExecutionState.IDLE;
+    private volatile Future<?> future;
+
+    /**
+     * Main constructor for the task.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param period Period between runs, zero or less if it only runs once.
+     */
+    protected TickTask(@NotNull Plugin plugin, long period) {
+        this.plugin = plugin;
+        this.period = period;
+    }
+
+    /**
+     * Run the body of the task.
+     */
+    protected abstract void execute();
+
+    /**
+     * Run the task once if it was not cancelled.
+     *
+     * @return {@code true} if the task is repeating and has to be queued again, {@code false} otherwise.
+     */
+    final boolean run() {
+        if (!STATE.compareAndSet(this, ExecutionState.IDLE, ExecutionState.RUNNING)) {
+            return false;
+        }
+        try {
+            execute();
+        } catch (Throwable throwable) {
+            plugin.getLogger().log(Level.SEVERE, "Task generated an exception", throwable);
+        }
+        if (period > 0L && STATE.compareAndSet(this, ExecutionState.RUNNING, ExecutionState.IDLE)) {
+            return true;
+        }
+        if (!STATE.compareAndSet(this, ExecutionState.RUNNING, ExecutionState.FINISHED)) {
+            STATE.compareAndSet(this, ExecutionState.CANCELLED_RUNNING, ExecutionState.CANCELLED);
+        }
+        return false;
+    }
+
+    /**
+     * Bind the future timing the task, cancelled along with it.
+     *
+     * @param future Future timing the task.
+     */
+    final void bind(@NotNull Future<?> future) {
+        this.future = future;
+        // the task may have been cancelled before it was bound
+        if (isCancelled()) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Cancel the task.
+     *
+     * @return {@link CancelledState} result of the cancellation.
+     */
+    @NotNull
+    final CancelledState cancelTask() {
+        while (true) {
+            final ExecutionState current = state;
+            switch (current) {
+                case IDLE -> {
+                    if (STATE.compareAndSet(this, current, ExecutionState.CANCELLED)) {
+                        cancelFuture();
+                        return CancelledState.CANCELLED_BY_CALLER;
+                    }
+                }
+                case RUNNING -> {
+                    if (period <= 0L) {
+                        return CancelledState.RUNNING;
+                    }
+                    if (STATE.compareAndSet(this, current, ExecutionState.CANCELLED_RUNNING)) {
+                        cancelFuture();
+                        return CancelledState.NEXT_RUNS_CANCELLED;
+                    }
+                }
+                case FINISHED -> {
+                    return CancelledState.ALREADY_EXECUTED;
+                }
+                case CANCELLED_RUNNING -> {
+                    return CancelledState.NEXT_RUNS_CANCELLED_ALREADY;
+                }
+                case CANCELLED -> {
+                    return CancelledState.CANCELLED_ALREADY;
+                }
+            }
+        }
+    }
+
+    private void cancelFuture() {
+        final Future<?> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Get the state of the task.
+     *
+     * @return {@link ExecutionState} state.
+     */
+    @NotNull
+    final ExecutionState getState() {
+        return state;
+    }
+
+    /**
+     * Check if the task was cancelled.
+     *
+     * @return {@code true} if it was, {@code false} otherwise.
+     */
+    public final boolean isCancelled() {
+        final ExecutionState current = state;
+        return current == ExecutionState.CANCELLED || current == ExecutionState.CANCELLED_RUNNING;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final int compareTo(@NotNull TickTask other) {
+        final int byDue = Long.compare(due, other.due);
+        return byDue != 0 ? byDue : Long.compare(sequence, other.sequence);
+    }
+}
@@ -0,0 +1,47 @@
+package me.nahu.scheduler.wrapper.benchmark.stub;
+
+import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Stub async scheduler, every submission is executed once on the calling thread.
+ */
+public final class StubAsyncScheduler implements AsyncScheduler {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runNow(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task) {
+        return StubScheduledTask.runInline(plugin, false, task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long delay, @NotNull TimeUnit unit) {
+        return StubScheduledTask.runInline(plugin, false, task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long initialDelay, long period, @NotNull TimeUnit unit) {
+        return StubScheduledTask.runInline(plugin, true, task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTasks(@NotNull Plugin plugin) {
+        // nothing is ever pending
+    }
+}
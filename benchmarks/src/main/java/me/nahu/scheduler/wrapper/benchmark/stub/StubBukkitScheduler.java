@@ -0,0 +1,318 @@
+package me.nahu.scheduler.wrapper.benchmark.stub;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scheduler.BukkitWorker;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Stub bukkit scheduler, every {@link Runnable} submission is executed once on the calling thread.
+ * <p>
+ * Only the methods used by the wrapper are supported, everything else throws {@link UnsupportedOperationException}.
+ */
+@SuppressWarnings("deprecation")
+public final class StubBukkitScheduler implements BukkitScheduler {
+
+    private final AtomicInteger taskIds = new AtomicInteger();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncDelayedTask(@NotNull Plugin plugin, @NotNull Runnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncDelayedTask(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncDelayedTask(@NotNull Plugin plugin, @NotNull Runnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncDelayedTask(@NotNull Plugin plugin, @NotNull BukkitRunnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncRepeatingTask(@NotNull Plugin plugin, @NotNull Runnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleSyncRepeatingTask(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleAsyncDelayedTask(@NotNull Plugin plugin, @NotNull Runnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleAsyncDelayedTask(@NotNull Plugin plugin, @NotNull Runnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int scheduleAsyncRepeatingTask(@NotNull Plugin plugin, @NotNull Runnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @NotNull Future<T> callSyncMethod(@NotNull Plugin plugin, @NotNull Callable<T> task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTask(int taskId) {
+        // nothing is ever pending
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTasks(@NotNull Plugin plugin) {
+        // nothing is ever pending
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCurrentlyRunning(int taskId) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isQueued(int taskId) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<BukkitWorker> getActiveWorkers() {
+        return List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull List<BukkitTask> getPendingTasks() {
+        return List.of();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTask(@NotNull Plugin plugin, @NotNull Runnable task) {
+        return runInline(plugin, task, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTask(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTask(@NotNull Plugin plugin, @NotNull BukkitRunnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskAsynchronously(@NotNull Plugin plugin, @NotNull Runnable task) {
+        return runInline(plugin, task, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskAsynchronously(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskAsynchronously(@NotNull Plugin plugin, @NotNull BukkitRunnable task) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskLater(@NotNull Plugin plugin, @NotNull Runnable task, long delay) {
+        return runInline(plugin, task, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskLater(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskLater(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskLaterAsynchronously(@NotNull Plugin plugin, @NotNull Runnable task, long delay) {
+        return runInline(plugin, task, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskLaterAsynchronously(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskLaterAsynchronously(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskTimer(@NotNull Plugin plugin, @NotNull Runnable task, long delay, long period) {
+        return runInline(plugin, task, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskTimer(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskTimer(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskTimerAsynchronously(@NotNull Plugin plugin, @NotNull Runnable task, long delay, long period) {
+        return runInline(plugin, task, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskTimerAsynchronously(@NotNull Plugin plugin, @NotNull Consumer<? super BukkitTask> task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull BukkitTask runTaskTimerAsynchronously(@NotNull Plugin plugin, @NotNull BukkitRunnable task, long delay, long period) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Executor getMainThreadExecutor(@NotNull Plugin plugin) {
+        return Runnable::run;
+    }
+
+    @NotNull
+    private BukkitTask runInline(@NotNull Plugin plugin, @NotNull Runnable task, boolean sync) {
+        final StubBukkitTask bukkitTask = new StubBukkitTask(taskIds.incrementAndGet(), plugin, sync);
+        task.run();
+        return bukkitTask;
+    }
+
+    @NotNull
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not supported by the stub scheduler!");
+    }
+}
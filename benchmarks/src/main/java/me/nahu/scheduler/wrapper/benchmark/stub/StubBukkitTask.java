@@ -0,0 +1,70 @@
+package me.nahu.scheduler.wrapper.benchmark.stub;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stub bukkit task.
+ */
+public final class StubBukkitTask implements BukkitTask {
+
+    private final int taskId;
+    private final Plugin plugin;
+    private final boolean sync;
+
+    private volatile boolean cancelled;
+
+    /**
+     * Main constructor for the stub task.
+     *
+     * @param taskId Id of the task.
+     * @param plugin {@link Plugin} owning plugin.
+     * @param sync Whether the task is synchronous.
+     */
+    public StubBukkitTask(int taskId, @NotNull Plugin plugin, boolean sync) {
+        this.taskId = taskId;
+        this.plugin = plugin;
+        this.sync = sync;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwner() {
+        return plugin;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+    }
+}
@@ -0,0 +1,60 @@
+package me.nahu.scheduler.wrapper.benchmark.stub;
+
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Stub entity scheduler, every submission is executed once on the calling thread.
+ */
+public final class StubEntityScheduler implements EntityScheduler {
+
+    private volatile boolean retired;
+
+    /**
+     * Retire the scheduler, every following submission will be rejected.
+     */
+    public void retire() {
+        this.retired = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean execute(@NotNull Plugin plugin, @NotNull Runnable run, @Nullable Runnable retired, long delay) {
+        if (this.retired) {
+            return false;
+        }
+        run.run();
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask run(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired) {
+        return this.retired ? null : StubScheduledTask.runInline(plugin, false, task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired, long delayTicks) {
+        return this.retired ? null : StubScheduledTask.runInline(plugin, false, task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired, long initialDelayTicks, long periodTicks) {
+        return this.retired ? null : StubScheduledTask.runInline(plugin, true, task);
+    }
+}
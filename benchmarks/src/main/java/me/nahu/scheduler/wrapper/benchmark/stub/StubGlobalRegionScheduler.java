@@ -0,0 +1,54 @@
+package me.nahu.scheduler.wrapper.benchmark.stub;
+
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Stub global region scheduler, every submission is executed once on the calling thread.
+ */
+public final class StubGlobalRegionScheduler implements GlobalRegionScheduler {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NotNull Plugin plugin, @NotNull Runnable run) {
+        run.run();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask run(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task) {
+        return StubScheduledTask.runInline(plugin, false, task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long delayTicks) {
+        return StubScheduledTask.runInline(plugin, false, task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long initialDelayTicks, long periodTicks) {
+        return StubScheduledTask.runInline(plugin, true, task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTasks(@NotNull Plugin plugin) {
+        // nothing is ever pending
+    }
+}
@@ -0,0 +1,112 @@
+package me.nahu.scheduler.wrapper.benchmark.stub;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Stub scheduled task, executed inline by the stub schedulers.
+ */
+public final class StubScheduledTask implements ScheduledTask {
+
+    private final Plugin plugin;
+    private final boolean repeating;
+
+    private volatile ExecutionState executionState = ExecutionState.IDLE;
+
+    /**
+     * Main constructor for the stub task.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param repeating Whether the task is repeating.
+     */
+    public StubScheduledTask(@NotNull Plugin plugin, boolean repeating) {
+        this.plugin = plugin;
+        this.repeating = repeating;
+    }
+
+    /**
+     * Create a new task and run it once on the calling thread.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param repeating Whether the task is repeating.
+     * @param consumer Task body.
+     * @return {@link StubScheduledTask} task.
+     */
+    @NotNull
+    public static StubScheduledTask runInline(@NotNull Plugin plugin, boolean repeating, @NotNull Consumer<ScheduledTask> consumer) {
+        final StubScheduledTask task = new StubScheduledTask(plugin, repeating);
+        task.execute(consumer);
+        return task;
+    }
+
+    /**
+     * Run the given task body once, following Folia's state transitions.
+     *
+     * @param consumer Task body.
+     */
+    public void execute(@NotNull Consumer<ScheduledTask> consumer) {
+        if (executionState != ExecutionState.IDLE) {
+            return;
+        }
+        executionState = ExecutionState.RUNNING;
+        try {
+            consumer.accept(this);
+        } finally {
+            if (executionState == ExecutionState.RUNNING) {
+                executionState = repeating ? ExecutionState.IDLE : ExecutionState.FINISHED;
+            } else if (executionState == ExecutionState.CANCELLED_RUNNING) {
+                executionState = ExecutionState.CANCELLED;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return plugin;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRepeatingTask() {
+        return repeating;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull CancelledState cancel() {
+        return switch (executionState) {
+            case IDLE -> {
+                executionState = ExecutionState.CANCELLED;
+                yield CancelledState.CANCELLED_BY_CALLER;
+            }
+            case RUNNING -> {
+                if (!repeating) {
+                    yield CancelledState.RUNNING;
+                }
+                executionState = ExecutionState.CANCELLED_RUNNING;
+                yield CancelledState.NEXT_RUNS_CANCELLED;
+            }
+            case FINISHED -> CancelledState.ALREADY_EXECUTED;
+            case CANCELLED_RUNNING -> CancelledState.NEXT_RUNS_CANCELLED_ALREADY;
+            case CANCELLED -> CancelledState.CANCELLED_ALREADY;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ExecutionState getExecutionState() {
+        return executionState;
+    }
+}
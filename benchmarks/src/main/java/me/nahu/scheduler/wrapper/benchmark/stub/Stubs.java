@@ -0,0 +1,137 @@
+package me.nahu.scheduler.wrapper.benchmark.stub;
+
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Factory for the stub server objects.
+ * <p>
+ * {@link Server}, {@link Plugin}, {@link World} and {@link Entity} are far too large to implement by hand, so they are
+ * backed by dynamic proxies answering only what the wrapper touches. None of these are called on the dispatch path
+ * apart from {@link Entity#getScheduler()}, the scheduler implementations themselves are plain classes.
+ */
+public final class Stubs {
+
+    private static final Logger LOGGER = Logger.getLogger("StubServer");
+
+    private static final StubBukkitScheduler BUKKIT_SCHEDULER = new StubBukkitScheduler();
+    private static final StubGlobalRegionScheduler GLOBAL_REGION_SCHEDULER = new StubGlobalRegionScheduler();
+    private static final StubRegionScheduler REGION_SCHEDULER = new StubRegionScheduler();
+    private static final StubAsyncScheduler ASYNC_SCHEDULER = new StubAsyncScheduler();
+
+    private Stubs() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    /**
+     * Install the stub server as the Bukkit singleton, if no server has been installed yet.
+     *
+     * @return {@link Server} installed server.
+     */
+    @NotNull
+    public static synchronized Server installServer() {
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(proxy(Server.class, Map.of(
+                "getLogger", LOGGER,
+                "getName", "StubServer",
+                "getVersion", "stub",
+                "getBukkitVersion", "stub",
+                "getScheduler", BUKKIT_SCHEDULER,
+                "getGlobalRegionScheduler", GLOBAL_REGION_SCHEDULER,
+                "getRegionScheduler", REGION_SCHEDULER,
+                "getAsyncScheduler", ASYNC_SCHEDULER,
+                // every thread owns everything, tasks are executed inline anyway
+                "isPrimaryThread", true,
+                "isOwnedByCurrentRegion", true
+            )));
+        }
+        return Bukkit.getServer();
+    }
+
+    /**
+     * Create a stub plugin.
+     *
+     * @param name Name of the plugin.
+     * @return {@link Plugin} plugin.
+     */
+    @NotNull
+    public static Plugin plugin(@NotNull String name) {
+        return proxy(Plugin.class, Map.of(
+            "getName", name,
+            "getLogger", Logger.getLogger(name),
+            "isEnabled", true
+        ));
+    }
+
+    /**
+     * Create a stub world.
+     *
+     * @param name Name of the world.
+     * @return {@link World} world.
+     */
+    @NotNull
+    public static World world(@NotNull String name) {
+        return proxy(World.class, Map.of(
+            "getName", name,
+            "getUID", UUID.nameUUIDFromBytes(name.getBytes())
+        ));
+    }
+
+    /**
+     * Create a stub entity standing at the given location.
+     *
+     * @param location Location of the entity.
+     * @param scheduler {@link EntityScheduler} scheduler of the entity.
+     * @return {@link Entity} entity.
+     */
+    @NotNull
+    public static Entity entity(@NotNull Location location, @NotNull EntityScheduler scheduler) {
+        return proxy(Entity.class, Map.of(
+            "getLocation", location,
+            "getWorld", location.getWorld(),
+            "getScheduler", scheduler,
+            "getUniqueId", UUID.randomUUID(),
+            "isValid", true
+        ));
+    }
+
+    @NotNull
+    private static <T> T proxy(@NotNull Class<T> type, @NotNull Map<String, Object> answers) {
+        final InvocationHandler handler = (proxy, method, arguments) -> switch (method.getName()) {
+            case "equals" -> proxy == arguments[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "Stub" + type.getSimpleName() + answers;
+            default -> {
+                final Object answer = answers.get(method.getName());
+                if (answer != null) {
+                    yield answer;
+                }
+                yield defaultValue(method.getReturnType());
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    private static Object defaultValue(@NotNull Class<?> type) {
+        if (type == String.class) {
+            return "stub";
+        }
+        if (type.isPrimitive() && type != void.class) {
+            return Array.get(Array.newInstance(type, 1), 0);
+        }
+        return null;
+    }
+}
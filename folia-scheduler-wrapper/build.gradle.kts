@@ -6,6 +6,7 @@ dependencies {
     api(project(":platform:common"))
     api(project(":platform:bukkit"))
     api(project(":platform:folia"))
+    api(project(":platform:paper"))
     compileOnly("org.spigotmc:spigot-api:1.20.1-R0.1-SNAPSHOT")
 
     testCompileOnly("org.spigotmc:spigot-api:1.20.1-R0.1-SNAPSHOT")
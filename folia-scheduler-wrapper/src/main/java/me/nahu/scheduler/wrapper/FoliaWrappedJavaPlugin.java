@@ -21,4 +21,14 @@ public abstract class FoliaWrappedJavaPlugin extends WrappedJavaPlugin {
     public @NotNull WrappedScheduler getScheduler() {
         return Objects.requireNonNull(scheduler.getValue(), "WrappedScheduler has not been initialized!");
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Shuts the scheduler down if it was ever used, so call {@code super.onDisable()} when overriding it.
+     */
+    @Override
+    public void onDisable() {
+        scheduler.getIfLoaded().ifPresent(WrappedScheduler::shutdown);
+    }
 }
@@ -1,12 +1,16 @@
 package me.nahu.scheduler.wrapper;
 
 import com.google.common.base.Preconditions;
+import me.nahu.scheduler.wrapper.async.RejectionPolicy;
 import me.nahu.scheduler.wrapper.implementation.bukkit.BukkitWrappedScheduler;
 import me.nahu.scheduler.wrapper.implementation.folia.FoliaWrappedScheduler;
+import me.nahu.scheduler.wrapper.implementation.paper.PaperWrappedScheduler;
 import me.nahu.scheduler.wrapper.type.ImplementationType;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -14,6 +18,8 @@ import java.util.Objects;
  */
 public final class WrappedSchedulerBuilder {
 
+    private final WrappedSchedulerOptions.Builder options = WrappedSchedulerOptions.builder();
+
     private Plugin plugin;
     private ImplementationType implementationType;
 
@@ -49,6 +55,73 @@ public final class WrappedSchedulerBuilder {
         return this;
     }
 
+    /**
+     * Multiplex delayed and repeating tasks through timing wheels, driven by a single repeating platform task per
+     * execution context, instead of handing each of them to the platform scheduler. Entity tasks are not affected.
+     *
+     * @param timingWheel Whether to use timing wheels.
+     * @return {@link WrappedSchedulerBuilder} builder instance.
+     */
+    @NotNull
+    public WrappedSchedulerBuilder timingWheel(boolean timingWheel) {
+        this.options.timingWheel(timingWheel);
+        return this;
+    }
+
+    /**
+     * Run async tasks on a virtual thread per task, timed by a single shared timer thread, instead of the platform
+     * async scheduler. Only takes effect on Java 21 or newer, older runtimes keep the platform behaviour.
+     *
+     * @param virtualThreads Whether to use virtual threads.
+     * @return {@link WrappedSchedulerBuilder} builder instance.
+     */
+    @NotNull
+    public WrappedSchedulerBuilder virtualThreads(boolean virtualThreads) {
+        this.options.virtualThreads(virtualThreads);
+        return this;
+    }
+
+    /**
+     * Record the queue delay and run time of every task in fixed-size histograms, per task kind and per task name for
+     * runnables implementing {@link me.nahu.scheduler.wrapper.metrics.NamedRunnable}.
+     *
+     * @param metrics Whether to record metrics.
+     * @return {@link WrappedSchedulerBuilder} builder instance.
+     */
+    @NotNull
+    public WrappedSchedulerBuilder metrics(boolean metrics) {
+        this.options.metrics(metrics);
+        return this;
+    }
+
+    /**
+     * Watch sync, region and entity tasks, sampling the stack of any task running over the budget and reporting it to
+     * the plugin logger once it finishes.
+     *
+     * @param budget {@link Duration} budget a task may run for, {@code null} to disable the watchdog.
+     * @return {@link WrappedSchedulerBuilder} builder instance.
+     */
+    @NotNull
+    public WrappedSchedulerBuilder watchdog(@Nullable Duration budget) {
+        this.options.watchdog(budget);
+        return this;
+    }
+
+    /**
+     * Route {@code runTaskAsynchronously} through a bounded lane, running at most {@code maxConcurrency} tasks at once
+     * and queueing up to {@code queueLimit} more. Submissions past that are handled by the rejection policy.
+     *
+     * @param maxConcurrency Maximum amount of tasks running at once. Must be greater than zero.
+     * @param queueLimit Maximum amount of tasks waiting for their turn. Must not be negative.
+     * @param rejectionPolicy {@link RejectionPolicy} policy once the queue is full.
+     * @return {@link WrappedSchedulerBuilder} builder instance.
+     */
+    @NotNull
+    public WrappedSchedulerBuilder boundedAsync(int maxConcurrency, int queueLimit, @NotNull RejectionPolicy rejectionPolicy) {
+        this.options.boundedAsync(maxConcurrency, queueLimit, rejectionPolicy);
+        return this;
+    }
+
     /**
      * Build the wrapped scheduler with the information given.
      *
@@ -61,10 +134,10 @@ public final class WrappedSchedulerBuilder {
 
         Preconditions.checkArgument(!implementationType.isUnknown(), "Implementation type cannot be unknown!");
 
-        //noinspection SwitchStatementWithTooFewBranches
         return switch (implementationType) {
-            case FOLIA -> new FoliaWrappedScheduler(plugin);
-            default -> new BukkitWrappedScheduler(plugin);
+            case FOLIA -> new FoliaWrappedScheduler(plugin, options.build());
+            case PAPER -> new PaperWrappedScheduler(plugin, options.build());
+            default -> new BukkitWrappedScheduler(plugin, options.build());
         };
     }
 
@@ -0,0 +1,142 @@
+package me.nahu.scheduler.wrapper.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lazy value loaded again on the first read after its time-to-live passed.
+ * <p>
+ * The time-to-live is measured on the wall clock. When given in ticks, each tick counts as 50ms, so a lagging server
+ * expires the value after fewer ticks than requested. Reads of a fresh value are a single acquire load.
+ *
+ * @param <T> The type of the value that will be lazily loaded.
+ */
+public final class ExpiringLazyValue<T> {
+
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50L);
+    private static final VarHandle ENTRY;
+
+    static {
+        try {
+            ENTRY = MethodHandles.lookup().findVarHandle(ExpiringLazyValue.class, "entry", Entry.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private final Object synchronizedLock = new Object();
+
+    private final Supplier<T> valueSupplier;
+    private final long timeToLive;
+    @SuppressWarnings("unused")
+    private Entry<T> entry;
+
+    /**
+     * Main constructor for a new expiring lazy value.
+     *
+     * @param valueSupplier Supplier for the value.
+     * @param timeToLive {@link Duration} time the value stays fresh after loading. Must be positive.
+     */
+    public ExpiringLazyValue(@NotNull Supplier<T> valueSupplier, @NotNull Duration timeToLive) {
+        this(valueSupplier, Objects.requireNonNull(timeToLive, "time to live cannot be null!").toNanos());
+    }
+
+    private ExpiringLazyValue(@NotNull Supplier<T> valueSupplier, long timeToLive) {
+        this.valueSupplier = Objects.requireNonNull(valueSupplier, "value supplier cannot be null!");
+        if (timeToLive <= 0L) {
+            throw new IllegalArgumentException("Time to live must be positive!");
+        }
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Create a new expiring lazy value with a time-to-live in ticks.
+     *
+     * @param valueSupplier Supplier for the value.
+     * @param ticks Ticks the value stays fresh after loading, at 50ms each. Must be greater than zero.
+     * @param <T> The type of the value that will be lazily loaded.
+     * @return {@link ExpiringLazyValue} value.
+     */
+    @NotNull
+    public static <T> ExpiringLazyValue<T> ofTicks(@NotNull Supplier<T> valueSupplier, long ticks) {
+        return new ExpiringLazyValue<>(valueSupplier, ticks * NANOS_PER_TICK);
+    }
+
+    /**
+     * Check if the value is loaded and still fresh.
+     *
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    public boolean isLoaded() {
+        return isFresh(getEntry(), System.nanoTime());
+    }
+
+    /**
+     * Get the value, loading it if it was not loaded yet or expired.
+     *
+     * @return {@link T} value, {@code null} if the supplier provided none.
+     */
+    @Nullable
+    public T getValue() {
+        final Entry<T> entry = getEntry();
+        if (isFresh(entry, System.nanoTime())) {
+            return entry.value();
+        }
+        synchronized (synchronizedLock) {
+            final Entry<T> current = getEntry();
+            if (isFresh(current, System.nanoTime())) {
+                return current.value();
+            }
+            final T loaded = valueSupplier.get();
+            ENTRY.setRelease(this, new Entry<>(loaded, System.nanoTime() + timeToLive));
+            return loaded;
+        }
+    }
+
+    /**
+     * Get the value if it is loaded and still fresh.
+     *
+     * @return {@link Optional} holding the loaded object, empty if it is not, or the returned object is null.
+     */
+    @NotNull
+    public Optional<T> getIfLoaded() {
+        final Entry<T> entry = getEntry();
+        return isFresh(entry, System.nanoTime()) ? Optional.ofNullable(entry.value()) : Optional.empty();
+    }
+
+    /**
+     * Reset the value, so the next read loads it again.
+     */
+    public void reset() {
+        synchronized (synchronizedLock) {
+            ENTRY.setRelease(this, null);
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private Entry<T> getEntry() {
+        return (Entry<T>) ENTRY.getAcquire(this);
+    }
+
+    private static boolean isFresh(@Nullable Entry<?> entry, long now) {
+        return entry != null && now - entry.expiresAt() < 0L;
+    }
+
+    /**
+     * Loaded value and the time it expires at.
+     *
+     * @param value Loaded value.
+     * @param expiresAt {@link System#nanoTime()} the value expires at.
+     * @param <T> The type of the value.
+     */
+    private record Entry<T>(@Nullable T value, long expiresAt) {
+    }
+}
@@ -1,5 +1,7 @@
 package me.nahu.scheduler.wrapper.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -8,16 +10,30 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Lazy value facilitator.
+ * <p>
+ * Once loaded, reads are a single acquire load without locking nor allocation. A supplier returning {@code null}
+ * counts as loaded as well, and is not called again.
  *
  * @param <T> The type of the value that will be lazily loaded.
  */
 public final class LazyValue<T> {
 
+    private static final Object UNSET = new Object();
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(LazyValue.class, "value", Object.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
     private final Object synchronizedLock = new Object();
 
     private final Supplier<T> valueSupplier;
-    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    private Optional<T> value = Optional.empty();
+    @SuppressWarnings("FieldMayBeFinal")
+    private Object value = UNSET;
 
     /**
      * Main constructor for a new lazy value.
@@ -35,7 +51,7 @@ public final class LazyValue<T> {
      */
     public LazyValue(@NotNull T value) {
         Objects.requireNonNull(value, "value cannot be null!");
-        this.value = Optional.of(value);
+        this.value = value;
         this.valueSupplier = null;
     }
 
@@ -45,21 +61,14 @@ public final class LazyValue<T> {
      * @return {@code true} if it has been loaded, {@code false} otherwise.
      */
     public boolean isLoaded() {
-        return value.isPresent();
+        return VALUE.getAcquire(this) != UNSET;
     }
 
     /**
      * Load the value without interacting with the object.
      */
     public void eager() {
-        if (!isLoaded()) {
-            synchronized (synchronizedLock) {
-                if (!isLoaded()) {
-                    T value = valueSupplier.get();
-                    this.value = Optional.ofNullable(value);
-                }
-            }
-        }
+        getValue();
     }
 
     /**
@@ -71,17 +80,21 @@ public final class LazyValue<T> {
      * @return {@link T} value.
      */
     @Nullable
+    @SuppressWarnings("unchecked")
     public T getValue() {
-        if (!isLoaded()) {
-            synchronized (synchronizedLock) {
-                if (!isLoaded()) {
-                    T value = valueSupplier.get();
-                    this.value = Optional.ofNullable(value);
-                    return value;
-                }
+        final Object value = VALUE.getAcquire(this);
+        if (value != UNSET) {
+            return (T) value;
+        }
+        synchronized (synchronizedLock) {
+            final Object current = VALUE.getAcquire(this);
+            if (current != UNSET) {
+                return (T) current;
             }
+            final T loaded = valueSupplier.get();
+            VALUE.setRelease(this, loaded);
+            return loaded;
         }
-        return value.get();
     }
 
     /**
@@ -90,7 +103,9 @@ public final class LazyValue<T> {
      * @return {@link Optional} holding the loaded object, empty if it has not, or the returned object is null.
      */
     @NotNull
+    @SuppressWarnings("unchecked")
     public Optional<T> getIfLoaded() {
-        return value;
+        final Object value = VALUE.getAcquire(this);
+        return value == UNSET ? Optional.empty() : Optional.ofNullable((T) value);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,252 @@
+package me.nahu.scheduler.wrapper.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lazy value reloaded asynchronously once it goes stale, serving the stale value in the meantime.
+ * <p>
+ * Only the first read loads on the calling thread. Afterwards, the first read past the refresh interval starts a
+ * single reload through {@link WrappedScheduler#runTaskAsynchronously(Runnable)} and returns the stale value right
+ * away, so the supplier never runs on a tick thread again. If a reload fails, the exception goes to the scheduler and
+ * the next stale read tries again. The same goes for a reload whose task was cancelled or ended without ever running,
+ * or that is still pending after a whole refresh interval, as its task may have been dropped. Once a reload started
+ * running it is never replaced, so reloads never overlap, and a replaced reload neither runs nor stores its value.
+ *
+ * @param <T> The type of the value that will be lazily loaded.
+ */
+public final class RefreshingLazyValue<T> {
+
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50L);
+    private static final VarHandle ENTRY;
+
+    static {
+        try {
+            ENTRY = MethodHandles.lookup().findVarHandle(RefreshingLazyValue.class, "entry", Entry.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private final Object synchronizedLock = new Object();
+    private final AtomicReference<Reload> reload = new AtomicReference<>();
+
+    private final WrappedScheduler scheduler;
+    private final Supplier<T> valueSupplier;
+    private final long refreshAfter;
+    @SuppressWarnings("unused")
+    private Entry<T> entry;
+    // bumped on reset, guarded by the lock, so a reload started before a reset is dropped
+    private int generation;
+
+    /**
+     * Main constructor for a new refreshing lazy value.
+     *
+     * @param scheduler {@link WrappedScheduler} scheduler running the reloads.
+     * @param valueSupplier Supplier for the value.
+     * @param refreshAfter {@link Duration} time after loading the value goes stale. Must be positive.
+     */
+    public RefreshingLazyValue(@NotNull WrappedScheduler scheduler, @NotNull Supplier<T> valueSupplier, @NotNull Duration refreshAfter) {
+        this(scheduler, valueSupplier, Objects.requireNonNull(refreshAfter, "refresh interval cannot be null!").toNanos());
+    }
+
+    private RefreshingLazyValue(@NotNull WrappedScheduler scheduler, @NotNull Supplier<T> valueSupplier, long refreshAfter) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler cannot be null!");
+        this.valueSupplier = Objects.requireNonNull(valueSupplier, "value supplier cannot be null!");
+        if (refreshAfter <= 0L) {
+            throw new IllegalArgumentException("Refresh interval must be positive!");
+        }
+        this.refreshAfter = refreshAfter;
+    }
+
+    /**
+     * Create a new refreshing lazy value with a refresh interval in ticks.
+     *
+     * @param scheduler {@link WrappedScheduler} scheduler running the reloads.
+     * @param valueSupplier Supplier for the value.
+     * @param ticks Ticks after loading the value goes stale, at 50ms each. Must be greater than zero.
+     * @param <T> The type of the value that will be lazily loaded.
+     * @return {@link RefreshingLazyValue} value.
+     */
+    @NotNull
+    public static <T> RefreshingLazyValue<T> ofTicks(@NotNull WrappedScheduler scheduler, @NotNull Supplier<T> valueSupplier, long ticks) {
+        return new RefreshingLazyValue<>(scheduler, valueSupplier, ticks * NANOS_PER_TICK);
+    }
+
+    /**
+     * Check if the value is loaded, fresh or stale.
+     *
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    public boolean isLoaded() {
+        return getEntry() != null;
+    }
+
+    /**
+     * Check if a reload is running.
+     *
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    public boolean isRefreshing() {
+        final Reload reload = this.reload.get();
+        return reload != null && !reload.isAbandoned(System.nanoTime(), refreshAfter);
+    }
+
+    /**
+     * Get the value, loading it on the calling thread if it was never loaded, and starting a reload if it is stale.
+     *
+     * @return {@link T} value, possibly stale. {@code null} if the supplier provided none.
+     */
+    @Nullable
+    public T getValue() {
+        final Entry<T> entry = getEntry();
+        if (entry == null) {
+            return load();
+        }
+        if (System.nanoTime() - entry.staleAt() >= 0L) {
+            refresh();
+        }
+        return entry.value();
+    }
+
+    /**
+     * Get the value if it has been loaded, fresh or stale, without starting a reload.
+     *
+     * @return {@link Optional} holding the loaded object, empty if it has not, or the returned object is null.
+     */
+    @NotNull
+    public Optional<T> getIfLoaded() {
+        final Entry<T> entry = getEntry();
+        return entry == null ? Optional.empty() : Optional.ofNullable(entry.value());
+    }
+
+    /**
+     * Start a reload now, unless one is already running.
+     */
+    public void refresh() {
+        final Reload pending = this.reload.get();
+        final long now = System.nanoTime();
+        if (pending != null && !pending.isAbandoned(now, refreshAfter)) {
+            return;
+        }
+        final Reload reload = new Reload(now);
+        if (!this.reload.compareAndSet(pending, reload)) {
+            return;
+        }
+        final int generation;
+        synchronized (synchronizedLock) {
+            generation = this.generation;
+        }
+        try {
+            reload.task = scheduler.runTaskAsynchronously(() -> {
+                reload.started = true;
+                if (this.reload.get() != reload) {
+                    // replaced while pending, the reload that replaced it runs instead
+                    return;
+                }
+                try {
+                    final T loaded = valueSupplier.get();
+                    synchronized (synchronizedLock) {
+                        if (this.generation == generation && this.reload.get() == reload) {
+                            store(loaded);
+                        }
+                    }
+                } finally {
+                    // a reload that was replaced must not end the one that replaced it
+                    this.reload.compareAndSet(reload, null);
+                }
+            });
+        } catch (RuntimeException exception) {
+            this.reload.compareAndSet(reload, null);
+            throw exception;
+        }
+    }
+
+    /**
+     * Reset the value, so the next read loads it again on the calling thread. A running reload is dropped.
+     */
+    public void reset() {
+        synchronized (synchronizedLock) {
+            generation++;
+            ENTRY.setRelease(this, null);
+        }
+    }
+
+    @Nullable
+    private T load() {
+        synchronized (synchronizedLock) {
+            final Entry<T> current = getEntry();
+            if (current != null) {
+                return current.value();
+            }
+            final T loaded = valueSupplier.get();
+            store(loaded);
+            return loaded;
+        }
+    }
+
+    private void store(@Nullable T value) {
+        ENTRY.setRelease(this, new Entry<>(value, System.nanoTime() + refreshAfter));
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private Entry<T> getEntry() {
+        return (Entry<T>) ENTRY.getAcquire(this);
+    }
+
+    /**
+     * Reload that was started, and the task running it.
+     */
+    private static final class Reload {
+
+        private final long startedAt;
+        private volatile WrappedTask task;
+        private volatile boolean started;
+
+        private Reload(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Check if the reload never started and will not, either because its task was cancelled or ended without
+         * running it, or because it has been pending for longer than the refresh interval. A reload that started
+         * running is never abandoned, however long it takes.
+         *
+         * @param now {@link System#nanoTime()} now.
+         * @param refreshAfter Refresh interval, in nanoseconds.
+         * @return {@code true} if it is, {@code false} otherwise.
+         */
+        private boolean isAbandoned(long now, long refreshAfter) {
+            if (started) {
+                return false;
+            }
+            final WrappedTask task = this.task;
+            if (task != null && (task.isCancelled() || task instanceof AbstractWrappedTask wrapped && wrapped.isCompleted())) {
+                return true;
+            }
+            return now - startedAt >= refreshAfter;
+        }
+    }
+
+    /**
+     * Loaded value and the time it goes stale at.
+     *
+     * @param value Loaded value.
+     * @param staleAt {@link System#nanoTime()} the value goes stale at.
+     * @param <T> The type of the value.
+     */
+    private record Entry<T>(@Nullable T value, long staleAt) {
+    }
+}
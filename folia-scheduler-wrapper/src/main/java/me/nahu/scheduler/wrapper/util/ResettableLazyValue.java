@@ -0,0 +1,99 @@
+package me.nahu.scheduler.wrapper.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lazy value that can be reset, loading it again on the next read.
+ * <p>
+ * Reads of a loaded value are a single acquire load, as for {@link LazyValue}. Resetting waits for a load in
+ * progress, so a value loaded before the reset is never kept after it.
+ *
+ * @param <T> The type of the value that will be lazily loaded.
+ */
+public final class ResettableLazyValue<T> {
+
+    private static final Object UNSET = new Object();
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(ResettableLazyValue.class, "value", Object.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    private final Object synchronizedLock = new Object();
+
+    private final Supplier<T> valueSupplier;
+    @SuppressWarnings("FieldMayBeFinal")
+    private Object value = UNSET;
+
+    /**
+     * Main constructor for a new resettable lazy value.
+     *
+     * @param valueSupplier Supplier for the value.
+     */
+    public ResettableLazyValue(@NotNull Supplier<T> valueSupplier) {
+        this.valueSupplier = Objects.requireNonNull(valueSupplier, "value supplier cannot be null!");
+    }
+
+    /**
+     * Check if the value is loaded.
+     *
+     * @return {@code true} if it has been loaded, {@code false} otherwise.
+     */
+    public boolean isLoaded() {
+        return VALUE.getAcquire(this) != UNSET;
+    }
+
+    /**
+     * Get and load the value if necessary.
+     *
+     * @return {@link T} value, {@code null} if the supplier provided none.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        final Object value = VALUE.getAcquire(this);
+        if (value != UNSET) {
+            return (T) value;
+        }
+        synchronized (synchronizedLock) {
+            final Object current = VALUE.getAcquire(this);
+            if (current != UNSET) {
+                return (T) current;
+            }
+            final T loaded = valueSupplier.get();
+            VALUE.setRelease(this, loaded);
+            return loaded;
+        }
+    }
+
+    /**
+     * Get the value if it has been loaded.
+     *
+     * @return {@link Optional} holding the loaded object, empty if it has not, or the returned object is null.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public Optional<T> getIfLoaded() {
+        final Object value = VALUE.getAcquire(this);
+        return value == UNSET ? Optional.empty() : Optional.ofNullable((T) value);
+    }
+
+    /**
+     * Reset the value, so the next read loads it again.
+     */
+    public void reset() {
+        synchronized (synchronizedLock) {
+            VALUE.setRelease(this, UNSET);
+        }
+    }
+}
@@ -1,18 +1,43 @@
 package me.nahu.scheduler.wrapper.implementation.bukkit;
 
 import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.WrappedSchedulerOptions;
+import me.nahu.scheduler.wrapper.async.BoundedAsyncLane;
+import me.nahu.scheduler.wrapper.async.PreciseAsyncTimer;
+import me.nahu.scheduler.wrapper.async.VirtualThreadExecutor;
 import me.nahu.scheduler.wrapper.implementation.bukkit.task.BukkitWrappedTask;
+import me.nahu.scheduler.wrapper.jfr.TaskEvents;
+import me.nahu.scheduler.wrapper.keyed.KeyedTaskLimiter;
+import me.nahu.scheduler.wrapper.metrics.SchedulerMetrics;
+import me.nahu.scheduler.wrapper.queue.CoalescingQueue;
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.CompletedWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import me.nahu.scheduler.wrapper.task.TaskRegistry;
 import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.timer.PacedTimer;
+import me.nahu.scheduler.wrapper.timer.PacedTimerRegistry;
 import me.nahu.scheduler.wrapper.type.ImplementationType;
+import me.nahu.scheduler.wrapper.watchdog.SlowTaskWatchdog;
+import me.nahu.scheduler.wrapper.wheel.TimingWheel;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitScheduler;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Bukkit's implementation for schedulers.
@@ -21,8 +46,30 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
 
     private static final ImplementationType IMPLEMENTATION_TYPE = ImplementationType.BUKKIT;
 
+    private static final int WHEEL_SIZE = 512;
+    private static final long HALF_TICK_NANOS = PacedTimer.toNanos(1L) / 2L;
+    private static final long MILLIS_PER_TICK = 50L;
+    private static final int PRECISE_TIMER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
     private final Plugin plugin;
     private final BukkitScheduler scheduler;
+    private final CoalescingQueue coalescingQueue;
+    private final TaskRegistry taskRegistry = new TaskRegistry();
+    private final PacedTimerRegistry timerRegistry = new PacedTimerRegistry();
+    private final KeyedTaskLimiter keyedLimiter;
+    private final CompletedWrappedTask completedTask;
+
+    private final TimingWheel syncWheel;
+    private final TimingWheel asyncWheel;
+
+    private final VirtualThreadExecutor virtualExecutor;
+    private final Object preciseTimerLock = new Object();
+    private ThreadPoolExecutor preciseTimerPool;
+    private volatile PreciseAsyncTimer preciseTimer;
+    private boolean shutdown;
+    private final BoundedAsyncLane asyncLane;
+    private final SchedulerMetrics metrics;
+    private final SlowTaskWatchdog watchdog;
 
     /**
      * Main constructor for the wrapped scheduler.
@@ -30,8 +77,72 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      * @param plugin {@link Plugin} owning plugin.
      */
     public BukkitWrappedScheduler(@NotNull Plugin plugin) {
+        this(plugin, WrappedSchedulerOptions.defaults());
+    }
+
+    /**
+     * Constructor for the wrapped scheduler with custom options.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param options {@link WrappedSchedulerOptions} scheduler options.
+     */
+    public BukkitWrappedScheduler(@NotNull Plugin plugin, @NotNull WrappedSchedulerOptions options) {
         this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        Objects.requireNonNull(options, "Options cannot be null!");
         this.scheduler = Bukkit.getScheduler();
+        this.coalescingQueue = new CoalescingQueue(plugin, drainTask -> scheduler.runTask(plugin, drainTask));
+        this.keyedLimiter = new KeyedTaskLimiter(plugin);
+        this.completedTask = new CompletedWrappedTask(plugin);
+
+        // async tasks go to virtual threads ahead of the async wheel whenever the runtime allows it
+        this.virtualExecutor = options.isVirtualThreads() && VirtualThreadExecutor.isSupported() ? new VirtualThreadExecutor(plugin) : null;
+
+        this.metrics = options.isMetrics() ? new SchedulerMetrics() : null;
+        this.watchdog = options.getWatchdogBudget() != null ? new SlowTaskWatchdog(plugin, options.getWatchdogBudget()) : null;
+
+        if (options.isBoundedAsync()) {
+            this.asyncLane = new BoundedAsyncLane(
+                plugin,
+                options.getAsyncMaxConcurrency(),
+                options.getAsyncQueueLimit(),
+                options.getAsyncRejectionPolicy(),
+                worker -> {
+                    if (virtualExecutor != null) {
+                        virtualExecutor.execute(worker);
+                    } else {
+                        scheduler.runTaskAsynchronously(plugin, worker);
+                    }
+                }
+            );
+        } else {
+            this.asyncLane = null;
+        }
+
+        if (options.isTimingWheel()) {
+            this.syncWheel = new TimingWheel(
+                plugin,
+                WHEEL_SIZE,
+                tick -> {
+                    final BukkitWrappedTask driver = new BukkitWrappedTask(plugin, tick, TaskKind.GLOBAL, true);
+                    return driver.bind(scheduler.runTaskTimer(plugin, driver, 1L, 1L));
+                },
+                Runnable::run,
+                null
+            );
+            this.asyncWheel = new TimingWheel(
+                plugin,
+                WHEEL_SIZE,
+                tick -> {
+                    final BukkitWrappedTask driver = new BukkitWrappedTask(plugin, tick, TaskKind.ASYNC, true);
+                    return driver.bind(scheduler.runTaskTimerAsynchronously(plugin, driver, 1L, 1L));
+                },
+                task -> scheduler.runTaskAsynchronously(plugin, task),
+                null
+            );
+        } else {
+            this.syncWheel = null;
+            this.asyncWheel = null;
+        }
     }
 
     /**
@@ -55,7 +166,46 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public void cancelAllTasks() {
+        if (syncWheel != null) {
+            syncWheel.cancelAll();
+            asyncWheel.cancelAll();
+        }
+        keyedLimiter.cancelAll();
+        // before their runs, so a run executing right now does not schedule the next one
+        timerRegistry.cancelAll();
+        taskRegistry.cancelAll();
         scheduler.cancelTasks(plugin);
+        // the drain task was cancelled along with the rest
+        coalescingQueue.cancelAll();
+        if (asyncLane != null) {
+            // so are the lane workers that did not start yet
+            asyncLane.cancelAll();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        cancelAllTasks();
+        if (watchdog != null) {
+            watchdog.shutdown();
+        }
+        if (virtualExecutor != null) {
+            virtualExecutor.shutdown();
+        }
+        synchronized (preciseTimerLock) {
+            this.shutdown = true;
+            if (preciseTimer != null) {
+                preciseTimer.shutdown();
+                this.preciseTimer = null;
+            }
+            if (preciseTimerPool != null) {
+                preciseTimerPool.shutdownNow();
+                this.preciseTimerPool = null;
+            }
+        }
     }
 
     /**
@@ -66,12 +216,68 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
         wrappedTask.cancel();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLiveTaskCount(@NotNull TaskKind kind) {
+        return taskRegistry.getLiveCount(kind);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLiveTaskCount() {
+        return taskRegistry.getLiveCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable BoundedAsyncLane getAsyncLane() {
+        return asyncLane;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable SchedulerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable SlowTaskWatchdog getWatchdog() {
+        return watchdog;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull PacedTimerRegistry getTimerRegistry() {
+        return timerRegistry;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull WrappedTask runTask(@NotNull Runnable runnable) {
-        return setupTask(scheduler.runTask(plugin, runnable));
+        return runTask(TaskKind.GLOBAL, null, runnable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskCoalesced(@NotNull Runnable runnable) {
+        coalescingQueue.submit(runnable);
     }
 
     /**
@@ -79,7 +285,15 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskAsynchronously(@NotNull Runnable runnable) {
-        return setupTask(scheduler.runTaskAsynchronously(plugin, runnable));
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, 0L, 0L);
+        if (asyncLane != null) {
+            return setupTask(asyncLane.submit(instrumented));
+        }
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.execute(instrumented));
+        }
+        final BukkitWrappedTask task = new BukkitWrappedTask(plugin, instrumented, TaskKind.ASYNC, false);
+        return setupTask(task.bind(scheduler.runTaskAsynchronously(plugin, task)));
     }
 
     /**
@@ -87,7 +301,7 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskAtEntity(@NotNull Entity entity, @NotNull Runnable runnable) {
-        return runTask(runnable);
+        return runTask(TaskKind.ENTITY, entity, runnable);
     }
 
     /**
@@ -95,7 +309,43 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskAtLocation(@NotNull Location location, @NotNull Runnable runnable) {
-        return runTask(runnable);
+        return runTask(TaskKind.LOCATION, location, runnable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runOrSchedule(@NotNull Runnable runnable) {
+        if (!Bukkit.isPrimaryThread()) {
+            return runTask(runnable);
+        }
+        instrument(runnable, TaskKind.GLOBAL, 0L, 0L).run();
+        return completedTask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable WrappedTask runOrScheduleAtEntity(@NotNull Entity entity, @NotNull Runnable runnable) {
+        if (!Bukkit.isPrimaryThread()) {
+            return runTaskAtEntity(entity, runnable);
+        }
+        instrument(runnable, TaskKind.ENTITY, entity, 0L, 0L).run();
+        return completedTask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runOrScheduleAtLocation(@NotNull Location location, @NotNull Runnable runnable) {
+        if (!Bukkit.isPrimaryThread()) {
+            return runTaskAtLocation(location, runnable);
+        }
+        instrument(runnable, TaskKind.LOCATION, location, 0L, 0L).run();
+        return completedTask;
     }
 
     /**
@@ -103,7 +353,7 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskTimer(@NotNull Runnable runnable, long delay, long period) {
-        return setupTask(scheduler.runTaskTimer(plugin, runnable, delay, period));
+        return runTaskTimer(TaskKind.GLOBAL, null, runnable, delay, period);
     }
 
     /**
@@ -111,7 +361,27 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, long delay, long period) {
-        return setupTask(scheduler.runTaskTimerAsynchronously(plugin, runnable, delay, period));
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, delay, period);
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.scheduleAtFixedRate(instrumented, delay, period));
+        }
+        if (asyncWheel != null) {
+            return setupTask(asyncWheel.schedule(instrumented, TaskKind.ASYNC, delay, period));
+        }
+        final BukkitWrappedTask task = new BukkitWrappedTask(plugin, instrumented, TaskKind.ASYNC, true);
+        return setupTask(task.bind(scheduler.runTaskTimerAsynchronously(plugin, task, delay, period)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, long delay, long period, @NotNull TimeUnit unit) {
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, delay, period, unit);
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.scheduleAtFixedRate(instrumented, delay, period, unit));
+        }
+        return setupTask(getPreciseTimer().scheduleAtFixedRate(instrumented, delay, period, unit));
     }
 
     /**
@@ -119,7 +389,7 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskTimerAtEntity(@NotNull Entity entity, @NotNull Runnable runnable, long delay, long period) {
-        return runTaskTimer(runnable, delay, period);
+        return runTaskTimer(TaskKind.ENTITY, entity, runnable, delay, period);
     }
 
     /**
@@ -127,7 +397,7 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskTimerAtLocation(@NotNull Location location, @NotNull Runnable runnable, long delay, long period) {
-        return runTaskTimer(runnable, delay, period);
+        return runTaskTimer(TaskKind.LOCATION, location, runnable, delay, period);
     }
 
     /**
@@ -135,7 +405,7 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskLater(@NotNull Runnable runnable, long delay) {
-        return setupTask(scheduler.runTaskLater(plugin, runnable, delay));
+        return runTaskLater(TaskKind.GLOBAL, null, runnable, delay);
     }
 
     /**
@@ -143,7 +413,27 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskLaterAsynchronously(@NotNull Runnable runnable, long delay) {
-        return setupTask(scheduler.runTaskLaterAsynchronously(plugin, runnable, delay));
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, delay, 0L);
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.schedule(instrumented, delay));
+        }
+        if (asyncWheel != null) {
+            return setupTask(asyncWheel.schedule(instrumented, TaskKind.ASYNC, delay, 0L));
+        }
+        final BukkitWrappedTask task = new BukkitWrappedTask(plugin, instrumented, TaskKind.ASYNC, false);
+        return setupTask(task.bind(scheduler.runTaskLaterAsynchronously(plugin, task, delay)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskLaterAsynchronously(@NotNull Runnable runnable, long delay, @NotNull TimeUnit unit) {
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, delay, 0L, unit);
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.schedule(instrumented, delay, unit));
+        }
+        return setupTask(getPreciseTimer().schedule(instrumented, delay, unit));
     }
 
     /**
@@ -151,7 +441,7 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskLaterAtEntity(@NotNull Entity entity, @NotNull Runnable runnable, long delay) {
-        return runTaskLater(runnable, delay);
+        return runTaskLater(TaskKind.ENTITY, entity, runnable, delay);
     }
 
     /**
@@ -159,17 +449,323 @@ public class BukkitWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskLaterAtLocation(@NotNull Location location, @NotNull Runnable runnable, long delay) {
-        return runTaskLater(runnable, delay);
+        return runTaskLater(TaskKind.LOCATION, location, runnable, delay);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer) {
+        final List<Location> batch = List.copyOf(locations);
+        return runTask(TaskKind.LOCATION, null, () -> batch.forEach(consumer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskTimerAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer, long delay, long period) {
+        final List<Location> batch = List.copyOf(locations);
+        return runTaskTimer(TaskKind.LOCATION, null, () -> batch.forEach(consumer), delay, period);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskLaterAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer, long delay) {
+        final List<Location> batch = List.copyOf(locations);
+        return runTaskLater(TaskKind.LOCATION, null, () -> batch.forEach(consumer), delay);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskAtEntities(@NotNull Collection<? extends Entity> entities, @NotNull Consumer<Entity> consumer, @Nullable Consumer<Entity> retired) {
+        final List<Entity> batch = new ArrayList<>(entities);
+        return runTask(TaskKind.ENTITY, null, () -> runEntityBatch(batch, consumer, retired));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskTimerAtEntities(@NotNull Collection<? extends Entity> entities, @NotNull Consumer<Entity> consumer, @Nullable Consumer<Entity> retired, long delay, long period) {
+        final List<Entity> batch = new ArrayList<>(entities);
+        return runTaskTimer(TaskKind.ENTITY, null, () -> runEntityBatch(batch, consumer, retired), delay, period);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask debounce(@NotNull Object key, long delay, @NotNull Runnable runnable) {
+        return keyedLimiter.debounce(TaskKind.GLOBAL, null, key, PacedTimer.toNanos(delay), HALF_TICK_NANOS, runnable,
+            (step, nanos) -> runTaskLater(step, PacedTimer.toTicks(nanos)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask debounceAsynchronously(@NotNull Object key, @NotNull Duration delay, @NotNull Runnable runnable) {
+        return keyedLimiter.debounce(TaskKind.ASYNC, null, key, delay.toNanos(), 0L, runnable,
+            (step, nanos) -> runTaskLaterAsynchronously(step, nanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable WrappedTask debounceAtEntity(@NotNull Entity entity, @NotNull Object key, long delay, @NotNull Runnable runnable) {
+        final WrappedTask task = keyedLimiter.debounce(TaskKind.ENTITY, entity, key, PacedTimer.toNanos(delay), HALF_TICK_NANOS, runnable,
+            (step, nanos) -> runTaskLaterAtEntity(entity, step, PacedTimer.toTicks(nanos)));
+        return task.isCancelled() ? null : task;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask debounceAtLocation(@NotNull Location location, @NotNull Object key, long delay, @NotNull Runnable runnable) {
+        return keyedLimiter.debounce(TaskKind.LOCATION, location, key, PacedTimer.toNanos(delay), HALF_TICK_NANOS, runnable,
+            (step, nanos) -> runTaskLaterAtLocation(location, step, PacedTimer.toTicks(nanos)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask throttle(@NotNull Object key, long period, @NotNull Runnable runnable) {
+        return keyedLimiter.throttle(TaskKind.GLOBAL, null, key, PacedTimer.toNanos(period), runnable,
+            (step, nanos) -> runTaskLater(step, PacedTimer.toTicks(nanos)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask throttleAsynchronously(@NotNull Object key, @NotNull Duration period, @NotNull Runnable runnable) {
+        return keyedLimiter.throttle(TaskKind.ASYNC, null, key, period.toNanos(), runnable,
+            (step, nanos) -> runTaskLaterAsynchronously(step, nanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable WrappedTask throttleAtEntity(@NotNull Entity entity, @NotNull Object key, long period, @NotNull Runnable runnable) {
+        final WrappedTask task = keyedLimiter.throttle(TaskKind.ENTITY, entity, key, PacedTimer.toNanos(period), runnable,
+            (step, nanos) -> runTaskLaterAtEntity(entity, step, PacedTimer.toTicks(nanos)));
+        return task.isCancelled() ? null : task;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask throttleAtLocation(@NotNull Location location, @NotNull Object key, long period, @NotNull Runnable runnable) {
+        return keyedLimiter.throttle(TaskKind.LOCATION, location, key, PacedTimer.toNanos(period), runnable,
+            (step, nanos) -> runTaskLaterAtLocation(location, step, PacedTimer.toTicks(nanos)));
+    }
+
+    /**
+     * Run the consumer for every valid entity of the batch, removing and reporting the rest.
+     *
+     * @param entities Batch of entities.
+     * @param consumer Consumer to run for each entity.
+     * @param retired Callback for removed entities.
+     */
+    private static void runEntityBatch(@NotNull List<Entity> entities, @NotNull Consumer<Entity> consumer, @Nullable Consumer<Entity> retired) {
+        final Iterator<Entity> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            final Entity entity = iterator.next();
+            if (entity.isValid()) {
+                consumer.accept(entity);
+                continue;
+            }
+            iterator.remove();
+            if (retired != null) {
+                retired.accept(entity);
+            }
+        }
+    }
+
+    /**
+     * Run a new task synced with the server main thread.
+     *
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param target {@link Entity} or {@link Location} the task runs at, {@code null} if it has none.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    private WrappedTask runTask(@NotNull TaskKind kind, @Nullable Object target, @NotNull Runnable runnable) {
+        final BukkitWrappedTask task = new BukkitWrappedTask(plugin, instrument(runnable, kind, target, 0L, 0L), kind, false);
+        return setupTask(task.bind(scheduler.runTask(plugin, task)));
+    }
+
+    /**
+     * Run a new task timer synced with the server main thread.
+     *
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param target {@link Entity} or {@link Location} the task runs at, {@code null} if it has none.
+     * @param runnable Runnable to run.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    private WrappedTask runTaskTimer(@NotNull TaskKind kind, @Nullable Object target, @NotNull Runnable runnable, long delay, long period) {
+        final Runnable instrumented = instrument(runnable, kind, target, delay, period);
+        if (syncWheel != null) {
+            return setupTask(syncWheel.schedule(instrumented, kind, delay, period));
+        }
+        final BukkitWrappedTask task = new BukkitWrappedTask(plugin, instrumented, kind, true);
+        return setupTask(task.bind(scheduler.runTaskTimer(plugin, task, delay, period)));
+    }
+
+    /**
+     * Run a new task later synced with the server main thread.
+     *
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param target {@link Entity} or {@link Location} the task runs at, {@code null} if it has none.
+     * @param runnable Runnable to run.
+     * @param delay Delay before execution.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    private WrappedTask runTaskLater(@NotNull TaskKind kind, @Nullable Object target, @NotNull Runnable runnable, long delay) {
+        final Runnable instrumented = instrument(runnable, kind, target, delay, 0L);
+        if (syncWheel != null) {
+            return setupTask(syncWheel.schedule(instrumented, kind, delay, 0L));
+        }
+        final BukkitWrappedTask task = new BukkitWrappedTask(plugin, instrumented, kind, false);
+        return setupTask(task.bind(scheduler.runTaskLater(plugin, task, delay)));
+    }
+
+    /**
+     * Instrument the runnable for the scheduler metrics, the slow task watchdog and the Flight Recorder, if enabled.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @return Instrumented runnable, or the same runnable if none is enabled.
+     */
+    @NotNull
+    private Runnable instrument(@NotNull Runnable runnable, @NotNull TaskKind kind, long delay, long period) {
+        return instrument(runnable, kind, null, delay, period);
+    }
+
+    /**
+     * Instrument the runnable for the scheduler metrics, the slow task watchdog and the Flight Recorder, if enabled.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param target {@link Entity} or {@link Location} the task runs at, {@code null} if it has none.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @return Instrumented runnable, or the same runnable if none is enabled.
+     */
+    @NotNull
+    private Runnable instrument(@NotNull Runnable runnable, @NotNull TaskKind kind, @Nullable Object target, long delay, long period) {
+        return instrument(runnable, kind, target, delay * MILLIS_PER_TICK, period * MILLIS_PER_TICK, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Instrument the runnable for the scheduler metrics, the slow task watchdog and the Flight Recorder, if enabled.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return Instrumented runnable, or the same runnable if none is enabled.
+     */
+    @NotNull
+    private Runnable instrument(@NotNull Runnable runnable, @NotNull TaskKind kind, long delay, long period, @NotNull TimeUnit unit) {
+        return instrument(runnable, kind, null, delay, period, unit);
+    }
+
+    /**
+     * Instrument the runnable for the scheduler metrics, the slow task watchdog and the Flight Recorder, if enabled.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param target {@link Entity} or {@link Location} the task runs at, {@code null} if it has none.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return Instrumented runnable, or the same runnable if none is enabled.
+     */
+    @NotNull
+    private Runnable instrument(
+        @NotNull Runnable runnable,
+        @NotNull TaskKind kind,
+        @Nullable Object target,
+        long delay,
+        long period,
+        @NotNull TimeUnit unit
+    ) {
+        Runnable instrumented = metrics == null ? runnable : metrics.instrument(runnable, kind, delay, period, unit);
+        if (watchdog != null) {
+            instrumented = watchdog.watch(instrumented, SlowTaskWatchdog.nameOf(runnable), kind);
+        }
+        // traced last, so the recorded runs include the time spent in the other instrumentation
+        return TaskEvents.trace(instrumented, runnable, plugin, kind, target, delay, period, unit);
+    }
+
+    /**
+     * Get the timer for sub-tick async tasks, creating it on first use. The bukkit async scheduler only starts tasks on
+     * ticks, so these tasks run on a pool of their own, bounded to {@link #PRECISE_TIMER_THREADS} threads which exit
+     * once idle. Runs past that bound wait for a free thread.
+     *
+     * @return {@link PreciseAsyncTimer} timer.
+     * @throws IllegalStateException If the scheduler was shut down.
+     */
+    @NotNull
+    private PreciseAsyncTimer getPreciseTimer() {
+        final PreciseAsyncTimer timer = this.preciseTimer;
+        if (timer != null) {
+            return timer;
+        }
+        synchronized (preciseTimerLock) {
+            if (shutdown) {
+                throw new IllegalStateException("Scheduler was shut down!");
+            }
+            if (preciseTimer == null) {
+                final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    PRECISE_TIMER_THREADS,
+                    PRECISE_TIMER_THREADS,
+                    60L,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, plugin.getName() + "-AsyncTimer");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                );
+                pool.allowCoreThreadTimeOut(true);
+                this.preciseTimerPool = pool;
+                this.preciseTimer = new PreciseAsyncTimer(plugin, pool);
+            }
+            return preciseTimer;
+        }
     }
 
     /**
-     * Set up the wrapped task for the given task.
+     * Set up the wrapped task, registering it as live.
      *
-     * @param task {@link BukkitTask} task.
+     * @param task {@link AbstractWrappedTask} task.
      * @return {@link WrappedTask} wrapped task.
      */
     @NotNull
-    private WrappedTask setupTask(@NotNull BukkitTask task) {
-        return new BukkitWrappedTask(task);
+    private WrappedTask setupTask(@NotNull AbstractWrappedTask task) {
+        taskRegistry.register(task);
+        return task;
     }
 }
@@ -1,32 +1,63 @@
 package me.nahu.scheduler.wrapper.implementation.bukkit.task;
 
-import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Bukkit implementation for wrapped tasks.
+ * <p>
+ * The wrapped task is handed to the Bukkit scheduler as the runnable itself, and bound to the resulting
+ * {@link BukkitTask} afterwards.
  */
-public class BukkitWrappedTask implements WrappedTask {
+public class BukkitWrappedTask extends AbstractWrappedTask {
 
-    private final BukkitTask task;
+    private final Plugin plugin;
+
+    private volatile BukkitTask task;
+    private volatile boolean cancelRequested;
 
     /**
      * Main constructor for the wrapped task.
      *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param runnable Runnable to run.
+     * @param kind {@link TaskKind} kind of the task.
+     * @param repeating Whether the task is repeating.
+     */
+    public BukkitWrappedTask(@NotNull Plugin plugin, @NotNull Runnable runnable, @NotNull TaskKind kind, boolean repeating) {
+        super(runnable, kind, repeating);
+        this.plugin = plugin;
+    }
+
+    /**
+     * Bind the wrapped task to the scheduled Bukkit task.
+     *
      * @param task {@link BukkitTask} task.
+     * @return This wrapped task.
      */
-    public BukkitWrappedTask(@NotNull BukkitTask task) {
+    @NotNull
+    public BukkitWrappedTask bind(@NotNull BukkitTask task) {
         this.task = task;
+        // async tasks may have cancelled themselves before the scheduler returned
+        if (cancelRequested) {
+            task.cancel();
+        }
+        return this;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void cancel() {
-        task.cancel();
+    protected void cancelTask() {
+        this.cancelRequested = true;
+        final BukkitTask task = this.task;
+        if (task != null) {
+            task.cancel();
+        }
     }
 
     /**
@@ -34,7 +65,8 @@ public class BukkitWrappedTask implements WrappedTask {
      */
     @Override
     public boolean isCancelled() {
-        return task.isCancelled();
+        final BukkitTask task = this.task;
+        return task == null ? cancelRequested : task.isCancelled();
     }
 
     /**
@@ -42,6 +74,6 @@ public class BukkitWrappedTask implements WrappedTask {
      */
     @Override
     public @NotNull Plugin getOwningPlugin() {
-        return task.getOwner();
+        return plugin;
     }
 }
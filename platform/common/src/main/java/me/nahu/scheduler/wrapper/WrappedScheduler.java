@@ -1,7 +1,18 @@
 package me.nahu.scheduler.wrapper;
 
+import me.nahu.scheduler.wrapper.async.BoundedAsyncLane;
+import me.nahu.scheduler.wrapper.budget.YieldableTask;
+import me.nahu.scheduler.wrapper.budget.YieldingRunner;
+import me.nahu.scheduler.wrapper.metrics.SchedulerMetrics;
+import me.nahu.scheduler.wrapper.task.ConsumerWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
 import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.task.WrappedTaskFuture;
+import me.nahu.scheduler.wrapper.timer.PacedTimer;
+import me.nahu.scheduler.wrapper.timer.PacedTimerRegistry;
+import me.nahu.scheduler.wrapper.timer.TimerPolicy;
 import me.nahu.scheduler.wrapper.type.ImplementationType;
+import me.nahu.scheduler.wrapper.watchdog.SlowTaskWatchdog;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
@@ -9,6 +20,14 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 /**
  * Wrapped server scheduler.
  */
@@ -31,10 +50,28 @@ public interface WrappedScheduler {
     Plugin getPlugin();
 
     /**
-     * Cancel all tasks related to this server.
+     * Cancel all tasks related to this server, including the region and entity tasks scheduled through this scheduler.
      */
     void cancelAllTasks();
 
+    /**
+     * Shut the scheduler down once the plugin is disabled, cancelling all tasks and stopping the threads the scheduler
+     * started on its own, like the one of the slow task watchdog. The scheduler should not be used afterwards.
+     */
+    default void shutdown() {
+        cancelAllTasks();
+    }
+
+    /**
+     * Get the current time of the clock pacing the timers, debounces and throttles of this scheduler, and the metrics
+     * it records. The system clock by default.
+     *
+     * @return Time in nanoseconds, only meaningful compared to other values of this clock.
+     */
+    default long nanoTime() {
+        return System.nanoTime();
+    }
+
     /**
      * Cancel the provided wrapped task.
      *
@@ -42,6 +79,68 @@ public interface WrappedScheduler {
      */
     void cancelTask(@NotNull WrappedTask wrappedTask);
 
+    /**
+     * Get the amount of live tasks of the given kind, which are the tasks scheduled through this scheduler that have
+     * neither completed nor been cancelled yet.
+     *
+     * @param kind {@link TaskKind} kind of tasks.
+     * @return Amount of live tasks.
+     */
+    int getLiveTaskCount(@NotNull TaskKind kind);
+
+    /**
+     * Get the amount of live tasks of every kind.
+     *
+     * @return Amount of live tasks.
+     */
+    default int getLiveTaskCount() {
+        int count = 0;
+        for (TaskKind kind : TaskKind.values()) {
+            count += getLiveTaskCount(kind);
+        }
+        return count;
+    }
+
+    /**
+     * Get the bounded async lane, which exposes the queue depth, active workers and rejected submissions.
+     *
+     * @return {@link BoundedAsyncLane} lane, {@code null} if async tasks are not bounded.
+     */
+    @Nullable
+    default BoundedAsyncLane getAsyncLane() {
+        return null;
+    }
+
+    /**
+     * Get the execution metrics, holding queue delay and run time histograms per task kind and per task name.
+     *
+     * @return {@link SchedulerMetrics} metrics, {@code null} if metrics are not enabled.
+     */
+    @Nullable
+    default SchedulerMetrics getMetrics() {
+        return null;
+    }
+
+    /**
+     * Get the slow task watchdog, which reports sync, region and entity tasks running over its budget.
+     *
+     * @return {@link SlowTaskWatchdog} watchdog, {@code null} if it is not enabled.
+     */
+    @Nullable
+    default SlowTaskWatchdog getWatchdog() {
+        return null;
+    }
+
+    /**
+     * Get the registry of the live paced timers, through which cancelling every task also stops the timers.
+     *
+     * @return {@link PacedTimerRegistry} registry, {@code null} if timers are not tracked.
+     */
+    @Nullable
+    default PacedTimerRegistry getTimerRegistry() {
+        return null;
+    }
+
     /**
      * Run a new task.
      * <p>
@@ -55,12 +154,33 @@ public interface WrappedScheduler {
     @NotNull
     WrappedTask runTask(@NotNull Runnable runnable);
 
+    /**
+     * Run a new task, coalesced with every other runnable submitted through this method before it runs.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     * <p>
+     * Runnables are queued and drained in submission order by a single task, so no task reference is provided. An
+     * exception thrown by one runnable is logged and does not prevent the others from running.
+     * <p>
+     * By default, each runnable runs as a task of its own.
+     *
+     * @param runnable Runnable to run.
+     */
+    default void runTaskCoalesced(@NotNull Runnable runnable) {
+        runTask(runnable);
+    }
+
     /**
      * Run a new task.
      * <p>
      * Folia: Run in the dedicated async thread.
      * <p>
      * Paper: Run in the dedicated async thread.
+     * <p>
+     * If a bounded async lane is configured, the task may wait for a free worker, and is subject to the lane's
+     * {@link me.nahu.scheduler.wrapper.async.RejectionPolicy} once the lane is full.
      *
      * @param runnable Runnable to run.
      * @return {@link WrappedTask} task reference.
@@ -98,6 +218,69 @@ public interface WrappedScheduler {
     @NotNull
     WrappedTask runTaskAtLocation(@NotNull Location location, @NotNull Runnable runnable);
 
+    /**
+     * Run the runnable right away if already synced, or run a new task otherwise.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick, inline when called from the global region thread.
+     * <p>
+     * Paper: Synced with the server main thread, inline when called from it.
+     * <p>
+     * If the caller already is on the thread owning the target, the runnable runs right away, inline, and any
+     * exception it throws reaches the caller. Otherwise it is scheduled like a new task.
+     * <p>
+     * By default, a new task is always run.
+     *
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} task reference, an already completed one if the runnable ran inline.
+     */
+    @NotNull
+    default WrappedTask runOrSchedule(@NotNull Runnable runnable) {
+        return runTask(runnable);
+    }
+
+    /**
+     * Run the runnable right away if already synced with the entity, or run a new task otherwise.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity, inline when called from the region owning it.
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
+     * <p>
+     * Paper: Synced with the server main thread, inline when called from it.
+     * <p>
+     * If the caller already is on the thread owning the target, the runnable runs right away, inline, and any
+     * exception it throws reaches the caller. Otherwise it is scheduled like a new task.
+     * <p>
+     * By default, a new task is always run.
+     *
+     * @param entity Entity to run the task at.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} task reference, an already completed one if the runnable ran inline.
+     */
+    @Nullable
+    default WrappedTask runOrScheduleAtEntity(@NotNull Entity entity, @NotNull Runnable runnable) {
+        return runTaskAtEntity(entity, runnable);
+    }
+
+    /**
+     * Run the runnable right away if already synced with the location, or run a new task otherwise.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location, inline when called from that region.
+     * <p>
+     * Paper: Synced with the server main thread, inline when called from it.
+     * <p>
+     * If the caller already is on the thread owning the target, the runnable runs right away, inline, and any
+     * exception it throws reaches the caller. Otherwise it is scheduled like a new task.
+     * <p>
+     * By default, a new task is always run.
+     *
+     * @param location Location to run the task at.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} task reference, an already completed one if the runnable ran inline.
+     */
+    @NotNull
+    default WrappedTask runOrScheduleAtLocation(@NotNull Location location, @NotNull Runnable runnable) {
+        return runTaskAtLocation(location, runnable);
+    }
+
     /**
      * Run a new task timer.
      * <p>
@@ -113,6 +296,51 @@ public interface WrappedScheduler {
     @NotNull
     WrappedTask runTaskTimer(@NotNull Runnable runnable, long delay, long period);
 
+    /**
+     * Run a new task timer.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     * <p>
+     * The consumer receives the task reference on every run, so it can cancel itself.
+     *
+     * @param consumer Consumer to run with the task reference.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskTimer(@NotNull Consumer<WrappedTask> consumer, long delay, long period) {
+        final ConsumerWrappedTask task = new ConsumerWrappedTask(getPlugin(), consumer);
+        return Objects.requireNonNull(task.bind(runTaskTimer(task, delay, period)));
+    }
+
+    /**
+     * Run a new task timer with explicit pacing.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     * <p>
+     * Runs are paced on the {@link #nanoTime() clock} of the scheduler by the {@link TimerPolicy}, each run being
+     * scheduled once the previous one finished, so the behaviour after a stall is the same on every platform.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @param policy {@link TimerPolicy} pacing of the runs.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskTimer(@NotNull Runnable runnable, long delay, long period, @NotNull TimerPolicy policy) {
+        final PacedTimer timer = new PacedTimer(getPlugin(), this::nanoTime, runnable, policy, PacedTimer.toNanos(period), PacedTimer.toNanos(1L),
+            (step, nanos) -> runTaskLater(step, PacedTimer.toTicks(nanos)));
+        // a timer the scheduler refused is returned already cancelled
+        startTimer(timer, PacedTimer.toNanos(delay));
+        return timer;
+    }
+
     /**
      * Run a new task timer asynchronously.
      * <p>
@@ -128,6 +356,110 @@ public interface WrappedScheduler {
     @NotNull
     WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, long delay, long period);
 
+    /**
+     * Run a new task timer asynchronously.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in the dedicated async thread.
+     * <p>
+     * The consumer receives the task reference on every run, so it can cancel itself.
+     *
+     * @param consumer Consumer to run with the task reference.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskTimerAsynchronously(@NotNull Consumer<WrappedTask> consumer, long delay, long period) {
+        final ConsumerWrappedTask task = new ConsumerWrappedTask(getPlugin(), consumer);
+        return Objects.requireNonNull(task.bind(runTaskTimerAsynchronously(task, delay, period)));
+    }
+
+    /**
+     * Run a new task timer asynchronously with explicit pacing.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in a dedicated thread pool of the wrapper, as the Bukkit async scheduler only starts tasks on ticks.
+     * <p>
+     * Runs are paced on the {@link #nanoTime() clock} of the scheduler by the {@link TimerPolicy}, each run being
+     * scheduled once the previous one finished, so the behaviour after a stall is the same on every platform.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @param policy {@link TimerPolicy} pacing of the runs.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, long delay, long period, @NotNull TimerPolicy policy) {
+        return runTaskTimerAsynchronously(runnable, Duration.ofNanos(PacedTimer.toNanos(delay)), Duration.ofNanos(PacedTimer.toNanos(period)), policy);
+    }
+
+    /**
+     * Run a new task timer asynchronously, timed independently from the server tick with sub-tick precision.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in a dedicated thread pool of the wrapper, as the Bukkit async scheduler only starts tasks on ticks.
+     * <p>
+     * Runs are timed at a fixed rate, and skipped if the previous one is still executing.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions. Must be greater than zero.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, long delay, long period, @NotNull TimeUnit unit);
+
+    /**
+     * Run a new task timer asynchronously, timed independently from the server tick with sub-tick precision.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in a dedicated thread pool of the wrapper, as the Bukkit async scheduler only starts tasks on ticks.
+     * <p>
+     * Runs are timed at a fixed rate, and skipped if the previous one is still executing.
+     *
+     * @param runnable Runnable to run.
+     * @param delay {@link Duration} delay before first execution.
+     * @param period {@link Duration} delay between executions. Must be positive.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, @NotNull Duration delay, @NotNull Duration period) {
+        return runTaskTimerAsynchronously(runnable, delay.toNanos(), period.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Run a new task timer asynchronously with explicit pacing, timed independently from the server tick with
+     * sub-tick precision.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in a dedicated thread pool of the wrapper, as the Bukkit async scheduler only starts tasks on ticks.
+     * <p>
+     * Runs are paced on the {@link #nanoTime() clock} of the scheduler by the {@link TimerPolicy}, each run being
+     * scheduled once the previous one finished, so the behaviour after a stall is the same on every platform.
+     *
+     * @param runnable Runnable to run.
+     * @param delay {@link Duration} delay before first execution.
+     * @param period {@link Duration} delay between executions. Must be positive.
+     * @param policy {@link TimerPolicy} pacing of the runs.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, @NotNull Duration delay, @NotNull Duration period, @NotNull TimerPolicy policy) {
+        final PacedTimer timer = new PacedTimer(getPlugin(), this::nanoTime, runnable, policy, period.toNanos(), 0L,
+            (step, nanos) -> runTaskLaterAsynchronously(step, nanos, TimeUnit.NANOSECONDS));
+        // a timer the scheduler refused is returned already cancelled
+        startTimer(timer, delay.toNanos());
+        return timer;
+    }
+
     /**
      * Run a new task timer.
      * <p>
@@ -145,6 +477,54 @@ public interface WrappedScheduler {
     @Nullable
     WrappedTask runTaskTimerAtEntity(@NotNull Entity entity, @NotNull Runnable runnable, long delay, long period);
 
+    /**
+     * Run a new task timer.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
+     * <p>
+     * Paper: Synced with the server main thread.
+     * <p>
+     * The consumer receives the task reference on every run, so it can cancel itself.
+     *
+     * @param entity Entity to run the task at.
+     * @param consumer Consumer to run with the task reference.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @return {@link WrappedTask} task reference.
+     */
+    @Nullable
+    default WrappedTask runTaskTimerAtEntity(@NotNull Entity entity, @NotNull Consumer<WrappedTask> consumer, long delay, long period) {
+        final ConsumerWrappedTask task = new ConsumerWrappedTask(getPlugin(), consumer);
+        return task.bind(runTaskTimerAtEntity(entity, task, delay, period));
+    }
+
+    /**
+     * Run a new task timer with explicit pacing.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned. The timer stops once the
+     * entity is removed.
+     * <p>
+     * Paper: Synced with the server main thread.
+     * <p>
+     * Runs are paced on the {@link #nanoTime() clock} of the scheduler by the {@link TimerPolicy}, each run being
+     * scheduled once the previous one finished, so the behaviour after a stall is the same on every platform.
+     *
+     * @param entity Entity to run the task at.
+     * @param runnable Runnable to run.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @param policy {@link TimerPolicy} pacing of the runs.
+     * @return {@link WrappedTask} task reference.
+     */
+    @Nullable
+    default WrappedTask runTaskTimerAtEntity(@NotNull Entity entity, @NotNull Runnable runnable, long delay, long period, @NotNull TimerPolicy policy) {
+        final PacedTimer timer = new PacedTimer(getPlugin(), this::nanoTime, runnable, policy, PacedTimer.toNanos(period), PacedTimer.toNanos(1L),
+            (step, nanos) -> runTaskLaterAtEntity(entity, step, PacedTimer.toTicks(nanos)));
+        return startTimer(timer, PacedTimer.toNanos(delay)) ? timer : null;
+    }
+
     /**
      * Run a new task timer.
      * <p>
@@ -161,6 +541,53 @@ public interface WrappedScheduler {
     @NotNull
     WrappedTask runTaskTimerAtLocation(@NotNull Location location, @NotNull Runnable runnable, long delay, long period);
 
+    /**
+     * Run a new task timer.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     * <p>
+     * The consumer receives the task reference on every run, so it can cancel itself.
+     *
+     * @param location Location to run the task at.
+     * @param consumer Consumer to run with the task reference.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskTimerAtLocation(@NotNull Location location, @NotNull Consumer<WrappedTask> consumer, long delay, long period) {
+        final ConsumerWrappedTask task = new ConsumerWrappedTask(getPlugin(), consumer);
+        return Objects.requireNonNull(task.bind(runTaskTimerAtLocation(location, task, delay, period)));
+    }
+
+    /**
+     * Run a new task timer with explicit pacing.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     * <p>
+     * Runs are paced on the {@link #nanoTime() clock} of the scheduler by the {@link TimerPolicy}, each run being
+     * scheduled once the previous one finished, so the behaviour after a stall is the same on every platform.
+     *
+     * @param location Location to run the task at.
+     * @param runnable Runnable to run.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @param policy {@link TimerPolicy} pacing of the runs.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskTimerAtLocation(@NotNull Location location, @NotNull Runnable runnable, long delay, long period, @NotNull TimerPolicy policy) {
+        final PacedTimer timer = new PacedTimer(getPlugin(), this::nanoTime, runnable, policy, PacedTimer.toNanos(period), PacedTimer.toNanos(1L),
+            (step, nanos) -> runTaskLaterAtLocation(location, step, PacedTimer.toTicks(nanos)));
+        // a timer the scheduler refused is returned already cancelled
+        startTimer(timer, PacedTimer.toNanos(delay));
+        return timer;
+    }
+
     /**
      * Run a new task later.
      * <p>
@@ -189,6 +616,37 @@ public interface WrappedScheduler {
     @NotNull
     WrappedTask runTaskLaterAsynchronously(@NotNull Runnable runnable, long delay);
 
+    /**
+     * Run a new task later asynchronously, timed independently from the server tick with sub-tick precision.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in a dedicated thread pool of the wrapper, as the Bukkit async scheduler only starts tasks on ticks.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay before execution.
+     * @param unit {@link TimeUnit} unit of the delay.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    WrappedTask runTaskLaterAsynchronously(@NotNull Runnable runnable, long delay, @NotNull TimeUnit unit);
+
+    /**
+     * Run a new task later asynchronously, timed independently from the server tick with sub-tick precision.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in a dedicated thread pool of the wrapper, as the Bukkit async scheduler only starts tasks on ticks.
+     *
+     * @param runnable Runnable to run.
+     * @param delay {@link Duration} delay before execution.
+     * @return {@link WrappedTask} task reference.
+     */
+    @NotNull
+    default WrappedTask runTaskLaterAsynchronously(@NotNull Runnable runnable, @NotNull Duration delay) {
+        return runTaskLaterAsynchronously(runnable, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
     /**
      * Run a new task later.
      * <p>
@@ -220,4 +678,515 @@ public interface WrappedScheduler {
     @NotNull
     WrappedTask runTaskLaterAtLocation(@NotNull Location location, @NotNull Runnable runnable, long delay);
 
+    /**
+     * Run a new task for each of the given locations, batched by region.
+     * <p>
+     * Folia: Locations are grouped by the region owning them, and each group runs in a single task synced with the tick
+     * of that region.
+     * <p>
+     * Paper: All locations run in a single task synced with the server main thread.
+     *
+     * @param locations Locations to run the task at.
+     * @param consumer Consumer to run for each location.
+     * @return {@link WrappedTask} task reference for the whole batch.
+     */
+    @NotNull
+    WrappedTask runTaskAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer);
+
+    /**
+     * Run a new task timer for each of the given locations, batched by region.
+     * <p>
+     * Folia: Locations are grouped by the region owning them, and each group runs in a single task synced with the tick
+     * of that region.
+     * <p>
+     * Paper: All locations run in a single task synced with the server main thread.
+     *
+     * @param locations Locations to run the task at.
+     * @param consumer Consumer to run for each location.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @return {@link WrappedTask} task reference for the whole batch.
+     */
+    @NotNull
+    WrappedTask runTaskTimerAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer, long delay, long period);
+
+    /**
+     * Run a new task later for each of the given locations, batched by region.
+     * <p>
+     * Folia: Locations are grouped by the region owning them, and each group runs in a single task synced with the tick
+     * of that region.
+     * <p>
+     * Paper: All locations run in a single task synced with the server main thread.
+     *
+     * @param locations Locations to run the task at.
+     * @param consumer Consumer to run for each location.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @return {@link WrappedTask} task reference for the whole batch.
+     */
+    @NotNull
+    WrappedTask runTaskLaterAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer, long delay);
+
+    /**
+     * Run a new task for each of the given entities, batched by region.
+     * <p>
+     * Folia: Entities are grouped by the region currently owning them, and each group runs in a single task synced with
+     * the tick of that region. Entities that moved away before the task ran are followed to their new region.
+     * <p>
+     * Paper: All entities run in a single task synced with the server main thread.
+     * <p>
+     * Entities that are no longer valid when their turn comes are skipped and handed to the retired callback instead.
+     *
+     * @param entities Entities to run the task at.
+     * @param consumer Consumer to run for each entity.
+     * @param retired Callback for entities that were removed before the task could run, may be {@code null}.
+     * @return {@link WrappedTask} task reference for the whole batch.
+     */
+    @NotNull
+    WrappedTask runTaskAtEntities(@NotNull Collection<? extends Entity> entities, @NotNull Consumer<Entity> consumer, @Nullable Consumer<Entity> retired);
+
+    /**
+     * Run a new task timer for each of the given entities, batched by region.
+     * <p>
+     * Folia: Entities are grouped by the region currently owning them, and each group runs in a single task synced with
+     * the tick of that region. Entities that moved away are followed to their new region on every execution.
+     * <p>
+     * Paper: All entities run in a single task synced with the server main thread.
+     * <p>
+     * Entities that are no longer valid are handed to the retired callback once, and dropped from following executions.
+     *
+     * @param entities Entities to run the task at.
+     * @param consumer Consumer to run for each entity.
+     * @param retired Callback for entities that were removed, may be {@code null}.
+     * @param delay Delay before first execution. Must be greater than zero.
+     * @param period Delay between executions. Must be greater than zero.
+     * @return {@link WrappedTask} task reference for the whole batch.
+     */
+    @NotNull
+    WrappedTask runTaskTimerAtEntities(@NotNull Collection<? extends Entity> entities, @NotNull Consumer<Entity> consumer, @Nullable Consumer<Entity> retired, long delay, long period);
+
+    /**
+     * Supply a value from a new task. The future is completed on the thread running the task, and cancelling it
+     * cancels the task.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param supplier Supplier of the value.
+     * @param <T> Type of the value.
+     * @return {@link CompletableFuture} future of the value.
+     */
+    @NotNull
+    default <T> CompletableFuture<T> supplySync(@NotNull Supplier<? extends T> supplier) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        return future.bind(runTask(future.supplying(supplier)));
+    }
+
+    /**
+     * Supply a value from a new task. The future is completed on the thread running the task, and cancelling it
+     * cancels the task.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in the dedicated async thread.
+     *
+     * @param supplier Supplier of the value.
+     * @param <T> Type of the value.
+     * @return {@link CompletableFuture} future of the value.
+     */
+    @NotNull
+    default <T> CompletableFuture<T> supplyAsync(@NotNull Supplier<? extends T> supplier) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        return future.bind(runTaskAsynchronously(future.supplying(supplier)));
+    }
+
+    /**
+     * Supply a value from a new task. The future is completed on the thread running the task, and cancelling it
+     * cancels the task.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid, or is removed before the task runs, the future completes exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param entity Entity to run the task at.
+     * @param supplier Supplier of the value.
+     * @param <T> Type of the value.
+     * @return {@link CompletableFuture} future of the value.
+     */
+    @NotNull
+    default <T> CompletableFuture<T> supplyAtEntity(@NotNull Entity entity, @NotNull Supplier<? extends T> supplier) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        return future.bind(runTaskAtEntity(entity, future.supplying(supplier)));
+    }
+
+    /**
+     * Supply a value from a new task. The future is completed on the thread running the task, and cancelling it
+     * cancels the task.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param location Location to run the task at.
+     * @param supplier Supplier of the value.
+     * @param <T> Type of the value.
+     * @return {@link CompletableFuture} future of the value.
+     */
+    @NotNull
+    default <T> CompletableFuture<T> supplyAtLocation(@NotNull Location location, @NotNull Supplier<? extends T> supplier) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        return future.bind(runTaskAtLocation(location, future.supplying(supplier)));
+    }
+
+    /**
+     * Supply a value from a new task later. The future is completed on the thread running the task, and cancelling it
+     * cancels the task.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param supplier Supplier of the value.
+     * @param delay Delay before execution. Must be greater than zero.
+     * @param <T> Type of the value.
+     * @return {@link CompletableFuture} future of the value.
+     */
+    @NotNull
+    default <T> CompletableFuture<T> supplySyncLater(@NotNull Supplier<? extends T> supplier, long delay) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        return future.bind(runTaskLater(future.supplying(supplier), delay));
+    }
+
+    /**
+     * Supply a value from a new task later. The future is completed on the thread running the task, and cancelling it
+     * cancels the task.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in the dedicated async thread.
+     *
+     * @param supplier Supplier of the value.
+     * @param delay Delay before execution. Must be greater than zero.
+     * @param <T> Type of the value.
+     * @return {@link CompletableFuture} future of the value.
+     */
+    @NotNull
+    default <T> CompletableFuture<T> supplyAsyncLater(@NotNull Supplier<? extends T> supplier, long delay) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        return future.bind(runTaskLaterAsynchronously(future.supplying(supplier), delay));
+    }
+
+    /**
+     * Supply a value from a new task later. The future is completed on the thread running the task, and cancelling it
+     * cancels the task.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid, or is removed before the task runs, the future completes exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param entity Entity to run the task at.
+     * @param supplier Supplier of the value.
+     * @param delay Delay before execution. Must be greater than zero.
+     * @param <T> Type of the value.
+     * @return {@link CompletableFuture} future of the value.
+     */
+    @NotNull
+    default <T> CompletableFuture<T> supplyAtEntityLater(@NotNull Entity entity, @NotNull Supplier<? extends T> supplier, long delay) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        return future.bind(runTaskLaterAtEntity(entity, future.supplying(supplier), delay));
+    }
+
+    /**
+     * Supply a value from a new task later. The future is completed on the thread running the task, and cancelling it
+     * cancels the task.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param location Location to run the task at.
+     * @param supplier Supplier of the value.
+     * @param delay Delay before execution. Must be greater than zero.
+     * @param <T> Type of the value.
+     * @return {@link CompletableFuture} future of the value.
+     */
+    @NotNull
+    default <T> CompletableFuture<T> supplyAtLocationLater(@NotNull Location location, @NotNull Supplier<? extends T> supplier, long delay) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        return future.bind(runTaskLaterAtLocation(location, future.supplying(supplier), delay));
+    }
+
+    /**
+     * Consume every item across as many ticks as needed, spending at most the budget per tick. At least one item is
+     * consumed per tick, and the iteration resumes where it left off on the next tick.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param items Items to consume.
+     * @param consumer Consumer for each item.
+     * @param budget {@link Duration} time to spend per tick. Must be positive.
+     * @param <T> Type of the items.
+     * @return {@link CompletableFuture} future completed once every item is consumed, cancelling it stops the work.
+     */
+    @NotNull
+    default <T> CompletableFuture<Void> processOverTicks(@NotNull Iterable<T> items, @NotNull Consumer<? super T> consumer, @NotNull Duration budget) {
+        return runYieldable(YieldableTask.iterating(items, consumer), budget);
+    }
+
+    /**
+     * Consume every item across as many ticks as needed, spending at most the budget per tick. At least one item is
+     * consumed per tick, and the iteration resumes where it left off on the next tick.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param location Location to run the work at.
+     * @param items Items to consume.
+     * @param consumer Consumer for each item.
+     * @param budget {@link Duration} time to spend per tick. Must be positive.
+     * @param <T> Type of the items.
+     * @return {@link CompletableFuture} future completed once every item is consumed, cancelling it stops the work.
+     */
+    @NotNull
+    default <T> CompletableFuture<Void> processOverTicksAtLocation(@NotNull Location location, @NotNull Iterable<T> items, @NotNull Consumer<? super T> consumer, @NotNull Duration budget) {
+        return runYieldableAtLocation(location, YieldableTask.iterating(items, consumer), budget);
+    }
+
+    /**
+     * Consume every item across as many ticks as needed, spending at most the budget per tick. At least one item is
+     * consumed per tick, and the iteration resumes where it left off on the next tick.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid, or is removed before the work is done, the future completes exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param entity Entity to run the work at.
+     * @param items Items to consume.
+     * @param consumer Consumer for each item.
+     * @param budget {@link Duration} time to spend per tick. Must be positive.
+     * @param <T> Type of the items.
+     * @return {@link CompletableFuture} future completed once every item is consumed, cancelling it stops the work.
+     */
+    @NotNull
+    default <T> CompletableFuture<Void> processOverTicksAtEntity(@NotNull Entity entity, @NotNull Iterable<T> items, @NotNull Consumer<? super T> consumer, @NotNull Duration budget) {
+        return runYieldableAtEntity(entity, YieldableTask.iterating(items, consumer), budget);
+    }
+
+    /**
+     * Run a yieldable task, one step per tick with at most the budget per step, until it reports it is done.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param task {@link YieldableTask} task to run.
+     * @param budget {@link Duration} time to spend per tick. Must be positive.
+     * @return {@link CompletableFuture} future completed once the task is done, cancelling it stops the task.
+     */
+    @NotNull
+    default CompletableFuture<Void> runYieldable(@NotNull YieldableTask task, @NotNull Duration budget) {
+        final YieldingRunner runner = new YieldingRunner(task, budget);
+        return runner.getFuture().bind(runTaskTimer(runner, 1L, 1L));
+    }
+
+    /**
+     * Run a yieldable task, one step per tick with at most the budget per step, until it reports it is done.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param location Location to run the task at.
+     * @param task {@link YieldableTask} task to run.
+     * @param budget {@link Duration} time to spend per tick. Must be positive.
+     * @return {@link CompletableFuture} future completed once the task is done, cancelling it stops the task.
+     */
+    @NotNull
+    default CompletableFuture<Void> runYieldableAtLocation(@NotNull Location location, @NotNull YieldableTask task, @NotNull Duration budget) {
+        final YieldingRunner runner = new YieldingRunner(task, budget);
+        return runner.getFuture().bind(runTaskTimerAtLocation(location, runner, 1L, 1L));
+    }
+
+    /**
+     * Run a yieldable task, one step per tick with at most the budget per step, until it reports it is done.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid, or is removed before the task is done, the future completes exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param entity Entity to run the task at.
+     * @param task {@link YieldableTask} task to run.
+     * @param budget {@link Duration} time to spend per tick. Must be positive.
+     * @return {@link CompletableFuture} future completed once the task is done, cancelling it stops the task.
+     */
+    @NotNull
+    default CompletableFuture<Void> runYieldableAtEntity(@NotNull Entity entity, @NotNull YieldableTask task, @NotNull Duration budget) {
+        final YieldingRunner runner = new YieldingRunner(task, budget);
+        return runner.getFuture().bind(runTaskTimerAtEntity(entity, runner, 1L, 1L));
+    }
+
+    /**
+     * Debounce requests for the key: the runnable only runs once no request for the key was made for the delay.
+     * Each request restarts the delay and replaces the runnable, so only the latest one runs. Keys are scoped per
+     * variant and target.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param key Key of the requests.
+     * @param delay Quiet delay before the runnable runs. Must be greater than zero.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} pending run of the key, cancelling it drops the pending run.
+     */
+    @NotNull
+    WrappedTask debounce(@NotNull Object key, long delay, @NotNull Runnable runnable);
+
+    /**
+     * Debounce requests for the key: the runnable only runs once no request for the key was made for the delay.
+     * Each request restarts the delay and replaces the runnable, so only the latest one runs. Keys are scoped per
+     * variant and target.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in a dedicated thread pool of the wrapper, as the Bukkit async scheduler only starts tasks on ticks.
+     *
+     * @param key Key of the requests.
+     * @param delay {@link Duration} quiet delay before the runnable runs. Must be positive.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} pending run of the key, cancelling it drops the pending run.
+     */
+    @NotNull
+    WrappedTask debounceAsynchronously(@NotNull Object key, @NotNull Duration delay, @NotNull Runnable runnable);
+
+    /**
+     * Debounce requests for the key: the runnable only runs once no request for the key was made for the delay.
+     * Each request restarts the delay and replaces the runnable, so only the latest one runs. Keys are scoped per
+     * variant and target.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param entity Entity to run the task at.
+     * @param key Key of the requests.
+     * @param delay Quiet delay before the runnable runs. Must be greater than zero.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} pending run of the key, cancelling it drops the pending run.
+     */
+    @Nullable
+    WrappedTask debounceAtEntity(@NotNull Entity entity, @NotNull Object key, long delay, @NotNull Runnable runnable);
+
+    /**
+     * Debounce requests for the key: the runnable only runs once no request for the key was made for the delay.
+     * Each request restarts the delay and replaces the runnable, so only the latest one runs. Keys are scoped per
+     * variant and target.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param location Location to run the task at.
+     * @param key Key of the requests.
+     * @param delay Quiet delay before the runnable runs. Must be greater than zero.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} pending run of the key, cancelling it drops the pending run.
+     */
+    @NotNull
+    WrappedTask debounceAtLocation(@NotNull Location location, @NotNull Object key, long delay, @NotNull Runnable runnable);
+
+    /**
+     * Throttle requests for the key: the runnable runs right away, then at most once per period while requests for
+     * the key keep coming, requests made within a period collapsing into a single run of the latest runnable at its
+     * end. Keys are scoped per variant and target.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param key Key of the requests.
+     * @param period Minimum delay between runs. Must be greater than zero.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} pending run of the key, cancelling it drops the pending run.
+     */
+    @NotNull
+    WrappedTask throttle(@NotNull Object key, long period, @NotNull Runnable runnable);
+
+    /**
+     * Throttle requests for the key: the runnable runs right away, then at most once per period while requests for
+     * the key keep coming, requests made within a period collapsing into a single run of the latest runnable at its
+     * end. Keys are scoped per variant and target.
+     * <p>
+     * Folia: Run in the dedicated async thread.
+     * <p>
+     * Paper: Run in a dedicated thread pool of the wrapper, as the Bukkit async scheduler only starts tasks on ticks.
+     *
+     * @param key Key of the requests.
+     * @param period {@link Duration} minimum delay between runs. Must be positive.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} pending run of the key, cancelling it drops the pending run.
+     */
+    @NotNull
+    WrappedTask throttleAsynchronously(@NotNull Object key, @NotNull Duration period, @NotNull Runnable runnable);
+
+    /**
+     * Throttle requests for the key: the runnable runs right away, then at most once per period while requests for
+     * the key keep coming, requests made within a period collapsing into a single run of the latest runnable at its
+     * end. Keys are scoped per variant and target.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param entity Entity to run the task at.
+     * @param key Key of the requests.
+     * @param period Minimum delay between runs. Must be greater than zero.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} pending run of the key, cancelling it drops the pending run.
+     */
+    @Nullable
+    WrappedTask throttleAtEntity(@NotNull Entity entity, @NotNull Object key, long period, @NotNull Runnable runnable);
+
+    /**
+     * Throttle requests for the key: the runnable runs right away, then at most once per period while requests for
+     * the key keep coming, requests made within a period collapsing into a single run of the latest runnable at its
+     * end. Keys are scoped per variant and target.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param location Location to run the task at.
+     * @param key Key of the requests.
+     * @param period Minimum delay between runs. Must be greater than zero.
+     * @param runnable Runnable to run.
+     * @return {@link WrappedTask} pending run of the key, cancelling it drops the pending run.
+     */
+    @NotNull
+    WrappedTask throttleAtLocation(@NotNull Location location, @NotNull Object key, long period, @NotNull Runnable runnable);
+
+    /**
+     * Start a paced timer, registering it first if the scheduler tracks its timers.
+     *
+     * @param timer {@link PacedTimer} timer to start.
+     * @param delay Delay before the first run, in nanoseconds.
+     * @return {@code true} if it was scheduled, {@code false} if the scheduler did not accept it.
+     */
+    private boolean startTimer(@NotNull PacedTimer timer, long delay) {
+        final PacedTimerRegistry registry = getTimerRegistry();
+        return registry != null ? registry.start(timer, delay) : timer.start(delay);
+    }
 }
@@ -0,0 +1,242 @@
+package me.nahu.scheduler.wrapper;
+
+import me.nahu.scheduler.wrapper.async.RejectionPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+import java.util.Objects;
+
+/**
+ * Optional behaviour for wrapped schedulers, shared by every implementation.
+ */
+public final class WrappedSchedulerOptions {
+
+    private static final WrappedSchedulerOptions DEFAULTS = builder().build();
+
+    private final boolean timingWheel;
+    private final boolean virtualThreads;
+    private final boolean metrics;
+    private final Duration watchdogBudget;
+    private final int asyncMaxConcurrency;
+    private final int asyncQueueLimit;
+    private final RejectionPolicy asyncRejectionPolicy;
+
+    /**
+     * Private constructor for the options, use {@link #builder()} instead.
+     *
+     * @param builder Builder holding the options.
+     */
+    private WrappedSchedulerOptions(@NotNull Builder builder) {
+        this.timingWheel = builder.timingWheel;
+        this.virtualThreads = builder.virtualThreads;
+        this.metrics = builder.metrics;
+        this.watchdogBudget = builder.watchdogBudget;
+        this.asyncMaxConcurrency = builder.asyncMaxConcurrency;
+        this.asyncQueueLimit = builder.asyncQueueLimit;
+        this.asyncRejectionPolicy = builder.asyncRejectionPolicy;
+    }
+
+    /**
+     * Check if delayed and repeating tasks are multiplexed through timing wheels.
+     *
+     * @return {@code true} if they are, {@code false} if every task is handed to the platform scheduler.
+     */
+    public boolean isTimingWheel() {
+        return timingWheel;
+    }
+
+    /**
+     * Check if async tasks are run on virtual threads, when the runtime supports them.
+     *
+     * @return {@code true} if they are, {@code false} if every async task is handed to the platform scheduler.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Check if task execution metrics are recorded.
+     *
+     * @return {@code true} if they are, {@code false} otherwise.
+     */
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Get the budget of the slow task watchdog.
+     *
+     * @return {@link Duration} budget, {@code null} if the watchdog is disabled.
+     */
+    @Nullable
+    public Duration getWatchdogBudget() {
+        return watchdogBudget;
+    }
+
+    /**
+     * Check if async tasks go through a bounded async lane.
+     *
+     * @return {@code true} if they do, {@code false} if they are handed to the async backend right away.
+     */
+    public boolean isBoundedAsync() {
+        return asyncMaxConcurrency > 0;
+    }
+
+    /**
+     * Get the maximum amount of async tasks running at once through the bounded async lane.
+     *
+     * @return Max concurrency, {@code 0} if the lane is disabled.
+     */
+    public int getAsyncMaxConcurrency() {
+        return asyncMaxConcurrency;
+    }
+
+    /**
+     * Get the maximum amount of async tasks waiting in the bounded async lane.
+     *
+     * @return Queue limit.
+     */
+    public int getAsyncQueueLimit() {
+        return asyncQueueLimit;
+    }
+
+    /**
+     * Get the policy applied once the bounded async lane is full.
+     *
+     * @return {@link RejectionPolicy} policy.
+     */
+    @NotNull
+    public RejectionPolicy getAsyncRejectionPolicy() {
+        return asyncRejectionPolicy;
+    }
+
+    /**
+     * Get the default options.
+     *
+     * @return {@link WrappedSchedulerOptions} default options.
+     */
+    @NotNull
+    public static WrappedSchedulerOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Get a new builder instance.
+     *
+     * @return {@link Builder} new builder.
+     */
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for the scheduler options.
+     */
+    public static final class Builder {
+
+        private boolean timingWheel;
+        private boolean virtualThreads;
+        private boolean metrics;
+        private Duration watchdogBudget;
+        private int asyncMaxConcurrency;
+        private int asyncQueueLimit;
+        private RejectionPolicy asyncRejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        /**
+         * Private constructor for the builder.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Multiplex delayed and repeating tasks through timing wheels, driven by a single repeating platform task per
+         * execution context, instead of handing each of them to the platform scheduler. Entity tasks are not affected.
+         *
+         * @param timingWheel Whether to use timing wheels.
+         * @return {@link Builder} builder instance.
+         */
+        @NotNull
+        public Builder timingWheel(boolean timingWheel) {
+            this.timingWheel = timingWheel;
+            return this;
+        }
+
+        /**
+         * Run async tasks on a virtual thread per task, timed by a single shared timer thread, instead of the platform
+         * async scheduler. Only takes effect on Java 21 or newer, older runtimes keep the platform behaviour.
+         *
+         * @param virtualThreads Whether to use virtual threads.
+         * @return {@link Builder} builder instance.
+         */
+        @NotNull
+        public Builder virtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Record the queue delay and run time of every task in fixed-size histograms, per task kind and per task name
+         * for runnables implementing {@link me.nahu.scheduler.wrapper.metrics.NamedRunnable}.
+         *
+         * @param metrics Whether to record metrics.
+         * @return {@link Builder} builder instance.
+         */
+        @NotNull
+        public Builder metrics(boolean metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Watch sync, region and entity tasks, sampling the stack of any task running over the budget and reporting
+         * it to the plugin logger once it finishes.
+         *
+         * @param budget {@link Duration} budget a task may run for, {@code null} to disable the watchdog.
+         * @return {@link Builder} builder instance.
+         */
+        @NotNull
+        public Builder watchdog(@Nullable Duration budget) {
+            if (budget != null && (budget.isNegative() || budget.isZero())) {
+                throw new IllegalArgumentException("Watchdog budget must be positive!");
+            }
+            this.watchdogBudget = budget;
+            return this;
+        }
+
+        /**
+         * Route {@code runTaskAsynchronously} through a bounded lane, running at most {@code maxConcurrency} tasks at
+         * once and queueing up to {@code queueLimit} more. Submissions past that are handled by the rejection policy.
+         *
+         * @param maxConcurrency Maximum amount of tasks running at once. Must be greater than zero.
+         * @param queueLimit Maximum amount of tasks waiting for their turn. Must not be negative.
+         * @param rejectionPolicy {@link RejectionPolicy} policy once the queue is full.
+         * @return {@link Builder} builder instance.
+         */
+        @NotNull
+        public Builder boundedAsync(int maxConcurrency, int queueLimit, @NotNull RejectionPolicy rejectionPolicy) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("Max concurrency must be greater than zero!");
+            }
+            if (queueLimit < 0) {
+                throw new IllegalArgumentException("Queue limit cannot be negative!");
+            }
+            this.asyncMaxConcurrency = maxConcurrency;
+            this.asyncQueueLimit = queueLimit;
+            this.asyncRejectionPolicy = Objects.requireNonNull(rejectionPolicy, "Rejection policy cannot be null!");
+            return this;
+        }
+
+        /**
+         * Build the options.
+         *
+         * @return {@link WrappedSchedulerOptions} options.
+         */
+        @NotNull
+        public WrappedSchedulerOptions build() {
+            return new WrappedSchedulerOptions(this);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package me.nahu.scheduler.wrapper.async;
+
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Async lane bounding how many tasks run at once, and how many may wait for their turn.
+ * <p>
+ * At most {@code maxConcurrency} workers are handed to the underlying async backend at any time. A worker keeps
+ * polling the queue once its task is done, so a burst of submissions reuses the same workers instead of flooding the
+ * platform pools. Once the queue is full the {@link RejectionPolicy} decides what happens to new submissions.
+ * <p>
+ * Workers are handed over as plain plugin tasks, so the platform may cancel them before they start. Call
+ * {@link #cancelAll()} whenever that happens, so the workers that never started give their slot back.
+ */
+public final class BoundedAsyncLane {
+
+    private final Plugin plugin;
+    private final int maxConcurrency;
+    private final int queueLimit;
+    private final RejectionPolicy rejectionPolicy;
+    private final Consumer<Runnable> backend;
+
+    private final Queue<LaneTask> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    // workers handed to the backend that did not start yet
+    private final Set<Worker> dispatched = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Main constructor for the lane.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param maxConcurrency Maximum amount of tasks running at once. Must be greater than zero.
+     * @param queueLimit Maximum amount of tasks waiting for a worker. Must not be negative.
+     * @param rejectionPolicy {@link RejectionPolicy} policy once the queue is full.
+     * @param backend Hands a worker to the underlying async backend.
+     */
+    public BoundedAsyncLane(
+        @NotNull Plugin plugin,
+        int maxConcurrency,
+        int queueLimit,
+        @NotNull RejectionPolicy rejectionPolicy,
+        @NotNull Consumer<Runnable> backend
+    ) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be greater than zero!");
+        }
+        if (queueLimit < 0) {
+            throw new IllegalArgumentException("Queue limit cannot be negative!");
+        }
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.maxConcurrency = maxConcurrency;
+        this.queueLimit = queueLimit;
+        this.rejectionPolicy = Objects.requireNonNull(rejectionPolicy, "Rejection policy cannot be null!");
+        this.backend = Objects.requireNonNull(backend, "Backend cannot be null!");
+    }
+
+    /**
+     * Submit a runnable to the lane.
+     *
+     * @param runnable Runnable to run.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     * @throws RejectedExecutionException If the lane is full and the policy is {@link RejectionPolicy#FAIL_FAST}.
+     */
+    @NotNull
+    public AbstractWrappedTask submit(@NotNull Runnable runnable) {
+        final LaneTask task = new LaneTask(runnable);
+        if (tryAcquire()) {
+            dispatch(task);
+            return task;
+        }
+        if (queued.incrementAndGet() > queueLimit) {
+            queued.decrementAndGet();
+            reject(task);
+            return task;
+        }
+        queue.offer(task);
+        // every worker may have finished between the failed acquire and the offer
+        if (tryAcquire()) {
+            final LaneTask next = poll();
+            if (next != null) {
+                dispatch(next);
+            } else {
+                active.decrementAndGet();
+            }
+        }
+        return task;
+    }
+
+    /**
+     * Cancel every task waiting for a worker, and release the slots of the workers that did not start yet, as the
+     * backend may have dropped them. Workers already running finish their current task and stop.
+     */
+    public void cancelAll() {
+        for (Worker worker : dispatched) {
+            if (worker.claim()) {
+                active.decrementAndGet();
+                worker.first.cancel();
+            }
+        }
+        LaneTask task;
+        while ((task = poll()) != null) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Get the amount of tasks waiting for a worker.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    /**
+     * Get the amount of workers currently handed to the async backend.
+     *
+     * @return Active workers.
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * Get the amount of submissions rejected since the lane was created, regardless of the policy.
+     *
+     * @return Rejected submissions.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Get the maximum amount of tasks running at once.
+     *
+     * @return Max concurrency.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Get the maximum amount of tasks waiting for a worker.
+     *
+     * @return Queue limit.
+     */
+    public int getQueueLimit() {
+        return queueLimit;
+    }
+
+    /**
+     * Get the policy applied once the queue is full.
+     *
+     * @return {@link RejectionPolicy} policy.
+     */
+    @NotNull
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    private void reject(@NotNull LaneTask task) {
+        rejected.incrementAndGet();
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> runSafely(task);
+            case DROP -> task.cancel();
+            case FAIL_FAST -> {
+                task.cancel();
+                throw new RejectedExecutionException("Async lane is full, " + queueLimit + " tasks already waiting!");
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = active.get();
+            if (current >= maxConcurrency) {
+                return false;
+            }
+        } while (!active.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private LaneTask poll() {
+        final LaneTask task = queue.poll();
+        if (task != null) {
+            queued.decrementAndGet();
+        }
+        return task;
+    }
+
+    private void dispatch(@NotNull LaneTask first) {
+        final Worker worker = new Worker(first);
+        dispatched.add(worker);
+        try {
+            backend.accept(worker);
+        } catch (RuntimeException exception) {
+            if (worker.claim()) {
+                active.decrementAndGet();
+            }
+            throw exception;
+        }
+    }
+
+    private void work(@NotNull LaneTask first) {
+        LaneTask task = first;
+        while (true) {
+            runSafely(task);
+            task = poll();
+            if (task != null) {
+                continue;
+            }
+            active.decrementAndGet();
+            // a submission may have queued up right before the release, pick it up if nobody else did
+            if (queue.isEmpty() || !tryAcquire()) {
+                return;
+            }
+            task = poll();
+            if (task == null) {
+                active.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private void runSafely(@NotNull LaneTask task) {
+        try {
+            task.run();
+        } catch (Throwable throwable) {
+            plugin.getLogger().log(Level.SEVERE, "Async lane task generated an exception", throwable);
+        }
+    }
+
+    /**
+     * Worker handed to the backend, claimed either by starting or by the lane releasing it, whichever comes first.
+     */
+    private final class Worker implements Runnable {
+
+        private final LaneTask first;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Worker(@NotNull LaneTask first) {
+            this.first = first;
+        }
+
+        private boolean claim() {
+            if (!claimed.compareAndSet(false, true)) {
+                return false;
+            }
+            dispatched.remove(this);
+            return true;
+        }
+
+        @Override
+        public void run() {
+            if (claim()) {
+                work(first);
+            }
+        }
+    }
+
+    /**
+     * Wrapped task waiting in, or running from, the lane.
+     */
+    private final class LaneTask extends AbstractWrappedTask {
+
+        private volatile boolean cancelled;
+
+        private LaneTask(@NotNull Runnable runnable) {
+            super(runnable, TaskKind.ASYNC, false);
+        }
+
+        @Override
+        public void run() {
+            if (cancelled || isCompleted()) {
+                return;
+            }
+            super.run();
+        }
+
+        @Override
+        protected void cancelTask() {
+            this.cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public @NotNull Plugin getOwningPlugin() {
+            return plugin;
+        }
+    }
+}
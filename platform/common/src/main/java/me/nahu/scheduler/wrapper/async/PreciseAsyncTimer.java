@@ -0,0 +1,201 @@
+package me.nahu.scheduler.wrapper.async;
+
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Async timer with sub-tick precision, independent from the server tick.
+ * <p>
+ * Delays and periods are timed by a single platform thread of the timer, which only hands each run off to the given
+ * executor, so a slow task never delays the timing of the others. The thread is started by the first delayed or
+ * repeating task, exits once the timer is idle, and is stopped for good by {@link #shutdown()}.
+ */
+public final class PreciseAsyncTimer {
+
+    private static final long IDLE_TIMEOUT_SECONDS = 60L;
+
+    private final Plugin plugin;
+    private final Executor executor;
+
+    // guarded by this
+    private ScheduledThreadPoolExecutor timer;
+    private boolean shutdown;
+
+    /**
+     * Main constructor for the timer.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param executor Executor running the tasks once they are due.
+     */
+    public PreciseAsyncTimer(@NotNull Plugin plugin, @NotNull Executor executor) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null!");
+    }
+
+    /**
+     * Run the runnable on the executor right away.
+     *
+     * @param runnable Runnable to run.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     */
+    @NotNull
+    public AbstractWrappedTask execute(@NotNull Runnable runnable) {
+        checkRunning();
+        final TimedTask task = new TimedTask(runnable, false);
+        task.dispatch();
+        return task;
+    }
+
+    /**
+     * Run the runnable on the executor after the given delay.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay before execution.
+     * @param unit {@link TimeUnit} unit of the delay.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     */
+    @NotNull
+    public AbstractWrappedTask schedule(@NotNull Runnable runnable, long delay, @NotNull TimeUnit unit) {
+        final TimedTask task = new TimedTask(runnable, false);
+        task.bind(getTimer().schedule(task::dispatch, Math.max(0L, delay), unit));
+        return task;
+    }
+
+    /**
+     * Run the runnable on the executor for every period, after the given delay. Runs are timed at a fixed rate, and a
+     * run is skipped if the previous one is still executing.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions. Must be greater than zero.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     */
+    @NotNull
+    public AbstractWrappedTask scheduleAtFixedRate(@NotNull Runnable runnable, long delay, long period, @NotNull TimeUnit unit) {
+        final TimedTask task = new TimedTask(runnable, true);
+        task.bind(getTimer().scheduleAtFixedRate(task::dispatch, Math.max(0L, delay), period, unit));
+        return task;
+    }
+
+    /**
+     * Stop the timer thread, dropping every pending delayed and repeating run. The executor is left to its owner. No
+     * task can be scheduled afterwards.
+     */
+    public synchronized void shutdown() {
+        this.shutdown = true;
+        if (timer != null) {
+            timer.shutdownNow();
+            this.timer = null;
+        }
+    }
+
+    /**
+     * Check if the timer was shut down.
+     *
+     * @return {@code true} if it was, {@code false} otherwise.
+     */
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    private synchronized void checkRunning() {
+        if (shutdown) {
+            throw new IllegalStateException("Timer was shut down!");
+        }
+    }
+
+    @NotNull
+    private synchronized ScheduledThreadPoolExecutor getTimer() {
+        checkRunning();
+        if (timer == null) {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                final Thread thread = new Thread(runnable, plugin.getName() + "-AsyncTimerClock");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            executor.setKeepAliveTime(IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            executor.allowCoreThreadTimeOut(true);
+            this.timer = executor;
+        }
+        return timer;
+    }
+
+    /**
+     * Wrapped task timed by the timer thread.
+     */
+    private final class TimedTask extends AbstractWrappedTask {
+
+        private final AtomicBoolean executing = new AtomicBoolean();
+
+        private volatile Future<?> future;
+        private volatile boolean cancelled;
+
+        private TimedTask(@NotNull Runnable runnable, boolean repeating) {
+            super(runnable, TaskKind.ASYNC, repeating);
+        }
+
+        private void bind(@NotNull Future<?> future) {
+            this.future = future;
+            // the task may have been cancelled before it was bound
+            if (cancelled) {
+                future.cancel(false);
+            }
+        }
+
+        private void dispatch() {
+            if (cancelled || !executing.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RuntimeException exception) {
+                executing.set(false);
+                throw exception;
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!cancelled) {
+                    super.run();
+                }
+            } catch (Throwable throwable) {
+                plugin.getLogger().log(Level.SEVERE, "Async task generated an exception", throwable);
+            } finally {
+                executing.set(false);
+            }
+        }
+
+        @Override
+        protected void cancelTask() {
+            this.cancelled = true;
+            final Future<?> future = this.future;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public @NotNull Plugin getOwningPlugin() {
+            return plugin;
+        }
+    }
+}
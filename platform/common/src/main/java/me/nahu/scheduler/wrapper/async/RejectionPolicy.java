@@ -0,0 +1,19 @@
+package me.nahu.scheduler.wrapper.async;
+
+/**
+ * What a {@link BoundedAsyncLane} does with a submission once every worker is busy and its queue is full.
+ */
+public enum RejectionPolicy {
+    /**
+     * Run the task inline, on the thread submitting it. Slows the producer down to the pace of the lane.
+     */
+    CALLER_RUNS,
+    /**
+     * Drop the task silently. The returned task reference is already cancelled.
+     */
+    DROP,
+    /**
+     * Throw a {@link java.util.concurrent.RejectedExecutionException} to the caller.
+     */
+    FAIL_FAST
+}
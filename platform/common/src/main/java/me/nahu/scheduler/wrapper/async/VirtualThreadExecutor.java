@@ -0,0 +1,154 @@
+package me.nahu.scheduler.wrapper.async;
+
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.type.Capability;
+import me.nahu.scheduler.wrapper.type.ServerCapabilities;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Async execution backed by one virtual thread per task, available on Java 21 or newer.
+ * <p>
+ * Delays and periods are timed by the thread of a {@link PreciseAsyncTimer}, which only hands each run off to a
+ * fresh virtual thread. Blocking I/O then parks the virtual thread instead of holding one of the platform async pool
+ * threads. Both belong to this executor, and are stopped by {@link #shutdown()}.
+ */
+public final class VirtualThreadExecutor {
+
+    private static final int VIRTUAL_THREADS_FEATURE = 21;
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private static final Method VIRTUAL_EXECUTOR_FACTORY = findVirtualExecutorFactory();
+
+    private final ExecutorService virtualExecutor;
+    private final PreciseAsyncTimer timer;
+
+    /**
+     * Main constructor for the executor.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @throws IllegalStateException If the runtime does not support virtual threads.
+     */
+    public VirtualThreadExecutor(@NotNull Plugin plugin) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require Java " + VIRTUAL_THREADS_FEATURE + " or newer!");
+        }
+        this.virtualExecutor = createVirtualExecutor();
+        this.timer = new PreciseAsyncTimer(plugin, virtualExecutor);
+    }
+
+    /**
+     * Check if the runtime supports virtual threads.
+     *
+     * @return {@code true} if it does, {@code false} otherwise.
+     */
+    public static boolean isSupported() {
+        return VIRTUAL_EXECUTOR_FACTORY != null;
+    }
+
+    /**
+     * Stop the timer thread and stop accepting tasks. Tasks already running on their virtual thread are left to
+     * finish.
+     */
+    public void shutdown() {
+        timer.shutdown();
+        virtualExecutor.shutdown();
+    }
+
+    /**
+     * Run the runnable on a new virtual thread.
+     *
+     * @param runnable Runnable to run.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     */
+    @NotNull
+    public AbstractWrappedTask execute(@NotNull Runnable runnable) {
+        return timer.execute(runnable);
+    }
+
+    /**
+     * Run the runnable on a new virtual thread after the given delay.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay in ticks before execution.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     */
+    @NotNull
+    public AbstractWrappedTask schedule(@NotNull Runnable runnable, long delay) {
+        return timer.schedule(runnable, toMillis(delay), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run the runnable on a new virtual thread after the given delay.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay before execution.
+     * @param unit {@link TimeUnit} unit of the delay.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     */
+    @NotNull
+    public AbstractWrappedTask schedule(@NotNull Runnable runnable, long delay, @NotNull TimeUnit unit) {
+        return timer.schedule(runnable, delay, unit);
+    }
+
+    /**
+     * Run the runnable on a new virtual thread for every period, after the given delay. A run is skipped if the
+     * previous one is still executing.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay in ticks before first execution.
+     * @param period Delay in ticks between executions.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     */
+    @NotNull
+    public AbstractWrappedTask scheduleAtFixedRate(@NotNull Runnable runnable, long delay, long period) {
+        return timer.scheduleAtFixedRate(runnable, toMillis(delay), toMillis(period), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Run the runnable on a new virtual thread for every period, after the given delay. A run is skipped if the
+     * previous one is still executing.
+     *
+     * @param runnable Runnable to run.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return {@link AbstractWrappedTask} task, not registered yet.
+     */
+    @NotNull
+    public AbstractWrappedTask scheduleAtFixedRate(@NotNull Runnable runnable, long delay, long period, @NotNull TimeUnit unit) {
+        return timer.scheduleAtFixedRate(runnable, delay, period, unit);
+    }
+
+    private static long toMillis(long ticks) {
+        return Math.max(0L, ticks) * MILLIS_PER_TICK;
+    }
+
+    @NotNull
+    private static ExecutorService createVirtualExecutor() {
+        try {
+            return (ExecutorService) VIRTUAL_EXECUTOR_FACTORY.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Could not create the virtual thread executor!", exception);
+        }
+    }
+
+    @Nullable
+    private static Method findVirtualExecutorFactory() {
+        if (!ServerCapabilities.get().has(Capability.VIRTUAL_THREADS)) {
+            return null;
+        }
+        try {
+            // compiled against Java 17, so the factory has to be looked up reflectively
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package me.nahu.scheduler.wrapper.budget;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Time budget of a {@link YieldableTask} for the current tick.
+ * <p>
+ * A single instance is reused by the task across ticks, and restarted right before every step.
+ */
+public final class TickBudget {
+
+    private final Duration budget;
+    private final long budgetNanos;
+
+    private long deadline;
+
+    /**
+     * Main constructor for the budget.
+     *
+     * @param budget {@link Duration} time a task may spend per tick. Must be positive.
+     */
+    public TickBudget(@NotNull Duration budget) {
+        this.budget = Objects.requireNonNull(budget, "Budget cannot be null!");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Budget must be positive!");
+        }
+        this.budgetNanos = budget.toNanos();
+    }
+
+    /**
+     * Restart the budget for a new tick.
+     */
+    public void restart() {
+        this.deadline = System.nanoTime() + budgetNanos;
+    }
+
+    /**
+     * Check if the time for this tick is used up, and the task should yield.
+     *
+     * @return {@code true} if it is used up, {@code false} otherwise.
+     */
+    public boolean isExhausted() {
+        return System.nanoTime() - deadline >= 0L;
+    }
+
+    /**
+     * Get the time left for this tick.
+     *
+     * @return {@link Duration} time left, zero if the budget is exhausted.
+     */
+    @NotNull
+    public Duration getRemaining() {
+        return Duration.ofNanos(Math.max(0L, deadline - System.nanoTime()));
+    }
+
+    /**
+     * Get the time a task may spend per tick.
+     *
+     * @return {@link Duration} budget.
+     */
+    @NotNull
+    public Duration getBudget() {
+        return budget;
+    }
+}
@@ -0,0 +1,57 @@
+package me.nahu.scheduler.wrapper.budget;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Task split across ticks, pausing once its budget for the tick is used up and resuming on the next one.
+ */
+@FunctionalInterface
+public interface YieldableTask {
+
+    /**
+     * Run a step of the task. Called once per tick until it returns {@code true}. Implementations keep their own state
+     * between steps, and should check {@link TickBudget#isExhausted()} regularly to yield in time.
+     *
+     * @param budget {@link TickBudget} budget for the current tick.
+     * @return {@code true} if the task is done, {@code false} to resume on the next tick.
+     */
+    boolean step(@NotNull TickBudget budget);
+
+    /**
+     * Create a task consuming every item of the iterable, as many per tick as the budget allows. At least one item is
+     * consumed per tick so the task always makes progress.
+     *
+     * @param items Items to consume.
+     * @param consumer Consumer for each item.
+     * @param <T> Type of the items.
+     * @return {@link YieldableTask} task.
+     */
+    @NotNull
+    static <T> YieldableTask iterating(@NotNull Iterable<T> items, @NotNull Consumer<? super T> consumer) {
+        Objects.requireNonNull(items, "Items cannot be null!");
+        Objects.requireNonNull(consumer, "Consumer cannot be null!");
+        return new YieldableTask() {
+
+            private Iterator<T> iterator;
+
+            @Override
+            public boolean step(@NotNull TickBudget budget) {
+                if (iterator == null) {
+                    // resolved lazily so the iteration happens on the thread owning the items
+                    iterator = items.iterator();
+                }
+                while (iterator.hasNext()) {
+                    consumer.accept(iterator.next());
+                    if (budget.isExhausted()) {
+                        return !iterator.hasNext();
+                    }
+                }
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package me.nahu.scheduler.wrapper.budget;
+
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.task.WrappedTaskFuture;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Repeating task body driving a {@link YieldableTask}, one step per tick, until it is done.
+ * <p>
+ * Schedule it as a task timer running every tick, and bind the timer to {@link #getFuture()}. The future completes
+ * once the task is done, or exceptionally if a step throws, and the timer is cancelled on its next run either way.
+ * Cancelling the future cancels the timer as well.
+ */
+public final class YieldingRunner implements Runnable {
+
+    private final YieldableTask task;
+    private final TickBudget budget;
+    private final WrappedTaskFuture<Void> future = new WrappedTaskFuture<>();
+
+    /**
+     * Main constructor for the runner.
+     *
+     * @param task {@link YieldableTask} task to drive.
+     * @param budget {@link Duration} time the task may spend per tick.
+     */
+    public YieldingRunner(@NotNull YieldableTask task, @NotNull Duration budget) {
+        this.task = Objects.requireNonNull(task, "Task cannot be null!");
+        this.budget = new TickBudget(budget);
+    }
+
+    /**
+     * Get the future completed once the task is done.
+     *
+     * @return {@link WrappedTaskFuture} future.
+     */
+    @NotNull
+    public WrappedTaskFuture<Void> getFuture() {
+        return future;
+    }
+
+    /**
+     * Run a step of the task.
+     */
+    @Override
+    public void run() {
+        if (future.isDone()) {
+            // done before the timer could be bound, or cancelled from elsewhere
+            stop();
+            return;
+        }
+        budget.restart();
+        try {
+            if (task.step(budget)) {
+                future.complete(null);
+                stop();
+            }
+        } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+            stop();
+        }
+    }
+
+    private void stop() {
+        final WrappedTask timer = future.getTask();
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package me.nahu.scheduler.wrapper.cache;
+
+import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.task.WrappedTaskFuture;
+import me.nahu.scheduler.wrapper.timer.PacedTimer;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Loading cache whose misses are loaded on the async lane of a {@link WrappedScheduler}.
+ * <p>
+ * Concurrent misses for the same key share a single load. The loaded value can be delivered back to the thread owning
+ * an entity or location, so event handlers do not have to hop threads by hand. Hits are served from a concurrent map
+ * without locking and complete right away, on the calling thread.
+ * <p>
+ * Entries expire a fixed time after they were loaded, and once the cache is full the oldest loaded entries are evicted
+ * first. Failed loads and {@code null} values are not cached, and a load whose task was cancelled before it ran is
+ * cancelled as well, so the next miss loads the key again.
+ *
+ * @param <K> Type of the keys.
+ * @param <V> Type of the values.
+ */
+public final class TickLoadingCache<K, V> {
+
+    private final WrappedScheduler scheduler;
+    private final Function<? super K, ? extends V> loader;
+    private final long maximumSize;
+    private final long expireAfterWrite;
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, WrappedTaskFuture<V>> loading = new ConcurrentHashMap<>();
+    // load order of the entries, guarded by itself, only touched when an entry is stored or removed
+    private final LinkedHashMap<K, Entry<V>> order = new LinkedHashMap<>();
+
+    /**
+     * Private constructor for the cache, use {@link #builder(WrappedScheduler)} instead.
+     *
+     * @param builder Builder holding the settings.
+     * @param loader Loader of missing values.
+     */
+    private TickLoadingCache(@NotNull Builder builder, @NotNull Function<? super K, ? extends V> loader) {
+        this.scheduler = builder.scheduler;
+        this.loader = Objects.requireNonNull(loader, "Loader cannot be null!");
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWrite = builder.expireAfterWrite;
+    }
+
+    /**
+     * Get the cached value of the key, without loading it.
+     *
+     * @param key Key of the value.
+     * @return {@link V} value, {@code null} if it is not cached or expired.
+     */
+    @Nullable
+    public V getIfPresent(@NotNull K key) {
+        final Entry<V> entry = entries.get(Objects.requireNonNull(key, "Key cannot be null!"));
+        return entry != null && entry.isFresh(scheduler.nanoTime()) ? entry.value() : null;
+    }
+
+    /**
+     * Get the value of the key, loading it asynchronously if missing. A miss completes the future on the async thread
+     * that loaded it.
+     *
+     * @param key Key of the value.
+     * @return {@link CompletableFuture} future of the value, cancelling it does not stop the load.
+     */
+    @NotNull
+    public CompletableFuture<V> get(@NotNull K key) {
+        final V value = getIfPresent(key);
+        return value != null ? CompletableFuture.completedFuture(value) : load(key).copy();
+    }
+
+    /**
+     * Get the value of the key, loading it asynchronously if missing. A miss completes the future on the server
+     * thread.
+     * <p>
+     * Folia: Synced with the server daylight cycle tick.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param key Key of the value.
+     * @return {@link CompletableFuture} future of the value, cancelling it does not stop the load.
+     */
+    @NotNull
+    public CompletableFuture<V> getSync(@NotNull K key) {
+        return deliver(key, supplier -> scheduler.supplySync(supplier));
+    }
+
+    /**
+     * Get the value of the key, loading it asynchronously if missing. A miss completes the future on the thread
+     * owning the entity.
+     * <p>
+     * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is removed before the value is delivered, the future completes exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param entity Entity to deliver the value at.
+     * @param key Key of the value.
+     * @return {@link CompletableFuture} future of the value, cancelling it does not stop the load.
+     */
+    @NotNull
+    public CompletableFuture<V> getAtEntity(@NotNull Entity entity, @NotNull K key) {
+        Objects.requireNonNull(entity, "Entity cannot be null!");
+        return deliver(key, supplier -> scheduler.supplyAtEntity(entity, supplier));
+    }
+
+    /**
+     * Get the value of the key, loading it asynchronously if missing. A miss completes the future on the thread
+     * owning the location.
+     * <p>
+     * Folia: Synced with the tick of the region of the chunk of the location.
+     * <p>
+     * Paper: Synced with the server main thread.
+     *
+     * @param location Location to deliver the value at.
+     * @param key Key of the value.
+     * @return {@link CompletableFuture} future of the value, cancelling it does not stop the load.
+     */
+    @NotNull
+    public CompletableFuture<V> getAtLocation(@NotNull Location location, @NotNull K key) {
+        Objects.requireNonNull(location, "Location cannot be null!");
+        return deliver(key, supplier -> scheduler.supplyAtLocation(location, supplier));
+    }
+
+    /**
+     * Remove the value of the key. A load of the key in progress still completes its futures, but its value is not
+     * cached.
+     *
+     * @param key Key of the value.
+     */
+    public void invalidate(@NotNull K key) {
+        Objects.requireNonNull(key, "Key cannot be null!");
+        synchronized (order) {
+            order.remove(key);
+            entries.remove(key);
+            loading.remove(key);
+        }
+    }
+
+    /**
+     * Remove every value. Loads in progress still complete their futures, but their values are not cached.
+     */
+    public void invalidateAll() {
+        synchronized (order) {
+            order.clear();
+            entries.clear();
+            loading.clear();
+        }
+    }
+
+    /**
+     * Get the amount of cached values, including expired values not evicted yet.
+     *
+     * @return Amount of values.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the amount of keys being loaded.
+     *
+     * @return Amount of loads in progress.
+     */
+    public int getLoadingCount() {
+        return loading.size();
+    }
+
+    /**
+     * Get a new builder instance.
+     *
+     * @param scheduler {@link WrappedScheduler} scheduler running the loads and deliveries.
+     * @return {@link Builder} new builder.
+     */
+    @NotNull
+    public static Builder builder(@NotNull WrappedScheduler scheduler) {
+        return new Builder(scheduler);
+    }
+
+    @NotNull
+    private CompletableFuture<V> deliver(@NotNull K key, @NotNull Function<Supplier<V>, CompletableFuture<V>> delivery) {
+        final V value = getIfPresent(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        // failures are delivered on the target thread too, so callbacks never run on the loading thread
+        return load(key).handle((loaded, throwable) -> delivery.apply(() -> {
+            if (throwable != null) {
+                throw throwable instanceof CompletionException exception ? exception : new CompletionException(throwable);
+            }
+            return loaded;
+        })).thenCompose(Function.identity());
+    }
+
+    @NotNull
+    private CompletableFuture<V> load(@NotNull K key) {
+        while (true) {
+            final WrappedTaskFuture<V> pending = loading.get(key);
+            if (pending != null) {
+                if (!isAbandoned(pending)) {
+                    return pending;
+                }
+                abandon(key, pending);
+                continue;
+            }
+            final WrappedTaskFuture<V> future = new WrappedTaskFuture<>();
+            if (loading.putIfAbsent(key, future) != null) {
+                continue;
+            }
+            // a load may have been stored between the miss and claiming the key
+            final V value = getIfPresent(key);
+            if (value != null) {
+                loading.remove(key, future);
+                future.complete(value);
+                return future;
+            }
+            future.whenComplete((loaded, throwable) -> store(key, future, throwable == null ? loaded : null));
+            try {
+                future.bind(scheduler.runTaskAsynchronously(future.supplying(() -> loader.apply(key))));
+            } catch (RuntimeException exception) {
+                loading.remove(key, future);
+                future.completeExceptionally(exception);
+                return future;
+            }
+            if (isAbandoned(future)) {
+                abandon(key, future);
+            }
+            return future;
+        }
+    }
+
+    private boolean isAbandoned(@NotNull WrappedTaskFuture<V> future) {
+        // the task may be cancelled or dropped without ever completing the future, which must not block the key
+        final WrappedTask task = future.getTask();
+        return !future.isDone() && task != null && task.isCancelled();
+    }
+
+    private void abandon(@NotNull K key, @NotNull WrappedTaskFuture<V> future) {
+        loading.remove(key, future);
+        future.completeExceptionally(new CancellationException("Load was cancelled before it could run!"));
+    }
+
+    private void store(@NotNull K key, @NotNull WrappedTaskFuture<V> future, @Nullable V value) {
+        synchronized (order) {
+            // dropped if the key was invalidated while loading
+            if (!loading.remove(key, future) || value == null) {
+                return;
+            }
+            final long now = scheduler.nanoTime();
+            final Entry<V> entry = new Entry<>(value, now + expireAfterWrite);
+            order.remove(key);
+            order.put(key, entry);
+            entries.put(key, entry);
+
+            final Iterator<Map.Entry<K, Entry<V>>> iterator = order.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<K, Entry<V>> eldest = iterator.next();
+                // entries are in load order, so the first fresh one ends the expired run
+                if (order.size() <= maximumSize && eldest.getValue().isFresh(now)) {
+                    break;
+                }
+                iterator.remove();
+                entries.remove(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    /**
+     * Cached value and the time it expires at.
+     *
+     * @param value Cached value.
+     * @param expiresAt {@link WrappedScheduler#nanoTime()} the value expires at.
+     * @param <V> Type of the value.
+     */
+    private record Entry<V>(@NotNull V value, long expiresAt) {
+
+        private boolean isFresh(long now) {
+            return now - expiresAt < 0L;
+        }
+    }
+
+    /**
+     * Builder for the loading cache.
+     */
+    public static final class Builder {
+
+        private final WrappedScheduler scheduler;
+        private long maximumSize = Long.MAX_VALUE;
+        private long expireAfterWrite = Long.MAX_VALUE;
+
+        /**
+         * Private constructor for the builder.
+         *
+         * @param scheduler {@link WrappedScheduler} scheduler running the loads and deliveries.
+         */
+        private Builder(@NotNull WrappedScheduler scheduler) {
+            this.scheduler = Objects.requireNonNull(scheduler, "Scheduler cannot be null!");
+        }
+
+        /**
+         * Limit the amount of cached values, evicting the oldest loaded ones first. Unlimited by default.
+         *
+         * @param maximumSize Maximum amount of values. Must be greater than zero.
+         * @return {@link Builder} builder instance.
+         */
+        @NotNull
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize <= 0L) {
+                throw new IllegalArgumentException("Maximum size must be greater than zero!");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Expire values a fixed time after they were loaded. Values never expire by default.
+         *
+         * @param expireAfterWrite {@link Duration} time a value stays cached. Must be positive.
+         * @return {@link Builder} builder instance.
+         */
+        @NotNull
+        public Builder expireAfterWrite(@NotNull Duration expireAfterWrite) {
+            Objects.requireNonNull(expireAfterWrite, "Expiry cannot be null!");
+            return expireAfterWriteNanos(expireAfterWrite.toNanos());
+        }
+
+        /**
+         * Expire values a fixed amount of ticks after they were loaded, at 50ms per tick. Values never expire by
+         * default.
+         *
+         * @param ticks Ticks a value stays cached. Must be greater than zero.
+         * @return {@link Builder} builder instance.
+         */
+        @NotNull
+        public Builder expireAfterWrite(long ticks) {
+            return expireAfterWriteNanos(PacedTimer.toNanos(ticks));
+        }
+
+        /**
+         * Build the cache.
+         *
+         * @param loader Loader of missing values, run on the async thread. May return {@code null} if there is no
+         *               value, which is not cached.
+         * @param <K> Type of the keys.
+         * @param <V> Type of the values.
+         * @return {@link TickLoadingCache} new cache.
+         */
+        @NotNull
+        public <K, V> TickLoadingCache<K, V> build(@NotNull Function<? super K, ? extends V> loader) {
+            return new TickLoadingCache<>(this, loader);
+        }
+
+        @NotNull
+        private Builder expireAfterWriteNanos(long nanos) {
+            if (nanos <= 0L) {
+                throw new IllegalArgumentException("Expiry must be positive!");
+            }
+            this.expireAfterWrite = nanos;
+            return this;
+        }
+    }
+}
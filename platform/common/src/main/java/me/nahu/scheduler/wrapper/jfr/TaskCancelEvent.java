@@ -0,0 +1,18 @@
+package me.nahu.scheduler.wrapper.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a pending task being cancelled. The stack trace points at the code that cancelled it.
+ */
+@Name(TaskEvents.NAMESPACE + "TaskCancel")
+@Label("Task Cancel")
+@Category({ TaskEvents.CATEGORY, "Tasks" })
+@Description("A pending task of a wrapped scheduler was cancelled")
+@StackTrace(true)
+final class TaskCancelEvent extends TaskEvent {
+}
@@ -0,0 +1,35 @@
+package me.nahu.scheduler.wrapper.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Fields shared by every task event, identifying the task.
+ */
+abstract class TaskEvent extends Event {
+
+    @Label("Task Id")
+    @Description("Id tying the events of a task together, zero if the task was submitted while nothing was recorded")
+    long taskId;
+
+    @Label("Kind")
+    @Description("Kind of the task")
+    String kind;
+
+    @Label("Plugin")
+    @Description("Plugin owning the task")
+    String plugin;
+
+    @Label("Task Name")
+    @Description("Name of the named runnable, or class of the runnable")
+    String taskName;
+
+    @Label("Region")
+    @Description("World and chunk the task runs at, for location tasks")
+    String region;
+
+    @Label("Entity")
+    @Description("Unique id of the entity the task runs at, for entity tasks")
+    String entity;
+}
@@ -0,0 +1,204 @@
+package me.nahu.scheduler.wrapper.jfr;
+
+import jdk.jfr.EventType;
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import me.nahu.scheduler.wrapper.type.Capability;
+import me.nahu.scheduler.wrapper.type.ServerCapabilities;
+import me.nahu.scheduler.wrapper.watchdog.SlowTaskWatchdog;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flight Recorder events for the task lifecycle: submission, each run and cancellation.
+ * <p>
+ * While no recording has the events enabled, submitted runnables are left untouched and each run only checks whether
+ * the events are enabled, so the events cost next to nothing outside of a recording. On runtimes without the Flight
+ * Recorder module, the events are never enabled.
+ */
+public final class TaskEvents {
+
+    static final String NAMESPACE = "me.nahu.scheduler.";
+    static final String CATEGORY = "Folia Scheduler Wrapper";
+
+    /**
+     * Queue delay and due time reported when they are not known.
+     */
+    static final long UNKNOWN = Long.MIN_VALUE;
+
+    private static final boolean AVAILABLE = ServerCapabilities.get().has(Capability.FLIGHT_RECORDER);
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private TaskEvents() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    /**
+     * Check if any task event is enabled in a running recording.
+     *
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    public static boolean isEnabled() {
+        return AVAILABLE && (Recorder.SUBMIT.isEnabled() || Recorder.EXECUTION.isEnabled() || Recorder.CANCEL.isEnabled());
+    }
+
+    /**
+     * Check if task execution events are enabled in a running recording.
+     *
+     * @return {@code true} if they are, {@code false} otherwise.
+     */
+    public static boolean isExecutionEnabled() {
+        return AVAILABLE && Recorder.EXECUTION.isEnabled();
+    }
+
+    /**
+     * Trace a task being submitted, recording a {@link TaskSubmitEvent} and wrapping the instrumented runnable so its
+     * runs and cancellation can be tied back to the submission.
+     *
+     * @param instrumented Runnable the scheduler will run.
+     * @param runnable Runnable the task was requested with, used to name the task.
+     * @param plugin {@link Plugin} plugin owning the task.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param target {@link Entity}, {@link Location} or region the task runs at, {@code null} if it has none.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return {@link TaskTrace} wrapping the instrumented runnable, or the same runnable if no event is enabled.
+     */
+    @NotNull
+    public static Runnable trace(
+        @NotNull Runnable instrumented,
+        @NotNull Runnable runnable,
+        @NotNull Plugin plugin,
+        @NotNull TaskKind kind,
+        @Nullable Object target,
+        long delay,
+        long period,
+        @NotNull TimeUnit unit
+    ) {
+        if (!isEnabled()) {
+            return instrumented;
+        }
+        Objects.requireNonNull(unit, "Unit cannot be null!");
+        final long delayNanos = unit.toNanos(delay);
+        final long periodNanos = unit.toNanos(period);
+        final TaskTrace trace = new TaskTrace(
+            instrumented,
+            IDS.incrementAndGet(),
+            kind,
+            plugin.getName(),
+            SlowTaskWatchdog.nameOf(runnable),
+            regionOf(target),
+            entityOf(target),
+            System.nanoTime() + delayNanos,
+            periodNanos
+        );
+        Recorder.submit(trace, delayNanos, periodNanos);
+        return trace;
+    }
+
+    /**
+     * Run a task that was not traced, recording a {@link TaskExecutionEvent} for the run. Only the kind, plugin and
+     * name of the task are known.
+     *
+     * @param task {@link AbstractWrappedTask} task being run.
+     * @param runnable Runnable of the task.
+     */
+    public static void execute(@NotNull AbstractWrappedTask task, @NotNull Runnable runnable) {
+        Recorder.execute(task, runnable);
+    }
+
+    /**
+     * Record a {@link TaskCancelEvent} for a task cancelled before it completed.
+     *
+     * @param task {@link AbstractWrappedTask} task cancelled.
+     * @param runnable Runnable of the task.
+     */
+    public static void cancelled(@NotNull AbstractWrappedTask task, @NotNull Runnable runnable) {
+        if (AVAILABLE && Recorder.CANCEL.isEnabled()) {
+            Recorder.cancel(task, runnable);
+        }
+    }
+
+    @Nullable
+    private static String regionOf(@Nullable Object target) {
+        if (target == null || target instanceof Entity) {
+            return null;
+        }
+        if (target instanceof Location location) {
+            final World world = location.getWorld();
+            return (world == null ? "unknown" : world.getName())
+                + " [" + (location.getBlockX() >> 4) + ", " + (location.getBlockZ() >> 4) + "]";
+        }
+        return target.toString();
+    }
+
+    @Nullable
+    private static String entityOf(@Nullable Object target) {
+        return target instanceof Entity entity ? entity.getUniqueId().toString() : null;
+    }
+
+    /**
+     * Event types and the code creating events, only loaded once the Flight Recorder is known to be available, so
+     * runtimes without it never resolve the event classes.
+     */
+    private static final class Recorder {
+
+        private static final EventType SUBMIT = EventType.getEventType(TaskSubmitEvent.class);
+        private static final EventType EXECUTION = EventType.getEventType(TaskExecutionEvent.class);
+        private static final EventType CANCEL = EventType.getEventType(TaskCancelEvent.class);
+
+        private static void submit(@NotNull TaskTrace trace, long delay, long period) {
+            final TaskSubmitEvent event = new TaskSubmitEvent();
+            if (event.shouldCommit()) {
+                trace.fill(event);
+                event.delay = delay;
+                event.period = period;
+                event.commit();
+            }
+        }
+
+        private static void execute(@NotNull AbstractWrappedTask task, @NotNull Runnable runnable) {
+            final TaskExecutionEvent event = new TaskExecutionEvent();
+            event.begin();
+            try {
+                runnable.run();
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    fillUntraced(event, task, runnable);
+                    event.queueDelay = UNKNOWN;
+                    event.commit();
+                }
+            }
+        }
+
+        private static void cancel(@NotNull AbstractWrappedTask task, @NotNull Runnable runnable) {
+            final TaskCancelEvent event = new TaskCancelEvent();
+            if (!event.shouldCommit()) {
+                return;
+            }
+            if (runnable instanceof TaskTrace trace) {
+                trace.fill(event);
+            } else {
+                fillUntraced(event, task, runnable);
+            }
+            event.commit();
+        }
+
+        private static void fillUntraced(@NotNull TaskEvent event, @NotNull AbstractWrappedTask task, @NotNull Runnable runnable) {
+            event.kind = task.getKind().name();
+            event.plugin = task.getOwningPlugin().getName();
+            // the instrumentation wrapping the runnable is named after the runnable it wraps
+            event.taskName = SlowTaskWatchdog.nameOf(runnable);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package me.nahu.scheduler.wrapper.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a single run of a task, starting when the task body starts and ending when it returns.
+ */
+@Name(TaskEvents.NAMESPACE + "TaskExecution")
+@Label("Task Execution")
+@Category({ TaskEvents.CATEGORY, "Tasks" })
+@Description("A run of a task submitted to a wrapped scheduler")
+@StackTrace(false)
+final class TaskExecutionEvent extends TaskEvent {
+
+    @Label("Queue Delay")
+    @Description("How late the run started compared to when it was due, unknown if the task was submitted while nothing was recorded")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueDelay;
+}
@@ -0,0 +1,30 @@
+package me.nahu.scheduler.wrapper.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a task handed to a wrapped scheduler. The stack trace points at the code that submitted
+ * it, tying anonymous runnables back to their caller.
+ */
+@Name(TaskEvents.NAMESPACE + "TaskSubmit")
+@Label("Task Submit")
+@Category({ TaskEvents.CATEGORY, "Tasks" })
+@Description("A task was submitted to a wrapped scheduler")
+@StackTrace(true)
+final class TaskSubmitEvent extends TaskEvent {
+
+    @Label("Delay")
+    @Description("Requested delay before the first run")
+    @Timespan(Timespan.NANOSECONDS)
+    long delay;
+
+    @Label("Period")
+    @Description("Requested period between runs, zero if it only runs once")
+    @Timespan(Timespan.NANOSECONDS)
+    long period;
+}
@@ -0,0 +1,91 @@
+package me.nahu.scheduler.wrapper.jfr;
+
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runnable carrying what is known about a task at submission, recording a {@link TaskExecutionEvent} for each run.
+ * <p>
+ * Only created by {@link TaskEvents#trace} while a recording is running, so tasks submitted before recording started
+ * are not traced and report their runs with less detail.
+ */
+public final class TaskTrace implements Runnable {
+
+    private final Runnable runnable;
+    private final long id;
+    private final TaskKind kind;
+    private final String plugin;
+    private final String name;
+    private final String region;
+    private final String entity;
+    private final long period;
+
+    private long due;
+
+    TaskTrace(
+        @NotNull Runnable runnable,
+        long id,
+        @NotNull TaskKind kind,
+        @NotNull String plugin,
+        @NotNull String name,
+        @Nullable String region,
+        @Nullable String entity,
+        long due,
+        long period
+    ) {
+        this.runnable = runnable;
+        this.id = id;
+        this.kind = kind;
+        this.plugin = plugin;
+        this.name = name;
+        this.region = region;
+        this.entity = entity;
+        this.due = due;
+        this.period = period;
+    }
+
+    /**
+     * Run the task body, recording the run if execution events are enabled.
+     */
+    @Override
+    public void run() {
+        if (!TaskEvents.isExecutionEnabled()) {
+            // the due time is only kept up to date while recording
+            due = TaskEvents.UNKNOWN;
+            runnable.run();
+            return;
+        }
+        final long start = System.nanoTime();
+        final long queueDelay = due == TaskEvents.UNKNOWN ? TaskEvents.UNKNOWN : start - due;
+        // repeating tasks are due one period after their previous start, so lag does not pile up
+        due = start + period;
+
+        final TaskExecutionEvent event = new TaskExecutionEvent();
+        event.begin();
+        try {
+            runnable.run();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                fill(event);
+                event.queueDelay = queueDelay;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Fill the fields identifying the task.
+     *
+     * @param event {@link TaskEvent} event to fill.
+     */
+    void fill(@NotNull TaskEvent event) {
+        event.taskId = id;
+        event.kind = kind.name();
+        event.plugin = plugin;
+        event.taskName = name;
+        event.region = region;
+        event.entity = entity;
+    }
+}
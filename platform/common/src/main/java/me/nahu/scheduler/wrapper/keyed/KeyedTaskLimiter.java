@@ -0,0 +1,393 @@
+package me.nahu.scheduler.wrapper.keyed;
+
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.timer.PacedTimer;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Keyed debouncing and throttling, collapsing repeated requests for the same key into a single execution.
+ * <p>
+ * Keys are scoped per task kind and target, so the same key used at two entities or two locations is two keys. The
+ * state of a key lives in a concurrent map, locked per key, and is evicted as soon as the key goes idle. A request
+ * for a busy key only swaps the runnable to run, no task is scheduled for it.
+ */
+public final class KeyedTaskLimiter {
+
+    private static final long STALE_AFTER = TimeUnit.MINUTES.toNanos(5L);
+    private static final int SWEEP_INTERVAL = 1024;
+
+    private final Plugin plugin;
+    private final LongSupplier clock;
+    private final Map<Slot, KeyState> debounces = new ConcurrentHashMap<>();
+    private final Map<Slot, KeyState> throttles = new ConcurrentHashMap<>();
+    private final AtomicInteger created = new AtomicInteger();
+
+    /**
+     * Main constructor for the limiter.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     */
+    public KeyedTaskLimiter(@NotNull Plugin plugin) {
+        this(plugin, System::nanoTime);
+    }
+
+    /**
+     * Constructor for a limiter timing the keys on a clock other than the system one.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param clock Clock timing the delays and periods, in nanoseconds.
+     */
+    public KeyedTaskLimiter(@NotNull Plugin plugin, @NotNull LongSupplier clock) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null!");
+    }
+
+    /**
+     * Run the runnable once no request for the key was made for the given delay. Each request restarts the delay and
+     * replaces the runnable, so only the latest one runs.
+     *
+     * @param kind {@link TaskKind} kind of the task.
+     * @param target Entity or location the task runs at, {@code null} for global and async tasks.
+     * @param key Key of the requests.
+     * @param delay Quiet delay in nanoseconds.
+     * @param tolerance How early in nanoseconds the run may fire, usually half the resolution of the scheduler.
+     * @param runnable Runnable to run.
+     * @param scheduler {@link PacedTimer.Scheduler} scheduling the run at the target.
+     * @return {@link WrappedTask} pending run of the key, already cancelled if it could not be scheduled.
+     */
+    @NotNull
+    public WrappedTask debounce(
+        @NotNull TaskKind kind,
+        @Nullable Object target,
+        @NotNull Object key,
+        long delay,
+        long tolerance,
+        @NotNull Runnable runnable,
+        @NotNull PacedTimer.Scheduler scheduler
+    ) {
+        final long quiet = Math.max(0L, delay);
+        return submit(debounces, new Slot(kind, target, key), runnable, slot -> new Debounce(slot, runnable, scheduler, quiet, tolerance));
+    }
+
+    /**
+     * Run the runnable right away, then at most once per period while requests for the key keep coming. Requests
+     * made within a period are collapsed into a single run at its end, of the latest runnable.
+     *
+     * @param kind {@link TaskKind} kind of the task.
+     * @param target Entity or location the task runs at, {@code null} for global and async tasks.
+     * @param key Key of the requests.
+     * @param period Period in nanoseconds.
+     * @param runnable Runnable to run.
+     * @param scheduler {@link PacedTimer.Scheduler} scheduling the runs at the target.
+     * @return {@link WrappedTask} pending run of the key, already cancelled if it could not be scheduled.
+     */
+    @NotNull
+    public WrappedTask throttle(
+        @NotNull TaskKind kind,
+        @Nullable Object target,
+        @NotNull Object key,
+        long period,
+        @NotNull Runnable runnable,
+        @NotNull PacedTimer.Scheduler scheduler
+    ) {
+        final long window = Math.max(0L, period);
+        return submit(throttles, new Slot(kind, target, key), runnable, slot -> new Throttle(slot, runnable, scheduler, window));
+    }
+
+    /**
+     * Get the amount of keys currently debounced or throttled.
+     *
+     * @return Amount of busy keys.
+     */
+    public int getKeyCount() {
+        return debounces.size() + throttles.size();
+    }
+
+    /**
+     * Cancel the pending runs of every key.
+     */
+    public void cancelAll() {
+        debounces.values().forEach(KeyState::cancel);
+        throttles.values().forEach(KeyState::cancel);
+    }
+
+    @NotNull
+    private WrappedTask submit(@NotNull Map<Slot, KeyState> states, @NotNull Slot slot, @NotNull Runnable runnable, @NotNull Function<Slot, KeyState> factory) {
+        Objects.requireNonNull(slot.key(), "Key cannot be null!");
+        Objects.requireNonNull(runnable, "Runnable cannot be null!");
+        while (true) {
+            final KeyState state = states.get(slot);
+            if (state != null) {
+                if (state.offer(runnable)) {
+                    return state;
+                }
+                // went idle or was cancelled in the meantime
+                states.remove(slot, state);
+                continue;
+            }
+            final KeyState fresh = factory.apply(slot);
+            if (states.putIfAbsent(slot, fresh) == null) {
+                if (created.incrementAndGet() % SWEEP_INTERVAL == 0) {
+                    sweep();
+                }
+                fresh.start();
+                return fresh;
+            }
+        }
+    }
+
+    private void sweep() {
+        final long now = clock.getAsLong();
+        for (KeyState state : debounces.values()) {
+            state.evictIfStale(now);
+        }
+        for (KeyState state : throttles.values()) {
+            state.evictIfStale(now);
+        }
+    }
+
+    /**
+     * Key scoped to a task kind and target.
+     *
+     * @param kind {@link TaskKind} kind of the task.
+     * @param target Entity or location the task runs at, {@code null} for global and async tasks.
+     * @param key Key of the requests.
+     */
+    private record Slot(@NotNull TaskKind kind, @Nullable Object target, @NotNull Object key) {
+    }
+
+    /**
+     * State of a busy key, also the reference to its pending run.
+     */
+    private abstract class KeyState implements WrappedTask {
+
+        private final Map<Slot, KeyState> states;
+        private final Slot slot;
+        private final PacedTimer.Scheduler scheduler;
+
+        protected Runnable pending;
+        private boolean evicted;
+
+        private volatile WrappedTask current;
+        private volatile long expected;
+        private volatile boolean cancelled;
+
+        private KeyState(@NotNull Map<Slot, KeyState> states, @NotNull Slot slot, @NotNull Runnable runnable, @NotNull PacedTimer.Scheduler scheduler) {
+            this.states = states;
+            this.slot = slot;
+            this.pending = runnable;
+            this.scheduler = scheduler;
+        }
+
+        /**
+         * Schedule the first run.
+         */
+        protected abstract void start();
+
+        /**
+         * Handle a request for the key.
+         *
+         * @param runnable Runnable of the request.
+         */
+        protected abstract void accept(@NotNull Runnable runnable);
+
+        /**
+         * Handle the pending run firing.
+         */
+        protected abstract void fire();
+
+        private synchronized boolean offer(@NotNull Runnable runnable) {
+            if (evicted || isStale(clock.getAsLong())) {
+                return false;
+            }
+            accept(runnable);
+            return true;
+        }
+
+        protected final synchronized void arm(long delay) {
+            // held while scheduling, so a run firing right away cannot see the previous task as current
+            this.expected = clock.getAsLong() + delay;
+            final WrappedTask task = scheduler.schedule(this::fire, delay);
+            this.current = task;
+            if (task == null) {
+                this.cancelled = true;
+                evict();
+            }
+        }
+
+        /**
+         * Evict the key, must hold the lock of the state.
+         */
+        protected final void evict() {
+            if (!evicted) {
+                evicted = true;
+                states.remove(slot, this);
+            }
+        }
+
+        protected final synchronized boolean isEvicted() {
+            return evicted;
+        }
+
+        private synchronized void evictIfStale(long now) {
+            if (isStale(now)) {
+                evict();
+            }
+        }
+
+        private boolean isStale(long now) {
+            final WrappedTask current = this.current;
+            // a run that never fired: cancelled from elsewhere, retired with its entity or lost to a long stall
+            return isCancelled()
+                || current instanceof AbstractWrappedTask task && task.isCompleted()
+                || now - expected > STALE_AFTER;
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * Drops the pending run and frees the key.
+         */
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                this.cancelled = true;
+                this.pending = null;
+                evict();
+            }
+            final WrappedTask current = this.current;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isCancelled() {
+            if (cancelled) {
+                return true;
+            }
+            final WrappedTask current = this.current;
+            return current != null && current.isCancelled();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public @NotNull Plugin getOwningPlugin() {
+            return plugin;
+        }
+    }
+
+    /**
+     * Debounced key, running once its deadline passes without new requests.
+     */
+    private final class Debounce extends KeyState {
+
+        private final long delay;
+        private final long tolerance;
+
+        private long deadline;
+
+        private Debounce(@NotNull Slot slot, @NotNull Runnable runnable, @NotNull PacedTimer.Scheduler scheduler, long delay, long tolerance) {
+            super(debounces, slot, runnable, scheduler);
+            this.delay = delay;
+            this.tolerance = Math.max(0L, tolerance);
+            this.deadline = clock.getAsLong() + delay;
+        }
+
+        @Override
+        protected void start() {
+            arm(delay);
+        }
+
+        @Override
+        protected void accept(@NotNull Runnable runnable) {
+            this.pending = runnable;
+            this.deadline = clock.getAsLong() + delay;
+        }
+
+        @Override
+        protected void fire() {
+            final Runnable runnable;
+            final long remaining;
+            synchronized (this) {
+                if (isEvicted()) {
+                    return;
+                }
+                remaining = deadline - clock.getAsLong();
+                if (remaining > tolerance) {
+                    runnable = null;
+                } else {
+                    runnable = pending;
+                    pending = null;
+                    evict();
+                }
+            }
+            if (runnable == null) {
+                // pushed back by a later request
+                arm(remaining);
+                return;
+            }
+            runnable.run();
+        }
+    }
+
+    /**
+     * Throttled key, running at most once per period.
+     */
+    private final class Throttle extends KeyState {
+
+        private final long period;
+
+        private Throttle(@NotNull Slot slot, @NotNull Runnable runnable, @NotNull PacedTimer.Scheduler scheduler, long period) {
+            super(throttles, slot, runnable, scheduler);
+            this.period = period;
+        }
+
+        @Override
+        protected void start() {
+            arm(0L);
+        }
+
+        @Override
+        protected void accept(@NotNull Runnable runnable) {
+            this.pending = runnable;
+        }
+
+        @Override
+        protected void fire() {
+            final Runnable runnable;
+            synchronized (this) {
+                if (isEvicted()) {
+                    return;
+                }
+                runnable = pending;
+                pending = null;
+                if (runnable == null) {
+                    // no request during the last period
+                    evict();
+                    return;
+                }
+            }
+            // the window is open from this run on, requests made meanwhile run at its end
+            arm(period);
+            runnable.run();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package me.nahu.scheduler.wrapper.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Immutable snapshot of a {@link LatencyHistogram}.
+ */
+public final class HistogramSnapshot {
+
+    private final long[] buckets;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    /**
+     * Main constructor for the snapshot.
+     *
+     * @param buckets Bucket counts, owned by the snapshot from now on.
+     * @param count Amount of recorded values.
+     * @param sum Sum of the recorded values in nanoseconds.
+     * @param max Largest recorded value in nanoseconds.
+     */
+    HistogramSnapshot(long @NotNull [] buckets, long count, long sum, long max) {
+        this.buckets = buckets;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Get the amount of recorded values.
+     *
+     * @return Amount of values.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the mean of the recorded values.
+     *
+     * @return {@link Duration} mean, zero if nothing was recorded.
+     */
+    @NotNull
+    public Duration getMean() {
+        return Duration.ofNanos(count == 0L ? 0L : sum / count);
+    }
+
+    /**
+     * Get the largest recorded value.
+     *
+     * @return {@link Duration} max.
+     */
+    @NotNull
+    public Duration getMax() {
+        return Duration.ofNanos(max);
+    }
+
+    /**
+     * Get the value at the given percentile, rounded up to the upper bound of the bucket it lands in.
+     *
+     * @param percentile Percentile between {@code 0} and {@code 100}.
+     * @return {@link Duration} value at the percentile, zero if nothing was recorded.
+     */
+    @NotNull
+    public Duration getPercentile(double percentile) {
+        if (percentile < 0.0D || percentile > 100.0D) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100!");
+        }
+        long total = 0L;
+        for (long bucket : buckets) {
+            total += bucket;
+        }
+        if (total == 0L) {
+            return Duration.ZERO;
+        }
+
+        final long target = Math.max(1L, (long) Math.ceil(total * percentile / 100.0D));
+        long seen = 0L;
+        for (int index = 0; index < buckets.length; index++) {
+            seen += buckets[index];
+            if (seen >= target) {
+                return Duration.ofNanos(Math.min(LatencyHistogram.upperBoundOf(index), max));
+            }
+        }
+        return Duration.ofNanos(max);
+    }
+
+    /**
+     * Get the amount of values recorded in a bucket.
+     *
+     * @param bucket Bucket index, below {@link LatencyHistogram#BUCKETS}.
+     * @return Amount of values.
+     */
+    public long getBucketCount(int bucket) {
+        return buckets[bucket];
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{" +
+            "count=" + count +
+            ", mean=" + getMean() +
+            ", p50=" + getPercentile(50.0D) +
+            ", p99=" + getPercentile(99.0D) +
+            ", max=" + getMax() +
+            '}';
+    }
+}
@@ -0,0 +1,112 @@
+package me.nahu.scheduler.wrapper.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory latency histogram with log-linear buckets, recording values in nanoseconds.
+ * <p>
+ * Every power of two is split in {@link #SUB_BUCKETS} linear buckets, so any recorded value is off by at most 12.5%
+ * from the bucket it lands in, across the whole {@code long} range. Recording is lock-free and allocation-free.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    /**
+     * Amount of linear buckets per power of two.
+     */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * Total amount of buckets.
+     */
+    public static final int BUCKETS = bucketOf(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a value, negative values are recorded as zero.
+     *
+     * @param nanos Value in nanoseconds.
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // retry until the max is updated or a larger value wins
+        }
+    }
+
+    /**
+     * Take a snapshot of the histogram. Values recorded while the snapshot is taken may be partially included.
+     *
+     * @return {@link HistogramSnapshot} snapshot.
+     */
+    @NotNull
+    public HistogramSnapshot snapshot() {
+        final long[] copy = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++) {
+            copy[index] = buckets.get(index);
+        }
+        return new HistogramSnapshot(copy, count.get(), sum.get(), max.get());
+    }
+
+    /**
+     * Clear every recorded value.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKETS; index++) {
+            buckets.set(index, 0L);
+        }
+        count.set(0L);
+        sum.set(0L);
+        max.set(0L);
+    }
+
+    /**
+     * Get the bucket a value lands in.
+     *
+     * @param value Non-negative value.
+     * @return Bucket index.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Get the smallest value landing in a bucket.
+     *
+     * @param bucket Bucket index.
+     * @return Lower bound of the bucket.
+     */
+    static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * Get the largest value landing in a bucket.
+     *
+     * @param bucket Bucket index.
+     * @return Upper bound of the bucket.
+     */
+    static long upperBoundOf(int bucket) {
+        return bucket + 1 >= BUCKETS ? Long.MAX_VALUE : lowerBoundOf(bucket + 1) - 1;
+    }
+}
@@ -0,0 +1,46 @@
+package me.nahu.scheduler.wrapper.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Runnable carrying a task name, used to break {@link SchedulerMetrics} down per task on top of the task kind.
+ * <p>
+ * Implement it on your own runnable classes to name them without any extra allocation, or wrap a runnable through
+ * {@link #of(String, Runnable)}.
+ */
+public interface NamedRunnable extends Runnable {
+
+    /**
+     * Get the name of the task.
+     *
+     * @return Task name.
+     */
+    @NotNull
+    String getTaskName();
+
+    /**
+     * Name a runnable.
+     *
+     * @param name Name of the task.
+     * @param runnable Runnable to name.
+     * @return {@link NamedRunnable} named runnable.
+     */
+    @NotNull
+    static NamedRunnable of(@NotNull String name, @NotNull Runnable runnable) {
+        Objects.requireNonNull(name, "Name cannot be null!");
+        Objects.requireNonNull(runnable, "Runnable cannot be null!");
+        return new NamedRunnable() {
+            @Override
+            public @NotNull String getTaskName() {
+                return name;
+            }
+
+            @Override
+            public void run() {
+                runnable.run();
+            }
+        };
+    }
+}
@@ -0,0 +1,230 @@
+package me.nahu.scheduler.wrapper.metrics;
+
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Execution metrics for the tasks of a scheduler.
+ * <p>
+ * Two histograms are kept per {@link TaskKind}, and per task name for runnables implementing {@link NamedRunnable}:
+ * <ul>
+ *     <li>Queue delay: how late the task started compared to when it was due. For delayed and repeating tasks this
+ *     only counts the time past the requested delay or period, at 50ms per tick, so it reflects tick lag.</li>
+ *     <li>Run time: how long the task body took.</li>
+ * </ul>
+ * Each histogram has a fixed size, so memory grows only with the amount of distinct task names.
+ */
+public final class SchedulerMetrics {
+
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50L);
+
+    private final LongSupplier clock;
+    private final Histograms[] kinds;
+    private final Map<String, Histograms> names = new ConcurrentHashMap<>();
+
+    /**
+     * Main constructor for the metrics.
+     */
+    public SchedulerMetrics() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructor for metrics measured on a clock other than the system one.
+     *
+     * @param clock Clock measuring the queue delays and run times, in nanoseconds.
+     */
+    public SchedulerMetrics(@NotNull LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null!");
+        final TaskKind[] values = TaskKind.values();
+        this.kinds = new Histograms[values.length];
+        for (int index = 0; index < values.length; index++) {
+            kinds[index] = new Histograms();
+        }
+    }
+
+    /**
+     * Instrument a runnable, recording its queue delay and run time on every execution.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind of the task.
+     * @param delay Requested delay in ticks before the first execution.
+     * @param period Requested period in ticks between executions, zero or less if it only runs once.
+     * @return Instrumented runnable.
+     */
+    @NotNull
+    public Runnable instrument(@NotNull Runnable runnable, @NotNull TaskKind kind, long delay, long period) {
+        return instrument(runnable, kind, Math.max(0L, delay) * NANOS_PER_TICK, Math.max(0L, period) * NANOS_PER_TICK, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Instrument a runnable, recording its queue delay and run time on every execution.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind of the task.
+     * @param delay Requested delay before the first execution.
+     * @param period Requested period between executions, zero or less if it only runs once.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return Instrumented runnable.
+     */
+    @NotNull
+    public Runnable instrument(@NotNull Runnable runnable, @NotNull TaskKind kind, long delay, long period, @NotNull TimeUnit unit) {
+        Objects.requireNonNull(runnable, "Runnable cannot be null!");
+        final Histograms named = runnable instanceof NamedRunnable namedRunnable
+            ? names.computeIfAbsent(namedRunnable.getTaskName(), __ -> new Histograms())
+            : null;
+        return new InstrumentedRunnable(
+            runnable,
+            clock,
+            kinds[kind.ordinal()],
+            named,
+            clock.getAsLong() + unit.toNanos(Math.max(0L, delay)),
+            unit.toNanos(Math.max(0L, period))
+        );
+    }
+
+    /**
+     * Get a snapshot of the queue delay of every task of the given kind.
+     *
+     * @param kind {@link TaskKind} kind of tasks.
+     * @return {@link HistogramSnapshot} snapshot.
+     */
+    @NotNull
+    public HistogramSnapshot getQueueDelay(@NotNull TaskKind kind) {
+        return kinds[kind.ordinal()].queueDelay.snapshot();
+    }
+
+    /**
+     * Get a snapshot of the run time of every task of the given kind.
+     *
+     * @param kind {@link TaskKind} kind of tasks.
+     * @return {@link HistogramSnapshot} snapshot.
+     */
+    @NotNull
+    public HistogramSnapshot getRunTime(@NotNull TaskKind kind) {
+        return kinds[kind.ordinal()].runTime.snapshot();
+    }
+
+    /**
+     * Get a snapshot of the queue delay of every task with the given name.
+     *
+     * @param name Name of the tasks.
+     * @return {@link HistogramSnapshot} snapshot, {@code null} if no task with that name was scheduled.
+     */
+    @Nullable
+    public HistogramSnapshot getQueueDelay(@NotNull String name) {
+        final Histograms histograms = names.get(name);
+        return histograms == null ? null : histograms.queueDelay.snapshot();
+    }
+
+    /**
+     * Get a snapshot of the run time of every task with the given name.
+     *
+     * @param name Name of the tasks.
+     * @return {@link HistogramSnapshot} snapshot, {@code null} if no task with that name was scheduled.
+     */
+    @Nullable
+    public HistogramSnapshot getRunTime(@NotNull String name) {
+        final Histograms histograms = names.get(name);
+        return histograms == null ? null : histograms.runTime.snapshot();
+    }
+
+    /**
+     * Get the names of every named task scheduled so far.
+     *
+     * @return Unmodifiable set of names.
+     */
+    @NotNull
+    public Set<String> getTaskNames() {
+        return Set.copyOf(names.keySet());
+    }
+
+    /**
+     * Clear every recorded value. Task names are kept.
+     */
+    public void reset() {
+        for (Histograms histograms : kinds) {
+            histograms.reset();
+        }
+        names.values().forEach(Histograms::reset);
+    }
+
+    /**
+     * Queue delay and run time histograms.
+     */
+    private static final class Histograms {
+
+        private final LatencyHistogram queueDelay = new LatencyHistogram();
+        private final LatencyHistogram runTime = new LatencyHistogram();
+
+        private void reset() {
+            queueDelay.reset();
+            runTime.reset();
+        }
+    }
+
+    /**
+     * Runnable recording its own execution, named after the runnable it instruments.
+     */
+    private static final class InstrumentedRunnable implements NamedRunnable {
+
+        private final Runnable runnable;
+        private final LongSupplier clock;
+        private final Histograms kind;
+        private final Histograms named;
+        private final long period;
+
+        private long due;
+
+        private InstrumentedRunnable(
+            @NotNull Runnable runnable,
+            @NotNull LongSupplier clock,
+            @NotNull Histograms kind,
+            @Nullable Histograms named,
+            long due,
+            long period
+        ) {
+            this.runnable = runnable;
+            this.clock = clock;
+            this.kind = kind;
+            this.named = named;
+            this.due = due;
+            this.period = period;
+        }
+
+        @Override
+        public @NotNull String getTaskName() {
+            return runnable instanceof NamedRunnable namedRunnable ? namedRunnable.getTaskName() : runnable.getClass().getName();
+        }
+
+        @Override
+        public void run() {
+            final long start = clock.getAsLong();
+            final long queueDelay = start - due;
+            // repeating tasks are due one period after their previous start, so lag does not pile up
+            due = start + period;
+            kind.queueDelay.record(queueDelay);
+            if (named != null) {
+                named.queueDelay.record(queueDelay);
+            }
+
+            try {
+                runnable.run();
+            } finally {
+                final long runTime = clock.getAsLong() - start;
+                kind.runTime.record(runTime);
+                if (named != null) {
+                    named.runTime.record(runTime);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package me.nahu.scheduler.wrapper.queue;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Lock-free multi-producer queue, drained by a single scheduled task.
+ * <p>
+ * Runnables submitted before the drain task starts all run inside that one task, instead of each of them creating a
+ * platform task of its own. Runnables submitted while draining are left for the next drain, so a task that keeps
+ * resubmitting itself cannot stall the thread.
+ */
+public final class CoalescingQueue {
+
+    private final Plugin plugin;
+    private final Consumer<Runnable> drainScheduler;
+    private final Runnable drainTask = this::drain;
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    /**
+     * Main constructor for the coalescing queue.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param drainScheduler Schedules the drain task on the thread the runnables should run at.
+     */
+    public CoalescingQueue(@NotNull Plugin plugin, @NotNull Consumer<Runnable> drainScheduler) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.drainScheduler = Objects.requireNonNull(drainScheduler, "Drain scheduler cannot be null!");
+    }
+
+    /**
+     * Submit a runnable, scheduling the drain task if none is pending.
+     *
+     * @param runnable Runnable to run.
+     */
+    public void submit(@NotNull Runnable runnable) {
+        queue.offer(Objects.requireNonNull(runnable, "Runnable cannot be null!"));
+        pending.incrementAndGet();
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                drainScheduler.accept(drainTask);
+            } catch (RuntimeException exception) {
+                drainScheduled.set(false);
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Get the amount of runnables waiting for the next drain.
+     *
+     * @return Amount of pending runnables.
+     */
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Drop every pending runnable and forget about the scheduled drain task. Call it once the platform tasks of the
+     * plugin are cancelled, as a cancelled drain would otherwise keep every later submission from being drained.
+     */
+    public void cancelAll() {
+        int dropped = 0;
+        while (queue.poll() != null) {
+            dropped++;
+        }
+        pending.addAndGet(-dropped);
+        drainScheduled.set(false);
+    }
+
+    private void drain() {
+        // reset before reading the budget, anything submitted from now on schedules a drain of its own
+        drainScheduled.set(false);
+        final int budget = pending.get();
+
+        int drained = 0;
+        Runnable runnable;
+        while (drained < budget && (runnable = queue.poll()) != null) {
+            drained++;
+            try {
+                runnable.run();
+            } catch (Throwable throwable) {
+                plugin.getLogger().log(Level.SEVERE, "Coalesced task generated an exception", throwable);
+            }
+        }
+        pending.addAndGet(-drained);
+    }
+}
@@ -2,17 +2,48 @@ package me.nahu.scheduler.wrapper.runnable;
 
 import me.nahu.scheduler.wrapper.WrappedJavaPlugin;
 import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.metrics.NamedRunnable;
 import me.nahu.scheduler.wrapper.task.WrappedTask;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
 
 /**
  * Wrapped runnable intended to replace {@link org.bukkit.scheduler.BukkitRunnable}.
+ * <p>
+ * Its state is kept lock-free: idle, scheduled, running, then cancelled or done. Once cancelled or done, the same
+ * instance can be scheduled again, so runnables can be pooled.
  */
 public abstract class WrappedRunnable implements Runnable {
 
-    private WrappedTask wrappedTask;
+    private static final int IDLE = 0;
+    private static final int SCHEDULED = 1;
+    private static final int RUNNING = 2;
+    private static final int CANCELLED = 3;
+    private static final int DONE = 4;
+
+    private static final int PHASE_BITS = 3;
+    private static final int PHASE_MASK = (1 << PHASE_BITS) - 1;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(WrappedRunnable.class, "state", int.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    // phase in the low bits, and how many times it was scheduled in the others
+    private volatile int state = IDLE;
+    private volatile boolean repeating;
+    private volatile Binding binding;
 
     /**
      * Run a new task.
@@ -26,8 +57,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTask(@NotNull WrappedScheduler scheduler) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTask(this));
+        return schedule(false, runnable -> scheduler.runTask(runnable));
     }
 
     /**
@@ -57,8 +87,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTaskAsynchronously(@NotNull WrappedScheduler scheduler) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskAsynchronously(this));
+        return schedule(false, runnable -> scheduler.runTaskAsynchronously(runnable));
     }
 
     /**
@@ -80,6 +109,7 @@ public abstract class WrappedRunnable implements Runnable {
      * Run a new task.
      * <p>
      * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
      * <p>
      * Paper: Synced with the server main thread.
      *
@@ -87,15 +117,16 @@ public abstract class WrappedRunnable implements Runnable {
      * @param entity Entity to run the task at.
      * @return {@link WrappedTask} task reference.
      */
-    @NotNull
+    @Nullable
     public WrappedTask runTaskAtEntity(@NotNull WrappedScheduler scheduler, @NotNull Entity entity) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskAtEntity(entity, this));
+        return schedule(false, runnable -> scheduler.runTaskAtEntity(entity, runnable));
     }
+
     /**
      * Run a new task.
      * <p>
      * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
      * <p>
      * Paper: Synced with the server main thread.
      *
@@ -103,7 +134,7 @@ public abstract class WrappedRunnable implements Runnable {
      * @param entity Entity to run the task at.
      * @return {@link WrappedTask} task reference.
      */
-    @NotNull
+    @Nullable
     public WrappedTask runTaskAtEntity(@NotNull WrappedJavaPlugin plugin, @NotNull Entity entity) {
         return runTaskAtEntity(plugin.getScheduler(), entity);
     }
@@ -121,8 +152,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTaskAtLocation(@NotNull WrappedScheduler scheduler, @NotNull Location location) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskAtLocation(location, this));
+        return schedule(false, runnable -> scheduler.runTaskAtLocation(location, runnable));
     }
 
     /**
@@ -155,8 +185,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTaskTimer(@NotNull WrappedScheduler scheduler, long delay, long period) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskTimer(this, delay, period));
+        return schedule(true, runnable -> scheduler.runTaskTimer(runnable, delay, period));
     }
 
     /**
@@ -190,8 +219,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTaskTimerAsynchronously(@NotNull WrappedScheduler scheduler, long delay, long period) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskTimerAsynchronously(this, delay, period));
+        return schedule(true, runnable -> scheduler.runTaskTimerAsynchronously(runnable, delay, period));
     }
 
     /**
@@ -215,6 +243,7 @@ public abstract class WrappedRunnable implements Runnable {
      * Run a new task timer.
      * <p>
      * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
      * <p>
      * Paper: Synced with the server main thread.
      *
@@ -224,16 +253,16 @@ public abstract class WrappedRunnable implements Runnable {
      * @param period Delay between executions. Must be greater than zero.
      * @return {@link WrappedTask} task reference.
      */
-    @NotNull
+    @Nullable
     public WrappedTask runTaskTimerAtEntity(@NotNull WrappedScheduler scheduler, @NotNull Entity entity, long delay, long period) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskTimerAtEntity(entity, this, delay, period));
+        return schedule(true, runnable -> scheduler.runTaskTimerAtEntity(entity, runnable, delay, period));
     }
 
     /**
      * Run a new task timer.
      * <p>
      * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
      * <p>
      * Paper: Synced with the server main thread.
      *
@@ -243,7 +272,7 @@ public abstract class WrappedRunnable implements Runnable {
      * @param period Delay between executions. Must be greater than zero.
      * @return {@link WrappedTask} task reference.
      */
-    @NotNull
+    @Nullable
     public WrappedTask runTaskTimerAtEntity(@NotNull WrappedJavaPlugin plugin, @NotNull Entity entity, long delay, long period) {
         return runTaskTimerAtEntity(plugin.getScheduler(), entity, delay, period);
     }
@@ -263,8 +292,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTaskTimerAtLocation(@NotNull WrappedScheduler scheduler, @NotNull Location location, long delay, long period) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskTimerAtLocation(location, this, delay, period));
+        return schedule(true, runnable -> scheduler.runTaskTimerAtLocation(location, runnable, delay, period));
     }
 
     /**
@@ -298,8 +326,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTaskLater(@NotNull WrappedScheduler scheduler, long delay) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskLater(this, delay));
+        return schedule(false, runnable -> scheduler.runTaskLater(runnable, delay));
     }
 
     /**
@@ -331,8 +358,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTaskLaterAsynchronously(@NotNull WrappedScheduler scheduler, long delay) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskLaterAsynchronously(this, delay));
+        return schedule(false, runnable -> scheduler.runTaskLaterAsynchronously(runnable, delay));
     }
 
     /**
@@ -355,6 +381,7 @@ public abstract class WrappedRunnable implements Runnable {
      * Run a new task later.
      * <p>
      * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
      * <p>
      * Paper: Synced with the server main thread.
      *
@@ -363,16 +390,16 @@ public abstract class WrappedRunnable implements Runnable {
      * @param delay Delay before first execution. Must be greater than zero.
      * @return {@link WrappedTask} task reference.
      */
-    @NotNull
+    @Nullable
     public WrappedTask runTaskLaterAtEntity(@NotNull WrappedScheduler scheduler, @NotNull Entity entity, long delay) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskLaterAtEntity(entity, this, delay));
+        return schedule(false, runnable -> scheduler.runTaskLaterAtEntity(entity, runnable, delay));
     }
 
     /**
      * Run a new task later.
      * <p>
      * Folia: Synced with the tick of the region of the entity (even if the entity moves).
+     * If the entity is not valid the task will not run, and {@code null} will be returned.
      * <p>
      * Paper: Synced with the server main thread.
      *
@@ -381,7 +408,7 @@ public abstract class WrappedRunnable implements Runnable {
      * @param delay Delay before first execution. Must be greater than zero.
      * @return {@link WrappedTask} task reference.
      */
-    @NotNull
+    @Nullable
     public WrappedTask runTaskLaterAtEntity(@NotNull WrappedJavaPlugin plugin, @NotNull Entity entity, long delay) {
         return runTaskLaterAtEntity(plugin.getScheduler(), entity, delay);
     }
@@ -400,8 +427,7 @@ public abstract class WrappedRunnable implements Runnable {
      */
     @NotNull
     public WrappedTask runTaskLaterAtLocation(@NotNull WrappedScheduler scheduler, @NotNull Location location, long delay) {
-        checkNotYetScheduled();
-        return setupTask(scheduler.runTaskLaterAtLocation(location, this, delay));
+        return schedule(false, runnable -> scheduler.runTaskLaterAtLocation(location, runnable, delay));
     }
 
     /**
@@ -423,40 +449,181 @@ public abstract class WrappedRunnable implements Runnable {
 
     /**
      * Returns true if this task has been cancelled.
+     * <p>
+     * Lock-free, so it is cheap to check from the task itself on every run.
      *
      * @return true if the task has been cancelled
      * @throws IllegalStateException if task was not scheduled yet
      */
-    public synchronized boolean isCancelled() throws IllegalStateException {
-        checkScheduled();
-        return wrappedTask.isCancelled();
+    public boolean isCancelled() throws IllegalStateException {
+        final int state = this.state;
+        final int phase = phaseOf(state);
+        if (phase == IDLE) {
+            throw new IllegalStateException("Not scheduled yet");
+        }
+        if (phase == CANCELLED) {
+            return true;
+        }
+        if (phase == DONE) {
+            return false;
+        }
+        return isCancelledExternally();
+    }
+
+    /**
+     * Check if this task is scheduled or running. Once it is not, it can be scheduled again.
+     *
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    public boolean isScheduled() {
+        final int phase = phaseOf(state);
+        return phase == RUNNING || phase == SCHEDULED && !isCancelledExternally();
     }
 
     /**
-     * Attempts to cancel this task.
+     * Attempts to cancel this task. Does nothing if it already finished.
      *
      * @throws IllegalStateException if task was not scheduled yet
      */
-    public synchronized void cancel() throws IllegalStateException {
-        checkScheduled();
-        wrappedTask.cancel();
+    public void cancel() throws IllegalStateException {
+        while (true) {
+            final int state = this.state;
+            final int phase = phaseOf(state);
+            if (phase == IDLE) {
+                throw new IllegalStateException("Not scheduled yet");
+            }
+            if (phase == CANCELLED || phase == DONE) {
+                return;
+            }
+            if (STATE.compareAndSet(this, state, withPhase(state, CANCELLED))) {
+                cancelBound(generationOf(state));
+                return;
+            }
+        }
     }
 
-    private void checkScheduled() {
+    @Nullable
+    private WrappedTask schedule(boolean repeating, @NotNull Function<Runnable, WrappedTask> scheduling) {
+        final int armed = arm();
+        this.repeating = repeating;
+        // the previous task is done or cancelled, and must not leak into the state of this one
+        this.binding = null;
+        final WrappedTask wrappedTask;
+        try {
+            wrappedTask = scheduling.apply(new Dispatcher(generationOf(armed)));
+        } catch (RuntimeException exception) {
+            STATE.compareAndSet(this, armed, withPhase(armed, DONE));
+            throw exception;
+        }
         if (wrappedTask == null) {
-            throw new IllegalStateException("Not scheduled yet");
+            STATE.compareAndSet(this, armed, withPhase(armed, DONE));
+            return null;
+        }
+
+        final int state = this.state;
+        if (generationOf(state) != generationOf(armed)) {
+            // cancelled and scheduled again while this one was being scheduled
+            wrappedTask.cancel();
+            return wrappedTask;
+        }
+        this.binding = new Binding(generationOf(armed), wrappedTask);
+        if (phaseOf(this.state) == CANCELLED) {
+            wrappedTask.cancel();
         }
+        return wrappedTask;
     }
 
-    private void checkNotYetScheduled() {
-        if (wrappedTask != null) {
-            throw new IllegalStateException("Task is already scheduled!");
+    private int arm() {
+        while (true) {
+            final int state = this.state;
+            final int phase = phaseOf(state);
+            if (phase == RUNNING || phase == SCHEDULED && !isCancelledExternally()) {
+                throw new IllegalStateException("Task is already scheduled!");
+            }
+            final int armed = ((generationOf(state) + 1) << PHASE_BITS) | SCHEDULED;
+            if (STATE.compareAndSet(this, state, armed)) {
+                return armed;
+            }
         }
     }
 
-    @NotNull
-    private WrappedTask setupTask(@NotNull final WrappedTask wrappedTask) {
-        this.wrappedTask = wrappedTask;
-        return wrappedTask;
+    private void dispatch(int generation) {
+        final int state = this.state;
+        if (generationOf(state) != generation) {
+            // a late run of a task scheduled before, which must not run the body for the task scheduled since
+            return;
+        }
+        if (phaseOf(state) != SCHEDULED || !STATE.compareAndSet(this, state, withPhase(state, RUNNING))) {
+            if (this.state == withPhase(state, CANCELLED)) {
+                // stop a repeating task that was cancelled before it was bound
+                cancelBound(generation);
+            }
+            return;
+        }
+        try {
+            run();
+        } finally {
+            // stays cancelled if the task cancelled itself
+            STATE.compareAndSet(this, withPhase(state, RUNNING), withPhase(state, repeating ? SCHEDULED : DONE));
+        }
+    }
+
+    private boolean isCancelledExternally() {
+        // cancelled through the scheduler, so it never reached the cancelled phase
+        final Binding binding = this.binding;
+        return binding != null && binding.task().isCancelled();
+    }
+
+    private void cancelBound(int generation) {
+        // once cancelled, the runnable may be scheduled again, so only the task of that generation is cancelled
+        final Binding binding = this.binding;
+        if (binding != null && binding.generation() == generation) {
+            binding.task().cancel();
+        }
+    }
+
+    private static int phaseOf(int state) {
+        return state & PHASE_MASK;
+    }
+
+    private static int generationOf(int state) {
+        return state >>> PHASE_BITS;
+    }
+
+    private static int withPhase(int state, int phase) {
+        return (state & ~PHASE_MASK) | phase;
+    }
+
+    /**
+     * Task scheduled for a generation of the runnable.
+     *
+     * @param generation How many times the runnable was scheduled when the task was.
+     * @param task {@link WrappedTask} task scheduled.
+     */
+    private record Binding(int generation, @NotNull WrappedTask task) {
+    }
+
+    /**
+     * Runnable handed to the schedulers for a generation of the runnable, tracking the state of the task around each
+     * run. A run only goes through while the runnable is still at that generation.
+     */
+    private final class Dispatcher implements NamedRunnable {
+
+        private final int generation;
+
+        private Dispatcher(int generation) {
+            this.generation = generation;
+        }
+
+        @Override
+        public @NotNull String getTaskName() {
+            final WrappedRunnable runnable = WrappedRunnable.this;
+            return runnable instanceof NamedRunnable namedRunnable ? namedRunnable.getTaskName() : runnable.getClass().getName();
+        }
+
+        @Override
+        public void run() {
+            dispatch(generation);
+        }
     }
 }
@@ -0,0 +1,151 @@
+package me.nahu.scheduler.wrapper.task;
+
+import me.nahu.scheduler.wrapper.jfr.TaskEvents;
+import me.nahu.scheduler.wrapper.jfr.TaskTrace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Base for the wrapped tasks created by the schedulers.
+ * <p>
+ * Runs the task body, and takes care of leaving the {@link TaskRegistry} once the task is done for good: after its
+ * only run, or once it is cancelled.
+ */
+public abstract class AbstractWrappedTask implements WrappedTask, Runnable {
+
+    private final Runnable runnable;
+    private final TaskKind kind;
+    private final boolean repeating;
+    private final boolean traced;
+
+    private volatile TaskRegistry registry;
+    private volatile WrappedTaskFuture<?> future;
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    // set while the body is executing, which completes a bound future on its own
+    private volatile boolean running;
+
+    /**
+     * Main constructor for the wrapped task.
+     *
+     * @param runnable Runnable to run.
+     * @param kind {@link TaskKind} kind of the task.
+     * @param repeating Whether the task is repeating.
+     */
+    protected AbstractWrappedTask(@NotNull Runnable runnable, @NotNull TaskKind kind, boolean repeating) {
+        this.runnable = Objects.requireNonNull(runnable, "Runnable cannot be null!");
+        this.kind = Objects.requireNonNull(kind, "Kind cannot be null!");
+        this.repeating = repeating;
+        // decided by the runnable itself, as a recording may start or stop between submission and this point
+        this.traced = runnable instanceof TaskTrace;
+    }
+
+    /**
+     * Get the kind of the task.
+     *
+     * @return {@link TaskKind} kind.
+     */
+    @NotNull
+    public TaskKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Check if the task is repeating.
+     *
+     * @return {@code true} if it is repeating, {@code false} if it only runs once.
+     */
+    public boolean isRepeating() {
+        return repeating;
+    }
+
+    /**
+     * Check if the task is done for good, either because it ran or because it was cancelled.
+     *
+     * @return {@code true} if it is completed, {@code false} otherwise.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Run the task body.
+     */
+    @Override
+    public void run() {
+        running = true;
+        try {
+            // traced runnables record their own runs, with the details known at submission
+            if (!traced && TaskEvents.isExecutionEnabled()) {
+                TaskEvents.execute(this, runnable);
+            } else {
+                runnable.run();
+            }
+        } finally {
+            running = false;
+            if (!repeating) {
+                complete();
+            } else if (cancelled) {
+                // cancelled while this run was executing, so the future was left to end here
+                endFuture();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void cancel() {
+        final boolean wasCompleted = completed;
+        this.cancelled = true;
+        cancelTask();
+        complete();
+        if (!wasCompleted) {
+            TaskEvents.cancelled(this, runnable);
+        }
+    }
+
+    /**
+     * Mark the task as done for good, without cancelling it. Used when the platform drops the task on its own.
+     * <p>
+     * A future bound to the task and not completed by its body by now is completed as well, so it never waits on a task
+     * that will not run. While the body is executing, the future is left to it, and only ended once the run returns.
+     */
+    public void complete() {
+        this.completed = true;
+        final TaskRegistry registry = this.registry;
+        if (registry != null) {
+            registry.unregister(this);
+        }
+        if (!running) {
+            endFuture();
+        }
+    }
+
+    /**
+     * Cancel the underlying platform task.
+     */
+    protected abstract void cancelTask();
+
+    void attach(@Nullable TaskRegistry registry) {
+        this.registry = registry;
+    }
+
+    void attach(@NotNull WrappedTaskFuture<?> future) {
+        this.future = future;
+        // the task may have ended before the future was bound to it
+        if (completed && !running) {
+            future.taskEnded(cancelled);
+        }
+    }
+
+    private void endFuture() {
+        final WrappedTaskFuture<?> future = this.future;
+        if (future != null) {
+            future.taskEnded(cancelled);
+        }
+    }
+}
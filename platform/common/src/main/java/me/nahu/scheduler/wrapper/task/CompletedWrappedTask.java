@@ -0,0 +1,50 @@
+package me.nahu.scheduler.wrapper.task;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Wrapped task that already ran inline, returned instead of a scheduled task. Cancelling it does nothing.
+ */
+public final class CompletedWrappedTask implements WrappedTask {
+
+    private final Plugin plugin;
+
+    /**
+     * Main constructor for the completed task.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     */
+    public CompletedWrappedTask(@NotNull Plugin plugin) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The task already ran, so this does nothing.
+     */
+    @Override
+    public void cancel() {
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always {@code false}, the task already ran.
+     */
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return plugin;
+    }
+}
@@ -0,0 +1,82 @@
+package me.nahu.scheduler.wrapper.task;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Wrapped task grouping several scheduled tasks under a single reference.
+ */
+public final class CompositeWrappedTask implements WrappedTask {
+
+    private final Plugin plugin;
+    private final List<WrappedTask> tasks;
+
+    private volatile boolean cancelled;
+
+    /**
+     * Main constructor for the composite task.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param tasks Tasks to group.
+     */
+    public CompositeWrappedTask(@NotNull Plugin plugin, @NotNull List<WrappedTask> tasks) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.tasks = List.copyOf(tasks);
+    }
+
+    /**
+     * Get the grouped tasks.
+     *
+     * @return Unmodifiable list of tasks.
+     */
+    @NotNull
+    public List<WrappedTask> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cancels every grouped task.
+     */
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+        for (WrappedTask task : tasks) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only {@code true} once this task or every grouped task is cancelled, so an empty group is only cancelled once
+     * {@link #cancel()} is called.
+     */
+    @Override
+    public boolean isCancelled() {
+        if (cancelled) {
+            return true;
+        }
+        if (tasks.isEmpty()) {
+            return false;
+        }
+        for (WrappedTask task : tasks) {
+            if (!task.isCancelled()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return plugin;
+    }
+}
@@ -0,0 +1,93 @@
+package me.nahu.scheduler.wrapper.task;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Wrapped task handing itself to its consumer on every run, so repeating tasks can cancel themselves without
+ * capturing their own reference.
+ * <p>
+ * Schedule it as the runnable of a task, and bind it to the scheduled task afterwards. It can be cancelled before it
+ * is bound, including from its own first run.
+ */
+public final class ConsumerWrappedTask implements WrappedTask, Runnable {
+
+    private final Plugin plugin;
+    private final Consumer<? super WrappedTask> consumer;
+
+    private volatile WrappedTask task;
+    private volatile boolean cancelRequested;
+
+    /**
+     * Main constructor for the consumer task.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param consumer Consumer to run with this task.
+     */
+    public ConsumerWrappedTask(@NotNull Plugin plugin, @NotNull Consumer<? super WrappedTask> consumer) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.consumer = Objects.requireNonNull(consumer, "Consumer cannot be null!");
+    }
+
+    /**
+     * Bind the consumer task to the scheduled task.
+     *
+     * @param task {@link WrappedTask} scheduled task, {@code null} if it was not scheduled.
+     * @return This consumer task, {@code null} if the task was not scheduled.
+     */
+    @Nullable
+    public ConsumerWrappedTask bind(@Nullable WrappedTask task) {
+        if (task == null) {
+            return null;
+        }
+        this.task = task;
+        // the first run may have cancelled it before the scheduler returned
+        if (cancelRequested) {
+            task.cancel();
+        }
+        return this;
+    }
+
+    /**
+     * Run the consumer with this task.
+     */
+    @Override
+    public void run() {
+        if (!cancelRequested) {
+            consumer.accept(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancel() {
+        this.cancelRequested = true;
+        final WrappedTask task = this.task;
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCancelled() {
+        final WrappedTask task = this.task;
+        return task == null ? cancelRequested : task.isCancelled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return plugin;
+    }
+}
@@ -0,0 +1,25 @@
+package me.nahu.scheduler.wrapper.task;
+
+/**
+ * Kind of execution context a task runs in.
+ */
+public enum TaskKind {
+
+    /**
+     * Synced with the server daylight cycle tick on Folia, or the main thread on Paper.
+     */
+    GLOBAL,
+    /**
+     * Run in the dedicated async threads.
+     */
+    ASYNC,
+    /**
+     * Synced with the tick of the region owning a location.
+     */
+    LOCATION,
+    /**
+     * Synced with the tick of the region owning an entity.
+     */
+    ENTITY,
+    ;
+}
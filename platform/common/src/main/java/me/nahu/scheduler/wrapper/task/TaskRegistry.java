@@ -0,0 +1,99 @@
+package me.nahu.scheduler.wrapper.task;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of live tasks, split by {@link TaskKind}.
+ * <p>
+ * Backed by concurrent hash sets, so registration and removal only contend on the same bin. Tasks leave the registry
+ * on their own once they complete, see {@link AbstractWrappedTask}.
+ */
+public final class TaskRegistry {
+
+    private static final TaskKind[] KINDS = TaskKind.values();
+
+    private final Set<AbstractWrappedTask>[] tasks;
+
+    /**
+     * Main constructor for the registry.
+     */
+    @SuppressWarnings("unchecked")
+    public TaskRegistry() {
+        this.tasks = new Set[KINDS.length];
+        for (int index = 0; index < KINDS.length; index++) {
+            tasks[index] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    /**
+     * Register a live task. Tasks that complete before or while being registered are left out.
+     *
+     * @param task Task to register.
+     */
+    public void register(@NotNull AbstractWrappedTask task) {
+        task.attach(this);
+        final Set<AbstractWrappedTask> tasks = this.tasks[task.getKind().ordinal()];
+        tasks.add(task);
+        // the task may have completed before it could find the registry
+        if (task.isCompleted()) {
+            tasks.remove(task);
+        }
+    }
+
+    /**
+     * Remove a task from the registry.
+     *
+     * @param task Task to remove.
+     */
+    public void unregister(@NotNull AbstractWrappedTask task) {
+        tasks[task.getKind().ordinal()].remove(task);
+    }
+
+    /**
+     * Get the amount of live tasks of the given kind.
+     *
+     * @param kind {@link TaskKind} kind of tasks.
+     * @return Amount of live tasks.
+     */
+    public int getLiveCount(@NotNull TaskKind kind) {
+        return tasks[kind.ordinal()].size();
+    }
+
+    /**
+     * Get the amount of live tasks of every kind.
+     *
+     * @return Amount of live tasks.
+     */
+    public int getLiveCount() {
+        int count = 0;
+        for (Set<AbstractWrappedTask> tasks : this.tasks) {
+            count += tasks.size();
+        }
+        return count;
+    }
+
+    /**
+     * Cancel every live task.
+     */
+    public void cancelAll() {
+        for (Set<AbstractWrappedTask> tasks : this.tasks) {
+            // concurrent set iterators tolerate the removal done by cancelling
+            tasks.forEach(AbstractWrappedTask::cancel);
+        }
+    }
+
+    /**
+     * Get a snapshot of the live tasks of the given kind.
+     *
+     * @param kind {@link TaskKind} kind of tasks.
+     * @return List of live tasks.
+     */
+    @NotNull
+    public List<WrappedTask> getLiveTasks(@NotNull TaskKind kind) {
+        return List.copyOf(tasks[kind.ordinal()]);
+    }
+}
@@ -0,0 +1,126 @@
+package me.nahu.scheduler.wrapper.task;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Future completed by a scheduled task, directly on the thread executing it.
+ * <p>
+ * Cancelling the future cancels the scheduled task as well. Dependent stages are plain futures, so cancelling them
+ * does not reach back to the task. The other way around, a task cancelled or dropped before completing the future
+ * cancels or rejects it, so callers never wait on a task that will not run.
+ *
+ * @param <T> Type of the supplied value.
+ */
+public final class WrappedTaskFuture<T> extends CompletableFuture<T> {
+
+    private volatile WrappedTask task;
+
+    /**
+     * Get the runnable supplying the value of this future, to be scheduled as the task body.
+     *
+     * @param supplier Supplier of the value.
+     * @return Runnable completing this future.
+     */
+    @NotNull
+    public Runnable supplying(@NotNull Supplier<? extends T> supplier) {
+        Objects.requireNonNull(supplier, "Supplier cannot be null!");
+        return () -> {
+            if (isDone()) {
+                return;
+            }
+            try {
+                complete(supplier.get());
+            } catch (Throwable throwable) {
+                completeExceptionally(throwable);
+            }
+        };
+    }
+
+    /**
+     * Bind the future to the scheduled task. If no task was scheduled, the future is rejected.
+     *
+     * @param task {@link WrappedTask} scheduled task, may be {@code null}.
+     * @return This future.
+     */
+    @NotNull
+    public WrappedTaskFuture<T> bind(@Nullable WrappedTask task) {
+        if (task == null) {
+            reject("Task was not accepted by the scheduler!");
+            return this;
+        }
+        this.task = task;
+        if (task instanceof AbstractWrappedTask wrappedTask) {
+            wrappedTask.attach(this);
+        }
+        // the future may have been cancelled before the scheduler returned
+        if (isCancelled()) {
+            task.cancel();
+        }
+        return this;
+    }
+
+    /**
+     * Complete the future exceptionally with a {@link RejectedExecutionException}, used when the task will never run.
+     *
+     * @param message Message of the exception.
+     */
+    public void reject(@NotNull String message) {
+        completeExceptionally(new RejectedExecutionException(message));
+    }
+
+    /**
+     * Complete the future once its task ended, if the task body did not complete it.
+     *
+     * @param cancelled Whether the task was cancelled, rather than dropped by the platform.
+     */
+    void taskEnded(boolean cancelled) {
+        if (isDone()) {
+            return;
+        }
+        if (cancelled) {
+            completeExceptionally(new CancellationException("Task was cancelled before it could run!"));
+        } else {
+            reject("Task ended before it could run!");
+        }
+    }
+
+    /**
+     * Get the scheduled task completing this future.
+     *
+     * @return {@link WrappedTask} task, {@code null} if it is not bound yet or was never scheduled.
+     */
+    @Nullable
+    public WrappedTask getTask() {
+        return task;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cancels the scheduled task as well.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        final boolean cancelled = super.cancel(mayInterruptIfRunning);
+        final WrappedTask task = this.task;
+        if (cancelled && task != null) {
+            task.cancel();
+        }
+        return cancelled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,20 @@
+package me.nahu.scheduler.wrapper.timer;
+
+/**
+ * What a {@link TimerMode#FIXED_RATE} timer does with the runs whose due time passed during a stall.
+ */
+public enum MissedRunPolicy {
+    /**
+     * Run every missed run, one per scheduling step, until the timer is back on its grid. Nothing is lost, but the
+     * runs following a stall come closer together than the period.
+     */
+    CATCH_UP,
+    /**
+     * Drop the missed runs and wait for the next due time on the original grid, keeping the phase of the timer.
+     */
+    SKIP,
+    /**
+     * Fold the missed runs into a single run as soon as possible, then restart the grid from it.
+     */
+    COALESCE
+}
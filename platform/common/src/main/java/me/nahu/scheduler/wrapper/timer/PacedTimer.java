@@ -0,0 +1,288 @@
+package me.nahu.scheduler.wrapper.timer;
+
+import me.nahu.scheduler.wrapper.metrics.NamedRunnable;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Repeating task paced by a {@link TimerPolicy} on a clock, instead of by the repetition of the platform.
+ * <p>
+ * Each run is a one-off delayed task, scheduled once the previous run finished with the delay the policy asks for.
+ * Only one run is ever pending, so the timer counts as a single live task, and cancelling it cancels that run. The
+ * timer stops for good once it is cancelled, once its pending or executing run is cancelled, or once the scheduler
+ * refuses the next run, such as after a shutdown.
+ */
+public final class PacedTimer implements WrappedTask, Runnable {
+
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50L);
+
+    private final Plugin plugin;
+    private final LongSupplier clock;
+    private final Runnable runnable;
+    private final Runnable step;
+    private final TimerPolicy policy;
+    private final long period;
+    private final long tolerance;
+    private final Scheduler scheduler;
+
+    private volatile PacedTimerRegistry registry;
+    private long due;
+    private volatile long missedRuns;
+    private volatile WrappedTask current;
+    private volatile boolean cancelled;
+
+    /**
+     * Main constructor for the timer. Nothing is scheduled until {@link #start(long)} is called.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param runnable Runnable to run.
+     * @param policy {@link TimerPolicy} pacing of the runs.
+     * @param period Period between runs, in nanoseconds. Must be greater than zero.
+     * @param tolerance Lateness in nanoseconds a run may have before it counts as missed, usually the resolution of
+     *                  the scheduler running it.
+     * @param scheduler {@link Scheduler} scheduling each run.
+     */
+    public PacedTimer(@NotNull Plugin plugin, @NotNull Runnable runnable, @NotNull TimerPolicy policy, long period, long tolerance, @NotNull Scheduler scheduler) {
+        this(plugin, System::nanoTime, runnable, policy, period, tolerance, scheduler);
+    }
+
+    /**
+     * Constructor for a timer paced on a clock other than the system one. Nothing is scheduled until
+     * {@link #start(long)} is called.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param clock Clock pacing the runs, in nanoseconds.
+     * @param runnable Runnable to run.
+     * @param policy {@link TimerPolicy} pacing of the runs.
+     * @param period Period between runs, in nanoseconds. Must be greater than zero.
+     * @param tolerance Lateness in nanoseconds a run may have before it counts as missed, usually the resolution of
+     *                  the scheduler running it.
+     * @param scheduler {@link Scheduler} scheduling each run.
+     */
+    public PacedTimer(
+        @NotNull Plugin plugin,
+        @NotNull LongSupplier clock,
+        @NotNull Runnable runnable,
+        @NotNull TimerPolicy policy,
+        long period,
+        long tolerance,
+        @NotNull Scheduler scheduler
+    ) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null!");
+        this.runnable = Objects.requireNonNull(runnable, "Runnable cannot be null!");
+        this.policy = Objects.requireNonNull(policy, "Policy cannot be null!");
+        this.scheduler = Objects.requireNonNull(scheduler, "Scheduler cannot be null!");
+        if (period <= 0L) {
+            throw new IllegalArgumentException("Period must be greater than zero!");
+        }
+        this.period = period;
+        this.tolerance = Math.max(0L, tolerance);
+        // keep the name of the runnable for the metrics and the watchdog
+        this.step = runnable instanceof NamedRunnable namedRunnable ? NamedRunnable.of(namedRunnable.getTaskName(), this) : this;
+    }
+
+    /**
+     * Schedule the first run. If the scheduler does not accept it, the timer is stopped.
+     *
+     * @param delay Delay before the first run, in nanoseconds.
+     * @return {@code true} if it was scheduled, {@code false} if the scheduler did not accept it.
+     */
+    public boolean start(long delay) {
+        delay = Math.max(0L, delay);
+        this.due = clock.getAsLong() + delay;
+        if (!schedule(delay)) {
+            stop();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get the amount of runs skipped or coalesced so far.
+     *
+     * @return Amount of missed runs.
+     */
+    public long getMissedRuns() {
+        return missedRuns;
+    }
+
+    /**
+     * Get the pacing of the runs.
+     *
+     * @return {@link TimerPolicy} policy.
+     */
+    @NotNull
+    public TimerPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Run once, then schedule the next run.
+     */
+    @Override
+    public void run() {
+        if (isCancelled()) {
+            stop();
+            return;
+        }
+        try {
+            runnable.run();
+        } finally {
+            // the run itself may have been cancelled while executing, along with every task of the scheduler
+            if (isCancelled()) {
+                stop();
+            } else {
+                reschedule();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Cancels the pending run.
+     */
+    @Override
+    public void cancel() {
+        stop();
+        final WrappedTask current = this.current;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Also {@code true} if the pending run was cancelled from elsewhere, as the timer stops with it.
+     */
+    @Override
+    public boolean isCancelled() {
+        if (cancelled) {
+            return true;
+        }
+        final WrappedTask current = this.current;
+        return current != null && current.isCancelled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return plugin;
+    }
+
+    /**
+     * Convert a delay in nanoseconds to the closest amount of ticks, at least one.
+     *
+     * @param nanos Delay in nanoseconds.
+     * @return Delay in ticks.
+     */
+    public static long toTicks(long nanos) {
+        return Math.max(1L, (nanos + NANOS_PER_TICK / 2L) / NANOS_PER_TICK);
+    }
+
+    /**
+     * Convert a delay in ticks to nanoseconds. Each tick is roughly 50ms.
+     *
+     * @param ticks Delay in ticks.
+     * @return Delay in nanoseconds.
+     */
+    public static long toNanos(long ticks) {
+        return Math.max(0L, ticks) * NANOS_PER_TICK;
+    }
+
+    private long next(long due, long now) {
+        if (policy.getMode() == TimerMode.FIXED_DELAY) {
+            return now + period;
+        }
+        final long next = due + period;
+        final long late = now - next;
+        if (late <= tolerance) {
+            return next;
+        }
+        return switch (policy.getMissedRunPolicy()) {
+            case CATCH_UP -> next;
+            case SKIP -> {
+                final long missed = late / period + 1L;
+                missedRuns += missed;
+                yield next + missed * period;
+            }
+            case COALESCE -> {
+                missedRuns += late / period;
+                yield now;
+            }
+        };
+    }
+
+    void attach(@NotNull PacedTimerRegistry registry) {
+        this.registry = registry;
+    }
+
+    private void stop() {
+        this.cancelled = true;
+        final PacedTimerRegistry registry = this.registry;
+        if (registry != null) {
+            registry.unregister(this);
+        }
+    }
+
+    private void reschedule() {
+        final long now = clock.getAsLong();
+        due = next(due, now);
+        final boolean scheduled;
+        try {
+            scheduled = schedule(Math.max(0L, due - now));
+        } catch (IllegalStateException | RejectedExecutionException exception) {
+            // refused as the scheduler shut down, which is only an error if the timer was not cancelled meanwhile
+            final boolean wasCancelled = cancelled;
+            stop();
+            if (wasCancelled) {
+                return;
+            }
+            throw exception;
+        }
+        if (!scheduled) {
+            stop();
+        }
+    }
+
+    private boolean schedule(long delay) {
+        final WrappedTask task = scheduler.schedule(step, delay);
+        this.current = task;
+        if (task == null) {
+            return false;
+        }
+        // cancelled while the run was being scheduled
+        if (cancelled) {
+            task.cancel();
+        }
+        return true;
+    }
+
+    /**
+     * Schedules a single run of a {@link PacedTimer}.
+     */
+    @FunctionalInterface
+    public interface Scheduler {
+
+        /**
+         * Schedule the runnable once after the given delay.
+         *
+         * @param runnable Runnable to run.
+         * @param delay Delay in nanoseconds.
+         * @return {@link WrappedTask} task, {@code null} if it could not be scheduled.
+         */
+        @Nullable
+        WrappedTask schedule(@NotNull Runnable runnable, long delay);
+    }
+}
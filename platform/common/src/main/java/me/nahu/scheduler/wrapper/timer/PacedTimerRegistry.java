@@ -0,0 +1,69 @@
+package me.nahu.scheduler.wrapper.timer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the live {@link PacedTimer}s of a scheduler, so cancelling every task reaches the timers themselves and
+ * not only their pending runs.
+ * <p>
+ * The runs of a timer are tasks of their own, counted and cancelled like any other. Timers leave the registry on their
+ * own once they stop.
+ */
+public final class PacedTimerRegistry {
+
+    private final Set<PacedTimer> timers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Register a timer and schedule its first run. A timer that could not be scheduled is left out.
+     *
+     * @param timer {@link PacedTimer} timer to start.
+     * @param delay Delay before the first run, in nanoseconds.
+     * @return {@code true} if it was scheduled, {@code false} if the scheduler did not accept it.
+     */
+    public boolean start(@NotNull PacedTimer timer, long delay) {
+        Objects.requireNonNull(timer, "Timer cannot be null!");
+        timer.attach(this);
+        timers.add(timer);
+        boolean started = false;
+        try {
+            started = timer.start(delay);
+        } finally {
+            // the timer may have stopped before it could be found in the registry
+            if (!started || timer.isCancelled()) {
+                timers.remove(timer);
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Remove a timer from the registry.
+     *
+     * @param timer {@link PacedTimer} timer to remove.
+     */
+    public void unregister(@NotNull PacedTimer timer) {
+        timers.remove(timer);
+    }
+
+    /**
+     * Get the amount of live timers.
+     *
+     * @return Amount of live timers.
+     */
+    public int getLiveCount() {
+        return timers.size();
+    }
+
+    /**
+     * Cancel every live timer, along with its pending run. A timer whose run is executing right now does not schedule
+     * the next one.
+     */
+    public void cancelAll() {
+        // concurrent set iterators tolerate the removal done by cancelling
+        timers.forEach(PacedTimer::cancel);
+    }
+}
@@ -0,0 +1,17 @@
+package me.nahu.scheduler.wrapper.timer;
+
+/**
+ * How the runs of a {@link PacedTimer} are spaced.
+ */
+public enum TimerMode {
+    /**
+     * Runs are due on a fixed grid, one period apart from the first due time, whatever each run took. Lateness is
+     * handled by the {@link MissedRunPolicy} of the timer.
+     */
+    FIXED_RATE,
+    /**
+     * Each run is due one period after the previous run finished. Runs can never be missed, so the
+     * {@link MissedRunPolicy} is ignored.
+     */
+    FIXED_DELAY
+}
@@ -0,0 +1,83 @@
+package me.nahu.scheduler.wrapper.timer;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Pacing of a repeating task: a {@link TimerMode} and, for fixed rate timers, a {@link MissedRunPolicy}.
+ */
+public final class TimerPolicy {
+
+    private static final TimerPolicy FIXED_DELAY = new TimerPolicy(TimerMode.FIXED_DELAY, MissedRunPolicy.SKIP);
+
+    private final TimerMode mode;
+    private final MissedRunPolicy missedRunPolicy;
+
+    private TimerPolicy(@NotNull TimerMode mode, @NotNull MissedRunPolicy missedRunPolicy) {
+        this.mode = mode;
+        this.missedRunPolicy = missedRunPolicy;
+    }
+
+    /**
+     * Get a fixed rate policy.
+     *
+     * @param missedRunPolicy {@link MissedRunPolicy} policy for the runs missed during a stall.
+     * @return {@link TimerPolicy} policy.
+     */
+    @NotNull
+    public static TimerPolicy fixedRate(@NotNull MissedRunPolicy missedRunPolicy) {
+        return new TimerPolicy(TimerMode.FIXED_RATE, Objects.requireNonNull(missedRunPolicy, "Missed run policy cannot be null!"));
+    }
+
+    /**
+     * Get the fixed delay policy.
+     *
+     * @return {@link TimerPolicy} policy.
+     */
+    @NotNull
+    public static TimerPolicy fixedDelay() {
+        return FIXED_DELAY;
+    }
+
+    /**
+     * Get the mode of the timer.
+     *
+     * @return {@link TimerMode} mode.
+     */
+    @NotNull
+    public TimerMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Get the policy for the runs missed during a stall. Only used by fixed rate timers.
+     *
+     * @return {@link MissedRunPolicy} policy.
+     */
+    @NotNull
+    public MissedRunPolicy getMissedRunPolicy() {
+        return missedRunPolicy;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof TimerPolicy other)) {
+            return false;
+        }
+        return mode == other.mode && (mode == TimerMode.FIXED_DELAY || missedRunPolicy == other.missedRunPolicy);
+    }
+
+    @Override
+    public int hashCode() {
+        return mode == TimerMode.FIXED_DELAY ? mode.hashCode() : Objects.hash(mode, missedRunPolicy);
+    }
+
+    @Override
+    public String toString() {
+        return mode == TimerMode.FIXED_DELAY ? mode.name() : mode.name() + '/' + missedRunPolicy.name();
+    }
+}
@@ -0,0 +1,68 @@
+package me.nahu.scheduler.wrapper.type;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Capability of the server or runtime, probed once by {@link ServerCapabilities}.
+ */
+public enum Capability {
+
+    /**
+     * Folia's regionized server, ticking regions on separate threads.
+     */
+    REGIONIZED_SERVER("io.papermc.paper.threadedregions.RegionizedServer"),
+    /**
+     * Global region scheduler, shipped by Folia and Paper 1.20 or newer.
+     */
+    GLOBAL_REGION_SCHEDULER("io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler"),
+    /**
+     * Region scheduler, shipped by Folia and Paper 1.20 or newer.
+     */
+    REGION_SCHEDULER("io.papermc.paper.threadedregions.scheduler.RegionScheduler"),
+    /**
+     * Entity scheduler, shipped by Folia and Paper 1.20 or newer.
+     */
+    ENTITY_SCHEDULER("io.papermc.paper.threadedregions.scheduler.EntityScheduler"),
+    /**
+     * Async scheduler with millisecond precision, shipped by Folia and Paper 1.20 or newer.
+     */
+    ASYNC_SCHEDULER("io.papermc.paper.threadedregions.scheduler.AsyncScheduler"),
+    /**
+     * {@code Bukkit.isOwnedByCurrentRegion}, checking if the current thread owns an entity or location.
+     */
+    REGION_OWNERSHIP_CHECK(null),
+    /**
+     * Legacy Bukkit scheduler.
+     */
+    BUKKIT_SCHEDULER("org.bukkit.scheduler.BukkitScheduler"),
+    /**
+     * Virtual threads, available on Java 21 or newer.
+     */
+    VIRTUAL_THREADS(null),
+    /**
+     * JDK Flight Recorder, missing from runtimes linked without the {@code jdk.jfr} module.
+     */
+    FLIGHT_RECORDER("jdk.jfr.FlightRecorder"),
+    ;
+
+    private final String className;
+
+    /**
+     * Main constructor for the enum.
+     *
+     * @param className Name of the class proving the capability, {@code null} if it is not probed by class.
+     */
+    Capability(@Nullable String className) {
+        this.className = className;
+    }
+
+    /**
+     * Get the name of the class proving the capability.
+     *
+     * @return Name of the class, {@code null} if it is not probed by class.
+     */
+    @Nullable
+    public String getClassName() {
+        return className;
+    }
+}
@@ -3,6 +3,7 @@ package me.nahu.scheduler.wrapper.type;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Enum for implementation types.
@@ -14,30 +15,49 @@ public enum ImplementationType {
      * Folia server implementation.
      */
     FOLIA (
-        "io.papermc.paper.threadedregions.RegionizedServer",
-        "io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler",
-        "io.papermc.paper.threadedregions.scheduler.RegionScheduler"
+        Capability.REGIONIZED_SERVER,
+        Capability.GLOBAL_REGION_SCHEDULER,
+        Capability.REGION_SCHEDULER
+    ),
+    /**
+     * Paper server implementation, for Paper 1.20 or newer without Folia.
+     */
+    PAPER (
+        Capability.GLOBAL_REGION_SCHEDULER,
+        Capability.REGION_SCHEDULER,
+        Capability.ENTITY_SCHEDULER,
+        Capability.ASYNC_SCHEDULER
     ),
     /**
      * Bukkit server implementation.
      * We will fall back to this.
      */
-    BUKKIT("org.bukkit.scheduler.BukkitScheduler"),
+    BUKKIT(Capability.BUKKIT_SCHEDULER),
     /**
      * Unknown type, used for defaulting.
      */
     UNKNOWN,
     ;
 
-    private final String[] classNames;
+    private final Capability[] capabilities;
 
     /**
      * Main constructor for the enum.
      *
-     * @param classNames Names of classes.
+     * @param capabilities Capabilities the server must have.
+     */
+    ImplementationType(Capability... capabilities) {
+        this.capabilities = capabilities;
+    }
+
+    /**
+     * Get the capabilities the server must have for this implementation type.
+     *
+     * @return Array of capabilities.
      */
-    ImplementationType(String... classNames) {
-        this.classNames = classNames;
+    @NotNull
+    public Capability[] getCapabilities() {
+        return capabilities.clone();
     }
 
     /**
@@ -46,22 +66,20 @@ public enum ImplementationType {
      * @return Array of class names.
      */
     public String[] getClassNames() {
-        return classNames;
+        return Arrays.stream(capabilities)
+            .map(Capability::getClassName)
+            .filter(Objects::nonNull)
+            .toArray(String[]::new);
     }
 
     /**
-     * Check if this implementation type is applicable to the server context.
+     * Check if this implementation type is applicable to the server context, meaning the server has every one of its
+     * capabilities. Paper ships the scheduler classes of Folia, so only the regionized server tells them apart.
      *
      * @return {@code true} if it is applicable, {@code false} otherwise.
      */
     public boolean isApplicable() {
-        for (String className : getClassNames()) {
-            try {
-                Class.forName(className);
-                return true;
-            } catch (ClassNotFoundException ignored) { }
-        }
-        return false;
+        return capabilities.length > 0 && ServerCapabilities.get().hasAll(capabilities);
     }
 
     /**
@@ -74,7 +92,8 @@ public enum ImplementationType {
     }
 
     /**
-     * Find the implementation type applicable for this server.
+     * Find the implementation type applicable for this server. The server is only probed on the first call, see
+     * {@link ServerCapabilities}.
      * <p>
      * If nothing is found, which shouldn't happen, we will default to {@link ImplementationType#UNKNOWN}.
      *
@@ -82,9 +101,17 @@ public enum ImplementationType {
      */
     @NotNull
     public static ImplementationType find() {
-        return Arrays.stream(ImplementationType.values())
+        return Holder.FOUND;
+    }
+
+    /**
+     * Lazy holder for the implementation type found, resolved once the first caller asks for it.
+     */
+    private static final class Holder {
+
+        private static final ImplementationType FOUND = Arrays.stream(ImplementationType.values())
             .filter(ImplementationType::isApplicable)
             .findFirst()
             .orElse(ImplementationType.UNKNOWN);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package me.nahu.scheduler.wrapper.type;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Capabilities of the server and runtime, probed once per class loader.
+ * <p>
+ * Classes are looked up without being initialized, so probing runs no static initializer of the server, and the result
+ * is shared by every scheduler and builder created afterwards.
+ */
+public final class ServerCapabilities {
+
+    private static final int VIRTUAL_THREADS_FEATURE = 21;
+
+    private final Set<Capability> capabilities;
+
+    /**
+     * Private constructor for the capabilities, use {@link #get()} instead.
+     *
+     * @param capabilities Capabilities found.
+     */
+    private ServerCapabilities(@NotNull Set<Capability> capabilities) {
+        this.capabilities = Collections.unmodifiableSet(capabilities);
+    }
+
+    /**
+     * Get the capabilities of this server, probing them on the first call.
+     *
+     * @return {@link ServerCapabilities} capabilities.
+     */
+    @NotNull
+    public static ServerCapabilities get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Check if the server has the given capability.
+     *
+     * @param capability {@link Capability} capability to check.
+     * @return {@code true} if it has, {@code false} otherwise.
+     */
+    public boolean has(@NotNull Capability capability) {
+        return capabilities.contains(Objects.requireNonNull(capability, "Capability cannot be null!"));
+    }
+
+    /**
+     * Check if the server has every one of the given capabilities.
+     *
+     * @param capabilities Capabilities to check.
+     * @return {@code true} if it has all of them, {@code false} otherwise.
+     */
+    public boolean hasAll(@NotNull Capability... capabilities) {
+        for (Capability capability : capabilities) {
+            if (!has(capability)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get every capability of the server.
+     *
+     * @return Unmodifiable set of capabilities.
+     */
+    @NotNull
+    public Set<Capability> getCapabilities() {
+        return capabilities;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "ServerCapabilities" + capabilities;
+    }
+
+    @NotNull
+    private static ServerCapabilities probe() {
+        final ClassLoader classLoader = ServerCapabilities.class.getClassLoader();
+        final Set<Capability> capabilities = EnumSet.noneOf(Capability.class);
+        for (Capability capability : Capability.values()) {
+            if (isPresent(capability, classLoader)) {
+                capabilities.add(capability);
+            }
+        }
+        return new ServerCapabilities(capabilities);
+    }
+
+    private static boolean isPresent(@NotNull Capability capability, @NotNull ClassLoader classLoader) {
+        return switch (capability) {
+            case REGION_OWNERSHIP_CHECK -> hasMethod(classLoader, "org.bukkit.Bukkit", "isOwnedByCurrentRegion", "org.bukkit.entity.Entity");
+            case VIRTUAL_THREADS -> Runtime.version().feature() >= VIRTUAL_THREADS_FEATURE;
+            default -> load(capability.getClassName(), classLoader) != null;
+        };
+    }
+
+    private static boolean hasMethod(@NotNull ClassLoader classLoader, @NotNull String className, @NotNull String methodName, @NotNull String parameterName) {
+        final Class<?> type = load(className, classLoader);
+        final Class<?> parameter = load(parameterName, classLoader);
+        if (type == null || parameter == null) {
+            return false;
+        }
+        try {
+            type.getMethod(methodName, parameter);
+            return true;
+        } catch (NoSuchMethodException | LinkageError ignored) {
+            return false;
+        }
+    }
+
+    @Nullable
+    private static Class<?> load(@NotNull String className, @NotNull ClassLoader classLoader) {
+        try {
+            // never initialized, probing must not run static initializers of the server
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Lazy holder for the capabilities, probed once the first caller asks for them.
+     */
+    private static final class Holder {
+
+        private static final ServerCapabilities INSTANCE = probe();
+    }
+}
@@ -0,0 +1,164 @@
+package me.nahu.scheduler.wrapper.watchdog;
+
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Report of a task that overran the budget of the {@link SlowTaskWatchdog}.
+ */
+public final class SlowTaskReport {
+
+    private final Plugin plugin;
+    private final String taskName;
+    private final TaskKind kind;
+    private final StackTraceElement submittedAt;
+    private final Duration duration;
+    private final Duration budget;
+    private final int samples;
+    private final List<HotFrame> hotFrames;
+
+    SlowTaskReport(
+        @NotNull Plugin plugin,
+        @NotNull String taskName,
+        @NotNull TaskKind kind,
+        @Nullable StackTraceElement submittedAt,
+        @NotNull Duration duration,
+        @NotNull Duration budget,
+        int samples,
+        @NotNull List<HotFrame> hotFrames
+    ) {
+        this.plugin = plugin;
+        this.taskName = taskName;
+        this.kind = kind;
+        this.submittedAt = submittedAt;
+        this.duration = duration;
+        this.budget = budget;
+        this.samples = samples;
+        this.hotFrames = List.copyOf(hotFrames);
+    }
+
+    /**
+     * Get the plugin owning the task.
+     *
+     * @return {@link Plugin} plugin.
+     */
+    @NotNull
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    /**
+     * Get the name of the task, either the name of a {@link me.nahu.scheduler.wrapper.metrics.NamedRunnable} or the
+     * class name of the runnable.
+     *
+     * @return Task name.
+     */
+    @NotNull
+    public String getTaskName() {
+        return taskName;
+    }
+
+    /**
+     * Get the kind of the task.
+     *
+     * @return {@link TaskKind} kind.
+     */
+    @NotNull
+    public TaskKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Get the frame that submitted the task to the scheduler.
+     *
+     * @return Submitting frame, {@code null} if it could not be found.
+     */
+    @Nullable
+    public StackTraceElement getSubmittedAt() {
+        return submittedAt;
+    }
+
+    /**
+     * Get how long the task ran.
+     *
+     * @return {@link Duration} run time.
+     */
+    @NotNull
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Get the budget the task overran.
+     *
+     * @return {@link Duration} budget.
+     */
+    @NotNull
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * Get the amount of stack samples taken while the task was over budget.
+     *
+     * @return Amount of samples.
+     */
+    public int getSamples() {
+        return samples;
+    }
+
+    /**
+     * Get the frames found on top of the sampled stacks, most sampled first.
+     *
+     * @return Unmodifiable list of hot frames.
+     */
+    @NotNull
+    public List<HotFrame> getHotFrames() {
+        return hotFrames;
+    }
+
+    /**
+     * Format the report as a human readable message.
+     *
+     * @return Message.
+     */
+    @NotNull
+    public String toMessage() {
+        final StringBuilder builder = new StringBuilder()
+            .append("Task ").append(taskName)
+            .append(" (").append(kind).append(") of ").append(plugin.getName())
+            .append(" took ").append(duration.toNanos() / 1_000L / 1_000.0D).append("ms")
+            .append(", over the budget of ").append(budget.toNanos() / 1_000L / 1_000.0D).append("ms.");
+        if (submittedAt != null) {
+            builder.append(" Submitted at ").append(submittedAt).append('.');
+        }
+        if (hotFrames.isEmpty()) {
+            builder.append(" No stack samples were taken.");
+        } else {
+            builder.append(" Hot frames out of ").append(samples).append(" samples:");
+            for (HotFrame hotFrame : hotFrames) {
+                builder.append("\n    at ").append(hotFrame.frame()).append(" (").append(hotFrame.samples()).append(')');
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toMessage();
+    }
+
+    /**
+     * Frame found on top of the sampled stacks.
+     *
+     * @param frame Stack frame.
+     * @param samples Amount of samples it was on top of.
+     */
+    public record HotFrame(@NotNull StackTraceElement frame, int samples) {
+    }
+}
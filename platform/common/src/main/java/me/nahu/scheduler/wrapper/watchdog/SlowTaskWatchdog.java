@@ -0,0 +1,239 @@
+package me.nahu.scheduler.wrapper.watchdog;
+
+import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.metrics.NamedRunnable;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Watchdog flagging sync, region and entity tasks that run over a time budget.
+ * <p>
+ * Watched tasks announce themselves while running. A background thread checks them every sampling interval, and
+ * samples the stack of the thread running any task that is already over budget. Once such a task finishes, a
+ * {@link SlowTaskReport} with the hot frames is handed to the reporter, from the background thread.
+ * <p>
+ * Async tasks are not watched, they do not hold up any tick.
+ */
+public final class SlowTaskWatchdog {
+
+    private static final String WRAPPER_PACKAGE = WrappedScheduler.class.getPackageName() + '.';
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final long MIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    private static final int MAX_HOT_FRAMES = 5;
+
+    private final Plugin plugin;
+    private final Duration budget;
+    private final long budgetNanos;
+
+    private final Set<Execution> running = ConcurrentHashMap.newKeySet();
+    private final ScheduledThreadPoolExecutor sampler;
+
+    private volatile Consumer<SlowTaskReport> reporter;
+
+    /**
+     * Main constructor for the watchdog.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param budget {@link Duration} budget a task may run for before it is flagged. Must be positive.
+     */
+    public SlowTaskWatchdog(@NotNull Plugin plugin, @NotNull Duration budget) {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.budget = Objects.requireNonNull(budget, "Budget cannot be null!");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("Budget must be positive!");
+        }
+        this.budgetNanos = budget.toNanos();
+        this.reporter = report -> plugin.getLogger().warning(report.toMessage());
+
+        this.sampler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, plugin.getName() + "-SlowTaskWatchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long interval = Math.max(MIN_INTERVAL_NANOS, budgetNanos / 4L);
+        sampler.scheduleAtFixedRate(this::sample, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the budget a task may run for before it is flagged.
+     *
+     * @return {@link Duration} budget.
+     */
+    @NotNull
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * Change where slow task reports go. By default they are logged as warnings to the plugin logger.
+     *
+     * @param reporter Consumer of the reports, called from the watchdog thread.
+     */
+    public void setReporter(@NotNull Consumer<SlowTaskReport> reporter) {
+        this.reporter = Objects.requireNonNull(reporter, "Reporter cannot be null!");
+    }
+
+    /**
+     * Watch a runnable, capturing the frame submitting it. Async runnables are returned as they are.
+     * <p>
+     * The watched runnable is a {@link NamedRunnable} carrying the given name, so the task it runs in can still be told
+     * apart by name.
+     *
+     * @param runnable Runnable to watch.
+     * @param name Name of the task.
+     * @param kind {@link TaskKind} kind of the task.
+     * @return Watched runnable.
+     */
+    @NotNull
+    public Runnable watch(@NotNull Runnable runnable, @NotNull String name, @NotNull TaskKind kind) {
+        if (kind == TaskKind.ASYNC) {
+            return runnable;
+        }
+        final StackTraceElement submittedAt = STACK_WALKER.walk(frames -> frames
+            .filter(frame -> !frame.getClassName().startsWith(WRAPPER_PACKAGE))
+            .findFirst()
+            .map(StackWalker.StackFrame::toStackTraceElement)
+            .orElse(null));
+        return new NamedRunnable() {
+            @Override
+            public @NotNull String getTaskName() {
+                return name;
+            }
+
+            @Override
+            public void run() {
+                final Execution execution = new Execution(Thread.currentThread(), name, kind, submittedAt, System.nanoTime());
+                running.add(execution);
+                try {
+                    runnable.run();
+                } finally {
+                    execution.finish(System.nanoTime());
+                    running.remove(execution);
+                    // reports are dropped once the watchdog is shut down, the task thread never sees the rejection
+                    if (execution.duration > budgetNanos && !sampler.isShutdown()) {
+                        try {
+                            sampler.execute(() -> report(execution));
+                        } catch (RejectedExecutionException ignored) {
+                            // shut down while the task was finishing
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Stop the watchdog thread. Tasks already watched keep running, but are no longer sampled nor reported.
+     */
+    public void shutdown() {
+        sampler.shutdownNow();
+    }
+
+    /**
+     * Check if the watchdog thread was stopped.
+     *
+     * @return {@code true} if it was, {@code false} otherwise.
+     */
+    public boolean isShutdown() {
+        return sampler.isShutdown();
+    }
+
+    /**
+     * Get the name of a runnable for the reports.
+     *
+     * @param runnable Runnable to name.
+     * @return Name of the {@link NamedRunnable}, or the class name of the runnable.
+     */
+    @NotNull
+    public static String nameOf(@NotNull Runnable runnable) {
+        return runnable instanceof NamedRunnable namedRunnable ? namedRunnable.getTaskName() : runnable.getClass().getName();
+    }
+
+    private void sample() {
+        final long now = System.nanoTime();
+        for (Execution execution : running) {
+            if (now - execution.start <= budgetNanos) {
+                continue;
+            }
+            final StackTraceElement[] stack = execution.thread.getStackTrace();
+            // the thread may have moved on to other work while being sampled
+            if (!execution.finished && stack.length > 0) {
+                execution.samples.merge(stack[0], 1, Integer::sum);
+                execution.sampleCount++;
+            }
+        }
+    }
+
+    private void report(@NotNull Execution execution) {
+        final List<Map.Entry<StackTraceElement, Integer>> entries = new ArrayList<>(execution.samples.entrySet());
+        entries.sort(Map.Entry.<StackTraceElement, Integer>comparingByValue().reversed());
+
+        final List<SlowTaskReport.HotFrame> hotFrames = new ArrayList<>(Math.min(entries.size(), MAX_HOT_FRAMES));
+        for (int index = 0; index < entries.size() && index < MAX_HOT_FRAMES; index++) {
+            final Map.Entry<StackTraceElement, Integer> entry = entries.get(index);
+            hotFrames.add(new SlowTaskReport.HotFrame(entry.getKey(), entry.getValue()));
+        }
+
+        try {
+            reporter.accept(new SlowTaskReport(
+                plugin,
+                execution.name,
+                execution.kind,
+                execution.submittedAt,
+                Duration.ofNanos(execution.duration),
+                budget,
+                execution.sampleCount,
+                hotFrames
+            ));
+        } catch (Throwable throwable) {
+            plugin.getLogger().log(Level.SEVERE, "Slow task reporter generated an exception", throwable);
+        }
+    }
+
+    /**
+     * Single run of a watched task. Samples are only touched from the watchdog thread.
+     */
+    private static final class Execution {
+
+        private final Thread thread;
+        private final String name;
+        private final TaskKind kind;
+        private final StackTraceElement submittedAt;
+        private final long start;
+        private final Map<StackTraceElement, Integer> samples = new HashMap<>();
+
+        private int sampleCount;
+        private volatile boolean finished;
+        private volatile long duration;
+
+        private Execution(@NotNull Thread thread, @NotNull String name, @NotNull TaskKind kind, @Nullable StackTraceElement submittedAt, long start) {
+            this.thread = thread;
+            this.name = name;
+            this.kind = kind;
+            this.submittedAt = submittedAt;
+            this.start = start;
+        }
+
+        private void finish(long end) {
+            this.duration = end - start;
+            this.finished = true;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package me.nahu.scheduler.wrapper.wheel;
+
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Hashed timing wheel multiplexing delayed and repeating tasks onto a single repeating platform task.
+ * <p>
+ * Tasks can be scheduled and cancelled from any thread in constant time: new tasks go through a lock-free inbox and
+ * cancelled ones are unlinked from their bucket on the next tick. The wheel is advanced one tick per run of its driver
+ * task, which is started on the first submission and stopped again once the wheel is empty.
+ */
+public final class TimingWheel {
+
+    private final Plugin plugin;
+    private final Function<Runnable, WrappedTask> driverScheduler;
+    private final Executor expiryExecutor;
+    private final Consumer<TimingWheel> idleCallback;
+
+    private final WheelTask[] buckets;
+    private final int mask;
+
+    private final Queue<WheelTask> inbox = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // guarded by this
+    private WrappedTask driverTask;
+    private long currentTick;
+    // task being run by the tick, unlinked from its bucket for the time being
+    private WheelTask expiring;
+
+    /**
+     * Main constructor for the timing wheel.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param wheelSize Amount of buckets, rounded up to a power of two.
+     * @param driverScheduler Schedules the given runnable to run every tick, on the thread the wheel belongs to.
+     * @param expiryExecutor Executes expired tasks, {@code Runnable::run} to run them on the ticking thread.
+     * @param idleCallback Called whenever the wheel runs out of tasks and stops its driver, may be {@code null}.
+     */
+    public TimingWheel(
+        @NotNull Plugin plugin,
+        int wheelSize,
+        @NotNull Function<Runnable, WrappedTask> driverScheduler,
+        @NotNull Executor expiryExecutor,
+        @Nullable Consumer<TimingWheel> idleCallback
+    ) {
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("Wheel size must be greater than zero!");
+        }
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.driverScheduler = Objects.requireNonNull(driverScheduler, "Driver scheduler cannot be null!");
+        this.expiryExecutor = Objects.requireNonNull(expiryExecutor, "Expiry executor cannot be null!");
+        this.idleCallback = idleCallback;
+
+        final int buckets = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.buckets = new WheelTask[buckets];
+        this.mask = buckets - 1;
+    }
+
+    /**
+     * Get the owning plugin.
+     *
+     * @return {@link Plugin} plugin.
+     */
+    @NotNull
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    /**
+     * Get the amount of tasks that are still scheduled in the wheel.
+     *
+     * @return Amount of tasks.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Schedule a new task.
+     *
+     * @param runnable Runnable to run.
+     * @param kind {@link TaskKind} kind of the task.
+     * @param delay Delay in ticks before the first execution, values below one are treated as one.
+     * @param period Delay in ticks between executions, zero or lower for a task that runs once.
+     * @return {@link WheelTask} task reference.
+     */
+    @NotNull
+    public WheelTask schedule(@NotNull Runnable runnable, @NotNull TaskKind kind, long delay, long period) {
+        final WheelTask task = new WheelTask(this, runnable, kind, Math.max(1L, delay), period);
+        size.incrementAndGet();
+        inbox.offer(task);
+        ensureRunning();
+        return task;
+    }
+
+    /**
+     * Cancel every task in the wheel and stop its driver. Safe to call from a task run by the wheel itself.
+     */
+    public synchronized void cancelAll() {
+        unlinkCancelled();
+
+        WheelTask task;
+        while ((task = inbox.poll()) != null) {
+            if (task.cancelSilently()) {
+                size.decrementAndGet();
+            }
+        }
+        if (expiring != null && expiring.cancelSilently()) {
+            size.decrementAndGet();
+        }
+        for (int index = 0; index < buckets.length; index++) {
+            task = buckets[index];
+            while (task != null) {
+                final WheelTask next = task.next;
+                unlink(task);
+                if (task.cancelSilently()) {
+                    size.decrementAndGet();
+                }
+                task = next;
+            }
+        }
+        stopIfIdle();
+    }
+
+    void onCancel(@NotNull WheelTask task) {
+        cancelled.offer(task);
+    }
+
+    private void ensureRunning() {
+        if (running.compareAndSet(false, true)) {
+            synchronized (this) {
+                try {
+                    driverTask = driverScheduler.apply(this::tick);
+                } catch (RuntimeException exception) {
+                    running.set(false);
+                    throw exception;
+                }
+            }
+        }
+    }
+
+    private synchronized void tick() {
+        currentTick++;
+        unlinkCancelled();
+
+        WheelTask task;
+        while ((task = inbox.poll()) != null) {
+            if (task.isScheduled()) {
+                task.deadline = currentTick + task.delay - 1L;
+                link(task);
+            }
+        }
+
+        task = buckets[(int) (currentTick & mask)];
+        while (task != null) {
+            // cancellations from within a task are deferred, so the next node stays valid
+            final WheelTask next = task.next;
+            if (task.bucket < 0) {
+                // unless the task cancelled the whole wheel, which unlinked every node and left nothing to walk
+                break;
+            }
+            if (task.deadline <= currentTick) {
+                unlink(task);
+                expire(task);
+            }
+            task = next;
+        }
+        stopIfIdle();
+    }
+
+    private void expire(@NotNull WheelTask task) {
+        if (task.period <= 0L) {
+            if (task.markDone()) {
+                size.decrementAndGet();
+                dispatch(task);
+            }
+            return;
+        }
+        if (!task.isScheduled()) {
+            // cancelled by a task that ran earlier in this tick
+            return;
+        }
+        expiring = task;
+        try {
+            dispatch(task);
+        } finally {
+            expiring = null;
+        }
+        if (task.isScheduled()) {
+            task.deadline = currentTick + task.period;
+            link(task);
+        }
+    }
+
+    private void dispatch(@NotNull WheelTask task) {
+        try {
+            expiryExecutor.execute(task);
+        } catch (RuntimeException exception) {
+            plugin.getLogger().log(Level.SEVERE, "Could not dispatch expired wheel task", exception);
+        }
+    }
+
+    private void unlinkCancelled() {
+        WheelTask task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket >= 0) {
+                unlink(task);
+            }
+            size.decrementAndGet();
+        }
+    }
+
+    private void stopIfIdle() {
+        if (size.get() > 0 || driverTask == null) {
+            return;
+        }
+        running.set(false);
+        driverTask.cancel();
+        driverTask = null;
+
+        // a submission may have raced with the check above while the driver was still marked as running
+        if (size.get() > 0) {
+            ensureRunning();
+        } else if (idleCallback != null) {
+            idleCallback.accept(this);
+        }
+    }
+
+    private void link(@NotNull WheelTask task) {
+        final int index = (int) (task.deadline & mask);
+        final WheelTask head = buckets[index];
+        task.bucket = index;
+        task.previous = null;
+        task.next = head;
+        if (head != null) {
+            head.previous = task;
+        }
+        buckets[index] = task;
+    }
+
+    private void unlink(@NotNull WheelTask task) {
+        if (task.previous != null) {
+            task.previous.next = task.next;
+        } else {
+            buckets[task.bucket] = task.next;
+        }
+        if (task.next != null) {
+            task.next.previous = task.previous;
+        }
+        task.bucket = -1;
+        task.previous = null;
+        task.next = null;
+    }
+}
@@ -0,0 +1,105 @@
+package me.nahu.scheduler.wrapper.wheel;
+
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.logging.Level;
+
+/**
+ * Task living in a {@link TimingWheel}, doubling as a node of its bucket list.
+ */
+public final class WheelTask extends AbstractWrappedTask {
+
+    private static final int SCHEDULED = 0;
+    private static final int CANCELLED = 1;
+    private static final int DONE = 2;
+
+    private static final AtomicIntegerFieldUpdater<WheelTask> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(WheelTask.class, "state");
+    private static final AtomicIntegerFieldUpdater<WheelTask> EXECUTING =
+        AtomicIntegerFieldUpdater.newUpdater(WheelTask.class, "executing");
+
+    private final TimingWheel wheel;
+    final long delay;
+    final long period;
+
+    // owned by the ticking thread
+    long deadline;
+    int bucket = -1;
+    WheelTask previous;
+    WheelTask next;
+
+    private volatile int state = SCHEDULED;
+    private volatile int executing;
+
+    WheelTask(@NotNull TimingWheel wheel, @NotNull Runnable runnable, @NotNull TaskKind kind, long delay, long period) {
+        super(runnable, kind, period > 0L);
+        this.wheel = wheel;
+        this.delay = delay;
+        this.period = period;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Constant time, the task is unlinked from its bucket on the next tick of the wheel.
+     */
+    @Override
+    protected void cancelTask() {
+        if (STATE.compareAndSet(this, SCHEDULED, CANCELLED)) {
+            wheel.onCancel(this);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCancelled() {
+        return state == CANCELLED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return wheel.getPlugin();
+    }
+
+    /**
+     * Run the task body, unless the previous execution of a repeating task is still running.
+     */
+    @Override
+    public void run() {
+        if (!EXECUTING.compareAndSet(this, 0, 1)) {
+            return;
+        }
+        try {
+            super.run();
+        } catch (Throwable throwable) {
+            wheel.getPlugin().getLogger().log(Level.SEVERE, "Wheel task generated an exception", throwable);
+        } finally {
+            executing = 0;
+        }
+    }
+
+    boolean isScheduled() {
+        return state == SCHEDULED;
+    }
+
+    boolean markDone() {
+        return STATE.compareAndSet(this, SCHEDULED, DONE);
+    }
+
+    boolean cancelSilently() {
+        if (STATE.compareAndSet(this, SCHEDULED, CANCELLED)) {
+            complete();
+            return true;
+        }
+        return false;
+    }
+}
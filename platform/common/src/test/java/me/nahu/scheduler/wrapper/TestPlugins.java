@@ -0,0 +1,40 @@
+package me.nahu.scheduler.wrapper;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+/**
+ * Plugins for tests that run without a server.
+ */
+public final class TestPlugins {
+
+    private TestPlugins() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    /**
+     * Create a plugin only answering for its name and logger, and reporting itself as enabled.
+     *
+     * @param name Name of the plugin.
+     * @return {@link Plugin} plugin.
+     */
+    @NotNull
+    public static Plugin create(@NotNull String name) {
+        final Logger logger = Logger.getLogger(name);
+        return (Plugin) Proxy.newProxyInstance(
+            TestPlugins.class.getClassLoader(),
+            new Class<?>[] { Plugin.class },
+            (proxy, method, arguments) -> switch (method.getName()) {
+                case "getName", "toString" -> name;
+                case "getLogger" -> logger;
+                case "isEnabled" -> true;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == arguments[0];
+                default -> throw new UnsupportedOperationException(method.getName() + " is not available in tests!");
+            }
+        );
+    }
+}
@@ -0,0 +1,150 @@
+package me.nahu.scheduler.wrapper.async;
+
+import me.nahu.scheduler.wrapper.TestPlugins;
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedAsyncLaneTest {
+
+    private final Plugin plugin = TestPlugins.create("lane");
+    // workers handed to the backend, only started when a test runs them
+    private final Queue<Runnable> workers = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void cancelAllReleasesWorkersThatNeverStarted() {
+        final BoundedAsyncLane lane = lane(2, 10, RejectionPolicy.CALLER_RUNS);
+        final AtomicInteger runs = new AtomicInteger();
+        final AbstractWrappedTask first = lane.submit(runs::incrementAndGet);
+        final AbstractWrappedTask second = lane.submit(runs::incrementAndGet);
+        final AbstractWrappedTask queued = lane.submit(runs::incrementAndGet);
+        assertEquals(2, lane.getActiveCount());
+        assertEquals(1, lane.getQueueDepth());
+
+        // the platform cancelled the workers before they started
+        lane.cancelAll();
+        assertEquals(0, lane.getActiveCount());
+        assertEquals(0, lane.getQueueDepth());
+        assertTrue(first.isCancelled());
+        assertTrue(second.isCancelled());
+        assertTrue(queued.isCancelled());
+
+        // and if it runs them anyway, they do nothing
+        runWorkers();
+        assertEquals(0, runs.get());
+        assertEquals(0, lane.getActiveCount());
+    }
+
+    @Test
+    void repeatedCancelsNeverFillTheLane() {
+        final BoundedAsyncLane lane = lane(2, 0, RejectionPolicy.CALLER_RUNS);
+        for (int i = 0; i < 10; i++) {
+            lane.submit(() -> { });
+            lane.cancelAll();
+            workers.clear();
+        }
+        final AtomicInteger runs = new AtomicInteger();
+        lane.submit(runs::incrementAndGet);
+        // still handed to a worker, rather than run inline by the caller
+        assertEquals(0, runs.get());
+        assertEquals(0, lane.getRejectedCount());
+        runWorkers();
+        assertEquals(1, runs.get());
+        assertEquals(0, lane.getActiveCount());
+    }
+
+    @Test
+    void cancelAllKeepsTheSlotOfRunningWorkers() throws InterruptedException {
+        final BoundedAsyncLane lane = lane(1, 10, RejectionPolicy.CALLER_RUNS);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        lane.submit(() -> {
+            started.countDown();
+            await(release);
+        });
+        final Thread thread = new Thread(this::runWorkers);
+        thread.start();
+        assertTrue(started.await(5L, TimeUnit.SECONDS));
+
+        lane.cancelAll();
+        assertEquals(1, lane.getActiveCount());
+        release.countDown();
+        thread.join(5_000L);
+        assertFalse(thread.isAlive());
+        assertEquals(0, lane.getActiveCount());
+    }
+
+    @Test
+    void cancelAllDuringDispatchAccountsEverySlot() throws InterruptedException {
+        final int tasks = 20_000;
+        final ExecutorService backend = Executors.newFixedThreadPool(4);
+        final BoundedAsyncLane lane = new BoundedAsyncLane(plugin, 4, tasks, RejectionPolicy.CALLER_RUNS, backend::execute);
+        final AtomicInteger runs = new AtomicInteger();
+        final List<AbstractWrappedTask> submitted = new ArrayList<>(tasks);
+        final AtomicBoolean submitting = new AtomicBoolean(true);
+
+        final Thread canceller = new Thread(() -> {
+            while (submitting.get()) {
+                lane.cancelAll();
+                Thread.onSpinWait();
+            }
+        });
+        canceller.start();
+        for (int i = 0; i < tasks; i++) {
+            submitted.add(lane.submit(runs::incrementAndGet));
+        }
+        submitting.set(false);
+        canceller.join(10_000L);
+        lane.cancelAll();
+        backend.shutdown();
+        assertTrue(backend.awaitTermination(10L, TimeUnit.SECONDS));
+
+        assertEquals(0, lane.getActiveCount());
+        assertEquals(0, lane.getQueueDepth());
+        int cancelled = 0;
+        for (AbstractWrappedTask task : submitted) {
+            if (task.isCancelled()) {
+                cancelled++;
+            }
+            assertTrue(task.isCompleted());
+        }
+        // every task either ran or was cancelled, never both
+        assertEquals(tasks, runs.get() + cancelled);
+        assertNotEquals(0, runs.get());
+    }
+
+    private BoundedAsyncLane lane(int maxConcurrency, int queueLimit, RejectionPolicy policy) {
+        return new BoundedAsyncLane(plugin, maxConcurrency, queueLimit, policy, workers::add);
+    }
+
+    private void runWorkers() {
+        Runnable worker;
+        while ((worker = workers.poll()) != null) {
+            worker.run();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5L, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
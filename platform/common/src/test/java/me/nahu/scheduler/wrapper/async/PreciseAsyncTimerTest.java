@@ -0,0 +1,51 @@
+package me.nahu.scheduler.wrapper.async;
+
+import me.nahu.scheduler.wrapper.TestPlugins;
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PreciseAsyncTimerTest {
+
+    private final Plugin plugin = TestPlugins.create("timer");
+
+    @Test
+    void shutdownStopsTheTimerThread() throws InterruptedException {
+        final PreciseAsyncTimer timer = new PreciseAsyncTimer(plugin, Runnable::run);
+        final CountDownLatch ran = new CountDownLatch(1);
+        timer.schedule(ran::countDown, 1L, TimeUnit.MILLISECONDS);
+        assertTrue(ran.await(5L, TimeUnit.SECONDS));
+        assertTrue(hasTimerThread());
+
+        timer.schedule(() -> { }, 1L, TimeUnit.HOURS);
+        timer.shutdown();
+        assertTrue(timer.isShutdown());
+        assertThrows(IllegalStateException.class, () -> timer.schedule(() -> { }, 1L, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalStateException.class, () -> timer.execute(() -> { }));
+
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (hasTimerThread() && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertFalse(hasTimerThread());
+    }
+
+    @Test
+    void executeDoesNotStartTheTimerThread() {
+        final PreciseAsyncTimer timer = new PreciseAsyncTimer(TestPlugins.create("untimed"), Runnable::run);
+        final AbstractWrappedTask task = timer.execute(() -> { });
+        assertTrue(task.isCompleted());
+        assertFalse(Thread.getAllStackTraces().keySet().stream().anyMatch(thread -> thread.getName().startsWith("untimed")));
+    }
+
+    private static boolean hasTimerThread() {
+        return Thread.getAllStackTraces().keySet().stream().anyMatch(thread -> thread.getName().equals("timer-AsyncTimerClock"));
+    }
+}
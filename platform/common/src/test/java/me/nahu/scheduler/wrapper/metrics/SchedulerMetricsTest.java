@@ -0,0 +1,31 @@
+package me.nahu.scheduler.wrapper.metrics;
+
+import me.nahu.scheduler.wrapper.TestPlugins;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import me.nahu.scheduler.wrapper.watchdog.SlowTaskWatchdog;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SchedulerMetricsTest {
+
+    private final SchedulerMetrics metrics = new SchedulerMetrics(System::nanoTime);
+
+    @Test
+    void instrumentationKeepsTheTaskName() {
+        final Runnable plain = () -> { };
+        final Runnable named = NamedRunnable.of("work", () -> { });
+        assertEquals(SlowTaskWatchdog.nameOf(plain), SlowTaskWatchdog.nameOf(metrics.instrument(plain, TaskKind.GLOBAL, 0L, 0L)));
+        assertEquals("work", SlowTaskWatchdog.nameOf(metrics.instrument(named, TaskKind.GLOBAL, 0L, 0L)));
+
+        final SlowTaskWatchdog watchdog = new SlowTaskWatchdog(TestPlugins.create("metrics"), Duration.ofSeconds(1L));
+        try {
+            final Runnable instrumented = metrics.instrument(named, TaskKind.GLOBAL, 0L, 0L);
+            assertEquals("work", SlowTaskWatchdog.nameOf(watchdog.watch(instrumented, SlowTaskWatchdog.nameOf(named), TaskKind.GLOBAL)));
+        } finally {
+            watchdog.shutdown();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package me.nahu.scheduler.wrapper.runnable;
+
+import me.nahu.scheduler.wrapper.TestPlugins;
+import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WrappedRunnableTest {
+
+    private final Plugin plugin = TestPlugins.create("runnable");
+    // runnables handed to the scheduler and the tasks returned for them, only run when a test runs them
+    private final List<Runnable> dispatched = new ArrayList<>();
+    private final List<StubTask> tasks = new ArrayList<>();
+    private final WrappedScheduler scheduler = scheduler();
+
+    @Test
+    void lateRunOfCancelledTaskDoesNotRunTheNextOne() {
+        final Counter counter = new Counter();
+        counter.runTask(scheduler);
+        counter.cancel();
+        assertTrue(tasks.get(0).isCancelled());
+
+        counter.runTaskLater(scheduler, 5L);
+        // the platform was already running the cancelled task
+        dispatched.get(0).run();
+        assertEquals(0, counter.runs.get());
+        assertTrue(counter.isScheduled());
+
+        dispatched.get(1).run();
+        assertEquals(1, counter.runs.get());
+        assertFalse(counter.isScheduled());
+        assertFalse(counter.isCancelled());
+    }
+
+    @Test
+    void lateRunOfDoneTaskDoesNotRunTheNextOne() {
+        final Counter counter = new Counter();
+        counter.runTask(scheduler);
+        dispatched.get(0).run();
+        assertEquals(1, counter.runs.get());
+
+        counter.runTaskTimer(scheduler, 1L, 1L);
+        dispatched.get(0).run();
+        assertEquals(1, counter.runs.get());
+        dispatched.get(1).run();
+        dispatched.get(1).run();
+        assertEquals(3, counter.runs.get());
+        assertTrue(counter.isScheduled());
+    }
+
+    @Test
+    void cancelledBeforeRunningNeverRuns() {
+        final Counter counter = new Counter();
+        counter.runTaskTimer(scheduler, 1L, 1L);
+        counter.cancel();
+        dispatched.get(0).run();
+        assertEquals(0, counter.runs.get());
+        assertTrue(counter.isCancelled());
+        assertTrue(tasks.get(0).isCancelled());
+    }
+
+    @Test
+    void repeatingTaskCancellingItselfStops() {
+        final AtomicInteger runs = new AtomicInteger();
+        final WrappedRunnable runnable = new WrappedRunnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+                cancel();
+            }
+        };
+        runnable.runTaskTimer(scheduler, 1L, 1L);
+        dispatched.get(0).run();
+        dispatched.get(0).run();
+        assertEquals(1, runs.get());
+        assertTrue(runnable.isCancelled());
+        assertTrue(tasks.get(0).isCancelled());
+        assertFalse(runnable.isScheduled());
+    }
+
+    @Test
+    void cancelFromElsewhereAllowsSchedulingAgain() {
+        final Counter counter = new Counter();
+        counter.runTaskTimer(scheduler, 1L, 1L);
+        assertThrows(IllegalStateException.class, () -> counter.runTask(scheduler));
+
+        // cancelled through the scheduler, as when every task of the plugin is
+        tasks.get(0).cancel();
+        assertTrue(counter.isCancelled());
+        counter.runTask(scheduler);
+        dispatched.get(0).run();
+        dispatched.get(1).run();
+        assertEquals(1, counter.runs.get());
+    }
+
+    @Test
+    void lateRunsRacingRearmsNeverRunALaterTask() throws InterruptedException {
+        final Counter counter = new Counter();
+        counter.runTask(scheduler);
+        final Runnable first = dispatched.get(0);
+        final CountDownLatch done = new CountDownLatch(1);
+        // keeps running the runnable handed out for the first task, while that task is cancelled and replaced
+        final Thread runner = new Thread(() -> {
+            for (int round = 0; round < 20_000; round++) {
+                first.run();
+            }
+            done.countDown();
+        });
+        runner.start();
+        while (done.getCount() > 0L) {
+            counter.cancel();
+            counter.runTask(scheduler);
+        }
+        assertTrue(done.await(10L, TimeUnit.SECONDS));
+        // only the first task may have run, if it won the race against its cancellation
+        assertTrue(counter.runs.get() <= 1);
+    }
+
+    private WrappedScheduler scheduler() {
+        return (WrappedScheduler) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {WrappedScheduler.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "runTask", "runTaskLater", "runTaskTimer" -> {
+                    final StubTask task = new StubTask();
+                    dispatched.add((Runnable) args[0]);
+                    tasks.add(task);
+                    return task;
+                }
+                case "getPlugin" -> {
+                    return plugin;
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    /**
+     * Runnable counting its runs.
+     */
+    private static final class Counter extends WrappedRunnable {
+
+        private final AtomicInteger runs = new AtomicInteger();
+
+        @Override
+        public void run() {
+            runs.incrementAndGet();
+        }
+    }
+
+    /**
+     * Task standing in for the platform, which only records cancellation.
+     */
+    private final class StubTask implements WrappedTask {
+
+        private volatile boolean cancelled;
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public @NotNull Plugin getOwningPlugin() {
+            return plugin;
+        }
+    }
+}
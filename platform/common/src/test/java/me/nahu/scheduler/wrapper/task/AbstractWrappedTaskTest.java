@@ -0,0 +1,117 @@
+package me.nahu.scheduler.wrapper.task;
+
+import me.nahu.scheduler.wrapper.TestPlugins;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AbstractWrappedTaskTest {
+
+    private final Plugin plugin = TestPlugins.create("task");
+
+    @Test
+    void cancelWhileRunningLeavesTheFutureToTheBody() {
+        final WrappedTaskFuture<String> future = new WrappedTaskFuture<>();
+        final StubTask[] task = new StubTask[1];
+        task[0] = new StubTask(future.supplying(() -> {
+            task[0].cancel();
+            return "loaded";
+        }), false);
+        future.bind(task[0]);
+
+        task[0].run();
+        assertTrue(task[0].isCancelled());
+        assertTrue(task[0].isCompleted());
+        assertEquals("loaded", future.join());
+    }
+
+    @Test
+    void cancelBeforeRunningCancelsTheFuture() {
+        final WrappedTaskFuture<String> future = new WrappedTaskFuture<>();
+        final AtomicInteger runs = new AtomicInteger();
+        final StubTask task = new StubTask(future.supplying(() -> {
+            runs.incrementAndGet();
+            return "loaded";
+        }), false);
+        future.bind(task);
+
+        task.cancel();
+        assertCancelled(future);
+        task.run();
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void repeatingCancelledWhileRunningEndsTheFutureOnceTheRunReturns() {
+        final WrappedTaskFuture<Void> future = new WrappedTaskFuture<>();
+        final StubTask[] task = new StubTask[1];
+        task[0] = new StubTask(() -> {
+            task[0].cancel();
+            assertFalse(future.isDone());
+        }, true);
+        future.bind(task[0]);
+
+        task[0].run();
+        assertCancelled(future);
+    }
+
+    @Test
+    void repeatingCancelledBetweenRunsEndsTheFuture() {
+        final WrappedTaskFuture<Void> future = new WrappedTaskFuture<>();
+        final StubTask task = new StubTask(() -> { }, true);
+        future.bind(task);
+
+        task.run();
+        assertFalse(future.isDone());
+        task.cancel();
+        assertCancelled(future);
+    }
+
+    @Test
+    void futureBoundAfterTheTaskEndedIsEnded() {
+        final StubTask task = new StubTask(() -> { }, false);
+        task.run();
+        final WrappedTaskFuture<String> future = new WrappedTaskFuture<>();
+        future.bind(task);
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    private static void assertCancelled(@NotNull WrappedTaskFuture<?> future) {
+        assertThrows(CancellationException.class, future::join);
+    }
+
+    /**
+     * Task standing in for the platform, run by hand.
+     */
+    private final class StubTask extends AbstractWrappedTask {
+
+        private volatile boolean cancelled;
+
+        private StubTask(@NotNull Runnable runnable, boolean repeating) {
+            super(runnable, TaskKind.GLOBAL, repeating);
+        }
+
+        @Override
+        protected void cancelTask() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public @NotNull Plugin getOwningPlugin() {
+            return plugin;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package me.nahu.scheduler.wrapper.timer;
+
+import me.nahu.scheduler.wrapper.TestPlugins;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PacedTimerTest {
+
+    private final Plugin plugin = TestPlugins.create("paced");
+    private final PacedTimerRegistry registry = new PacedTimerRegistry();
+    // runs handed to the scheduler, only run when a test steps them
+    private final Deque<Run> runs = new ArrayDeque<>();
+    private boolean refusing;
+    private long now;
+
+    @Test
+    void runsUntilCancelled() {
+        final AtomicInteger count = new AtomicInteger();
+        final PacedTimer timer = timer(count::incrementAndGet);
+        assertTrue(registry.start(timer, 0L));
+        assertEquals(1, registry.getLiveCount());
+        step();
+        step();
+        assertEquals(2, count.get());
+
+        timer.cancel();
+        assertTrue(timer.isCancelled());
+        assertEquals(0, registry.getLiveCount());
+        step();
+        assertEquals(2, count.get());
+    }
+
+    @Test
+    void cancelAllWhileRunningStopsTheTimer() {
+        final AtomicInteger count = new AtomicInteger();
+        final PacedTimer timer = timer(() -> {
+            count.incrementAndGet();
+            registry.cancelAll();
+        });
+        registry.start(timer, 0L);
+        step();
+        assertEquals(1, count.get());
+        assertTrue(timer.isCancelled());
+        assertTrue(runs.isEmpty());
+        assertEquals(0, registry.getLiveCount());
+    }
+
+    @Test
+    void runCancelledWhileRunningStopsTheTimer() {
+        final AtomicInteger count = new AtomicInteger();
+        final PacedTimer timer = timer(() -> {
+            count.incrementAndGet();
+            // as the platform does when cancelling every task of the plugin
+            runs.peekFirst().cancel();
+        });
+        registry.start(timer, 0L);
+        step();
+        assertEquals(1, count.get());
+        assertTrue(timer.isCancelled());
+        assertTrue(runs.isEmpty());
+        assertEquals(0, registry.getLiveCount());
+    }
+
+    @Test
+    void refusedStartLeavesTheTimerStopped() {
+        refusing = true;
+        final PacedTimer timer = timer(() -> { });
+        assertThrows(IllegalStateException.class, () -> registry.start(timer, 0L));
+        assertEquals(0, registry.getLiveCount());
+
+        final PacedTimer other = new PacedTimer(plugin, () -> now, () -> { }, TimerPolicy.fixedDelay(), 10L, 0L, (step, delay) -> null);
+        assertFalse(registry.start(other, 0L));
+        assertTrue(other.isCancelled());
+        assertEquals(0, registry.getLiveCount());
+    }
+
+    @Test
+    void refusedRescheduleAfterCancelIsDropped() {
+        final PacedTimer[] timer = new PacedTimer[1];
+        timer[0] = timer(() -> {
+            timer[0].cancel();
+            refusing = true;
+        });
+        registry.start(timer[0], 0L);
+        step();
+        assertTrue(timer[0].isCancelled());
+        assertTrue(runs.isEmpty());
+    }
+
+    @Test
+    void refusedRescheduleWhileLiveStopsAndThrows() {
+        final PacedTimer timer = timer(() -> refusing = true);
+        registry.start(timer, 0L);
+        assertThrows(IllegalStateException.class, this::step);
+        assertTrue(timer.isCancelled());
+        assertEquals(0, registry.getLiveCount());
+    }
+
+    private PacedTimer timer(@NotNull Runnable runnable) {
+        return new PacedTimer(plugin, () -> now, runnable, TimerPolicy.fixedDelay(), 10L, 0L, (step, delay) -> {
+            if (refusing) {
+                throw new IllegalStateException("Scheduler was shut down!");
+            }
+            final Run run = new Run(step);
+            runs.addLast(run);
+            return run;
+        });
+    }
+
+    private void step() {
+        final Run run = runs.peekFirst();
+        if (run == null) {
+            return;
+        }
+        now += 10L;
+        try {
+            if (!run.cancelled) {
+                run.step.run();
+            }
+        } finally {
+            runs.remove(run);
+        }
+    }
+
+    /**
+     * One-off run of the timer, stepped by hand.
+     */
+    private final class Run implements WrappedTask {
+
+        private final Runnable step;
+        private boolean cancelled;
+
+        private Run(@NotNull Runnable step) {
+            this.step = step;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public @NotNull Plugin getOwningPlugin() {
+            return plugin;
+        }
+    }
+}
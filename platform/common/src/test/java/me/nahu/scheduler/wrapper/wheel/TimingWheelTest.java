@@ -0,0 +1,156 @@
+package me.nahu.scheduler.wrapper.wheel;
+
+import me.nahu.scheduler.wrapper.TestPlugins;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import me.nahu.scheduler.wrapper.task.WrappedTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private final Plugin plugin = TestPlugins.create("wheel");
+
+    private TimingWheel wheel;
+    // tick of the running driver, null while the wheel is idle
+    private Runnable driver;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel(plugin, 8, tick -> new Driver(tick), Runnable::run, null);
+    }
+
+    @Test
+    void expiresOnceTheDelayHasPassed() {
+        final AtomicInteger runs = new AtomicInteger();
+        final WheelTask task = wheel.schedule(runs::incrementAndGet, TaskKind.GLOBAL, 3L, 0L);
+        tick(2);
+        assertEquals(0, runs.get());
+        tick(1);
+        assertEquals(1, runs.get());
+        assertTrue(task.isCompleted());
+        assertFalse(task.isCancelled());
+        assertEquals(0, wheel.size());
+        assertNull(driver);
+    }
+
+    @Test
+    void repeatsEveryPeriodUntilCancelled() {
+        final AtomicInteger runs = new AtomicInteger();
+        // longer than the wheel, so it wraps around a whole round
+        final WheelTask task = wheel.schedule(runs::incrementAndGet, TaskKind.GLOBAL, 1L, 10L);
+        tick(1);
+        assertEquals(1, runs.get());
+        tick(9);
+        assertEquals(1, runs.get());
+        tick(1);
+        assertEquals(2, runs.get());
+
+        task.cancel();
+        tick(20);
+        assertEquals(2, runs.get());
+        assertEquals(0, wheel.size());
+        assertNull(driver);
+    }
+
+    @Test
+    void cancelFromWithinTaskSkipsTheOtherDueTask() {
+        final AtomicInteger runs = new AtomicInteger();
+        final AtomicReference<WheelTask> first = new AtomicReference<>();
+        final AtomicReference<WheelTask> second = new AtomicReference<>();
+        // both share a bucket, whichever runs first cancels the other
+        first.set(wheel.schedule(() -> {
+            runs.incrementAndGet();
+            second.get().cancel();
+        }, TaskKind.GLOBAL, 2L, 5L));
+        second.set(wheel.schedule(() -> {
+            runs.incrementAndGet();
+            first.get().cancel();
+        }, TaskKind.GLOBAL, 2L, 5L));
+
+        tick(2);
+        assertEquals(1, runs.get());
+        assertTrue(first.get().isCancelled() != second.get().isCancelled());
+        // the cancelled task leaves the wheel on the next tick
+        tick(1);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void cancelAllFromWithinTaskStopsTheTick() {
+        final AtomicInteger runs = new AtomicInteger();
+        final WheelTask[] tasks = new WheelTask[3];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = wheel.schedule(() -> {
+                runs.incrementAndGet();
+                wheel.cancelAll();
+            }, TaskKind.GLOBAL, 1L, i == 0 ? 0L : 4L);
+        }
+        final WheelTask later = wheel.schedule(runs::incrementAndGet, TaskKind.GLOBAL, 3L, 0L);
+
+        tick(1);
+        assertEquals(1, runs.get());
+        assertEquals(0, wheel.size());
+        assertTrue(later.isCancelled());
+        assertNull(driver);
+    }
+
+    @Test
+    void scheduleFromWithinTaskRunsOnLaterTick() {
+        final AtomicInteger runs = new AtomicInteger();
+        wheel.schedule(() -> wheel.schedule(runs::incrementAndGet, TaskKind.GLOBAL, 1L, 0L), TaskKind.GLOBAL, 1L, 0L);
+        tick(1);
+        assertEquals(0, runs.get());
+        assertEquals(1, wheel.size());
+        tick(1);
+        assertEquals(1, runs.get());
+        assertEquals(0, wheel.size());
+    }
+
+    private void tick(int ticks) {
+        for (int i = 0; i < ticks && driver != null; i++) {
+            driver.run();
+        }
+    }
+
+    /**
+     * Driver task standing in for the platform, ticked by hand.
+     */
+    private final class Driver implements WrappedTask {
+
+        private final Runnable tick;
+        private boolean cancelled;
+
+        private Driver(@NotNull Runnable tick) {
+            this.tick = tick;
+            driver = tick;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            if (driver == tick) {
+                driver = null;
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public @NotNull Plugin getOwningPlugin() {
+            return plugin;
+        }
+    }
+}
@@ -5,9 +5,31 @@ import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
 import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import me.nahu.scheduler.wrapper.WrappedScheduler;
+import me.nahu.scheduler.wrapper.WrappedSchedulerOptions;
+import me.nahu.scheduler.wrapper.async.BoundedAsyncLane;
+import me.nahu.scheduler.wrapper.async.VirtualThreadExecutor;
+import me.nahu.scheduler.wrapper.budget.YieldableTask;
+import me.nahu.scheduler.wrapper.budget.YieldingRunner;
+import me.nahu.scheduler.wrapper.implementation.folia.region.RegionBatch;
+import me.nahu.scheduler.wrapper.implementation.folia.region.RegionSection;
 import me.nahu.scheduler.wrapper.implementation.folia.task.FoliaWrappedTask;
+import me.nahu.scheduler.wrapper.jfr.TaskEvents;
+import me.nahu.scheduler.wrapper.keyed.KeyedTaskLimiter;
+import me.nahu.scheduler.wrapper.metrics.NamedRunnable;
+import me.nahu.scheduler.wrapper.metrics.SchedulerMetrics;
+import me.nahu.scheduler.wrapper.queue.CoalescingQueue;
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.CompletedWrappedTask;
+import me.nahu.scheduler.wrapper.task.CompositeWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
+import me.nahu.scheduler.wrapper.task.TaskRegistry;
 import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.task.WrappedTaskFuture;
+import me.nahu.scheduler.wrapper.timer.PacedTimer;
+import me.nahu.scheduler.wrapper.timer.PacedTimerRegistry;
 import me.nahu.scheduler.wrapper.type.ImplementationType;
+import me.nahu.scheduler.wrapper.watchdog.SlowTaskWatchdog;
+import me.nahu.scheduler.wrapper.wheel.TimingWheel;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
@@ -16,39 +38,161 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Folia's implementation for schedulers.
+ * <p>
+ * Region ownership checks and the grouping of locations into regions go through protected methods, so servers
+ * shipping the same scheduler API with a different threading model can reuse this implementation.
  */
-public final class FoliaWrappedScheduler implements WrappedScheduler {
+public class FoliaWrappedScheduler implements WrappedScheduler {
 
-    private static final ImplementationType IMPLEMENTATION_TYPE = ImplementationType.FOLIA;
-
-    /**
-     * Empty runnable for
-     */
-    private static final Runnable EMPTY_RUNNABLE = () -> {
-    };
+    private static final int WHEEL_SIZE = 512;
+    private static final long HALF_TICK_NANOS = PacedTimer.toNanos(1L) / 2L;
+    private static final int REGION_WHEEL_SIZE = 64;
 
     private final Plugin plugin;
+    private final ImplementationType implementationType;
 
     private final GlobalRegionScheduler globalRegionScheduler;
     private final AsyncScheduler asyncScheduler;
     private final RegionScheduler regionScheduler;
 
+    private final CoalescingQueue coalescingQueue;
+    private final TaskRegistry taskRegistry = new TaskRegistry();
+    private final PacedTimerRegistry timerRegistry = new PacedTimerRegistry();
+    private final KeyedTaskLimiter keyedLimiter;
+    private final CompletedWrappedTask completedTask;
+
+    private final TimingWheel globalWheel;
+    private final TimingWheel asyncWheel;
+
+    private final VirtualThreadExecutor virtualExecutor;
+    private final BoundedAsyncLane asyncLane;
+    private final SchedulerMetrics metrics;
+    private final SlowTaskWatchdog watchdog;
+    private final Map<RegionSection, TimingWheel> regionWheels;
+
     /**
      * Main constructor for the wrapped scheduler.
      *
      * @param plugin {@link Plugin} owning plugin.
      */
     public FoliaWrappedScheduler(@NotNull Plugin plugin) {
+        this(plugin, WrappedSchedulerOptions.defaults());
+    }
+
+    /**
+     * Constructor for the wrapped scheduler with custom options.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param options {@link WrappedSchedulerOptions} scheduler options.
+     */
+    public FoliaWrappedScheduler(@NotNull Plugin plugin, @NotNull WrappedSchedulerOptions options) {
+        this(plugin, options, ImplementationType.FOLIA);
+    }
+
+    /**
+     * Constructor for implementations reusing the Folia scheduler API.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param options {@link WrappedSchedulerOptions} scheduler options.
+     * @param implementationType {@link ImplementationType} type reported by the scheduler.
+     */
+    protected FoliaWrappedScheduler(@NotNull Plugin plugin, @NotNull WrappedSchedulerOptions options, @NotNull ImplementationType implementationType) {
+        this(plugin, options, implementationType, Bukkit.getGlobalRegionScheduler(), Bukkit.getAsyncScheduler(), Bukkit.getRegionScheduler());
+    }
+
+    /**
+     * Constructor for implementations providing their own schedulers, instead of the ones of the server.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param options {@link WrappedSchedulerOptions} scheduler options.
+     * @param implementationType {@link ImplementationType} type reported by the scheduler.
+     * @param globalRegionScheduler {@link GlobalRegionScheduler} global region scheduler.
+     * @param asyncScheduler {@link AsyncScheduler} async scheduler.
+     * @param regionScheduler {@link RegionScheduler} region scheduler.
+     */
+    protected FoliaWrappedScheduler(
+        @NotNull Plugin plugin,
+        @NotNull WrappedSchedulerOptions options,
+        @NotNull ImplementationType implementationType,
+        @NotNull GlobalRegionScheduler globalRegionScheduler,
+        @NotNull AsyncScheduler asyncScheduler,
+        @NotNull RegionScheduler regionScheduler
+    ) {
         this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null!");
+        this.implementationType = Objects.requireNonNull(implementationType, "Implementation type cannot be null!");
+        Objects.requireNonNull(options, "Options cannot be null!");
+
+        this.globalRegionScheduler = Objects.requireNonNull(globalRegionScheduler, "Global region scheduler cannot be null!");
+        this.asyncScheduler = Objects.requireNonNull(asyncScheduler, "Async scheduler cannot be null!");
+        this.regionScheduler = Objects.requireNonNull(regionScheduler, "Region scheduler cannot be null!");
+
+        this.coalescingQueue = new CoalescingQueue(plugin, drainTask -> globalRegionScheduler.execute(plugin, drainTask));
+        this.keyedLimiter = new KeyedTaskLimiter(plugin, this::nanoTime);
+        this.completedTask = new CompletedWrappedTask(plugin);
 
-        this.globalRegionScheduler = Bukkit.getGlobalRegionScheduler();
-        this.asyncScheduler = Bukkit.getAsyncScheduler();
-        this.regionScheduler = Bukkit.getRegionScheduler();
+        // async tasks go to virtual threads ahead of the async wheel whenever the runtime allows it
+        this.virtualExecutor = options.isVirtualThreads() && VirtualThreadExecutor.isSupported() ? new VirtualThreadExecutor(plugin) : null;
+
+        this.metrics = options.isMetrics() ? new SchedulerMetrics(this::nanoTime) : null;
+        this.watchdog = options.getWatchdogBudget() != null ? new SlowTaskWatchdog(plugin, options.getWatchdogBudget()) : null;
+
+        if (options.isBoundedAsync()) {
+            this.asyncLane = new BoundedAsyncLane(
+                plugin,
+                options.getAsyncMaxConcurrency(),
+                options.getAsyncQueueLimit(),
+                options.getAsyncRejectionPolicy(),
+                worker -> {
+                    if (virtualExecutor != null) {
+                        virtualExecutor.execute(worker);
+                    } else {
+                        asyncScheduler.runNow(plugin, __ -> worker.run());
+                    }
+                }
+            );
+        } else {
+            this.asyncLane = null;
+        }
+
+        if (options.isTimingWheel()) {
+            this.globalWheel = new TimingWheel(
+                plugin,
+                WHEEL_SIZE,
+                tick -> setupDriver(tick, TaskKind.GLOBAL, task -> globalRegionScheduler.runAtFixedRate(plugin, task, 1L, 1L)),
+                Runnable::run,
+                null
+            );
+            this.asyncWheel = new TimingWheel(
+                plugin,
+                WHEEL_SIZE,
+                tick -> setupDriver(tick, TaskKind.ASYNC, task -> asyncScheduler.runAtFixedRate(plugin, task, toMillis(1L), toMillis(1L), TimeUnit.MILLISECONDS)),
+                task -> asyncScheduler.runNow(plugin, __ -> task.run()),
+                null
+            );
+            this.regionWheels = new ConcurrentHashMap<>();
+        } else {
+            this.globalWheel = null;
+            this.asyncWheel = null;
+            this.regionWheels = null;
+        }
     }
 
     /**
@@ -56,7 +200,7 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull ImplementationType getImplementationType() {
-        return IMPLEMENTATION_TYPE;
+        return implementationType;
     }
 
     /**
@@ -72,9 +216,38 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public void cancelAllTasks() {
+        if (globalWheel != null) {
+            globalWheel.cancelAll();
+            asyncWheel.cancelAll();
+            regionWheels.values().forEach(TimingWheel::cancelAll);
+        }
+        // regional and entity tasks can only be reached through the registry
+        keyedLimiter.cancelAll();
+        // before their runs, so a run executing right now does not schedule the next one
+        timerRegistry.cancelAll();
+        taskRegistry.cancelAll();
         globalRegionScheduler.cancelTasks(plugin);
         asyncScheduler.cancelTasks(plugin);
-        // cannot target regional tasks
+        // the drain task was cancelled along with the rest
+        coalescingQueue.cancelAll();
+        if (asyncLane != null) {
+            // so are the lane workers that did not start yet
+            asyncLane.cancelAll();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        cancelAllTasks();
+        if (watchdog != null) {
+            watchdog.shutdown();
+        }
+        if (virtualExecutor != null) {
+            virtualExecutor.shutdown();
+        }
     }
 
     /**
@@ -85,12 +258,70 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
         wrappedTask.cancel();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLiveTaskCount(@NotNull TaskKind kind) {
+        return taskRegistry.getLiveCount(kind);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLiveTaskCount() {
+        return taskRegistry.getLiveCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable BoundedAsyncLane getAsyncLane() {
+        return asyncLane;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable SchedulerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable SlowTaskWatchdog getWatchdog() {
+        return watchdog;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull PacedTimerRegistry getTimerRegistry() {
+        return timerRegistry;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull WrappedTask runTask(@NotNull Runnable runnable) {
-        return setupTask(globalRegionScheduler.run(plugin, __ -> runnable.run()));
+        final Runnable instrumented = instrument(runnable, TaskKind.GLOBAL, 0L, 0L);
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.GLOBAL, false);
+        return setupTask(task, globalRegionScheduler.run(plugin, task));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void runTaskCoalesced(@NotNull Runnable runnable) {
+        coalescingQueue.submit(runnable);
     }
 
     /**
@@ -98,7 +329,15 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskAsynchronously(@NotNull Runnable runnable) {
-        return setupTask(asyncScheduler.runNow(plugin, __ -> runnable.run()));
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, 0L, 0L);
+        if (asyncLane != null) {
+            return setupTask(asyncLane.submit(instrumented));
+        }
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.execute(instrumented));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ASYNC, false);
+        return setupTask(task, asyncScheduler.runNow(plugin, task));
     }
 
     /**
@@ -106,7 +345,9 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @Nullable WrappedTask runTaskAtEntity(@NotNull Entity entity, @NotNull Runnable runnable) {
-        return setupTask(entity.getScheduler().run(plugin, __ -> runnable.run(), EMPTY_RUNNABLE));
+        final Runnable instrumented = instrument(runnable, TaskKind.ENTITY, entity, 0L, 0L);
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ENTITY, false);
+        return setupTask(task, entity.getScheduler().run(plugin, task, task.getRetiredCallback()));
     }
 
     /**
@@ -114,7 +355,46 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskAtLocation(@NotNull Location location, @NotNull Runnable runnable) {
-        return setupTask(regionScheduler.run(plugin, location, __ -> runnable.run()));
+        final Runnable instrumented = instrument(runnable, TaskKind.LOCATION, location, 0L, 0L);
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.LOCATION, false);
+        return setupTask(task, regionScheduler.run(plugin, location, task));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runOrSchedule(@NotNull Runnable runnable) {
+        if (!isGlobalTickThread()) {
+            return runTask(runnable);
+        }
+        instrument(runnable, TaskKind.GLOBAL, 0L, 0L).run();
+        return completedTask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable WrappedTask runOrScheduleAtEntity(@NotNull Entity entity, @NotNull Runnable runnable) {
+        // invalid entities go through the scheduler, which does not run them either
+        if (!isOwnedByCurrentRegion(entity) || !entity.isValid()) {
+            return runTaskAtEntity(entity, runnable);
+        }
+        instrument(runnable, TaskKind.ENTITY, entity, 0L, 0L).run();
+        return completedTask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runOrScheduleAtLocation(@NotNull Location location, @NotNull Runnable runnable) {
+        if (!isOwnedByCurrentRegion(location)) {
+            return runTaskAtLocation(location, runnable);
+        }
+        instrument(runnable, TaskKind.LOCATION, location, 0L, 0L).run();
+        return completedTask;
     }
 
     /**
@@ -122,7 +402,12 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskTimer(@NotNull Runnable runnable, long delay, long period) {
-        return setupTask(globalRegionScheduler.runAtFixedRate(plugin, __ -> runnable.run(), delay, period));
+        final Runnable instrumented = instrument(runnable, TaskKind.GLOBAL, delay, period);
+        if (globalWheel != null) {
+            return setupTask(globalWheel.schedule(instrumented, TaskKind.GLOBAL, delay, period));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.GLOBAL, true);
+        return setupTask(task, globalRegionScheduler.runAtFixedRate(plugin, task, delay, period));
     }
 
     /**
@@ -130,7 +415,28 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, long delay, long period) {
-        return setupTask(asyncScheduler.runAtFixedRate(plugin, __ -> runnable.run(), toMillis(delay), toMillis(period), TimeUnit.MILLISECONDS));
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, delay, period);
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.scheduleAtFixedRate(instrumented, delay, period));
+        }
+        if (asyncWheel != null) {
+            return setupTask(asyncWheel.schedule(instrumented, TaskKind.ASYNC, delay, period));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ASYNC, true);
+        return setupTask(task, asyncScheduler.runAtFixedRate(plugin, task, toMillis(delay), toMillis(period), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskTimerAsynchronously(@NotNull Runnable runnable, long delay, long period, @NotNull TimeUnit unit) {
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, delay, period, unit);
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.scheduleAtFixedRate(instrumented, delay, period, unit));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ASYNC, true);
+        return setupTask(task, asyncScheduler.runAtFixedRate(plugin, task, Math.max(0L, delay), period, unit));
     }
 
     /**
@@ -138,7 +444,9 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @Nullable WrappedTask runTaskTimerAtEntity(@NotNull Entity entity, @NotNull Runnable runnable, long delay, long period) {
-        return setupTask(entity.getScheduler().runAtFixedRate(plugin, __ -> runnable.run(), EMPTY_RUNNABLE, delay, period));
+        final Runnable instrumented = instrument(runnable, TaskKind.ENTITY, entity, delay, period);
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ENTITY, true);
+        return setupTask(task, entity.getScheduler().runAtFixedRate(plugin, task, task.getRetiredCallback(), delay, period));
     }
 
     /**
@@ -146,7 +454,12 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskTimerAtLocation(@NotNull Location location, @NotNull Runnable runnable, long delay, long period) {
-        return setupTask(regionScheduler.runAtFixedRate(plugin, location, __ -> runnable.run(), delay, period));
+        final Runnable instrumented = instrument(runnable, TaskKind.LOCATION, location, delay, period);
+        if (regionWheels != null) {
+            return setupTask(getRegionWheel(location).schedule(ownedBy(location, instrumented), TaskKind.LOCATION, delay, period));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.LOCATION, true);
+        return setupTask(task, regionScheduler.runAtFixedRate(plugin, location, task, delay, period));
     }
 
     /**
@@ -154,7 +467,12 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskLater(@NotNull Runnable runnable, long delay) {
-        return setupTask(globalRegionScheduler.runDelayed(plugin, __ -> runnable.run(), delay));
+        final Runnable instrumented = instrument(runnable, TaskKind.GLOBAL, delay, 0L);
+        if (globalWheel != null) {
+            return setupTask(globalWheel.schedule(instrumented, TaskKind.GLOBAL, delay, 0L));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.GLOBAL, false);
+        return setupTask(task, globalRegionScheduler.runDelayed(plugin, task, delay));
     }
 
     /**
@@ -162,7 +480,28 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskLaterAsynchronously(@NotNull Runnable runnable, long delay) {
-        return setupTask(asyncScheduler.runDelayed(plugin, __ -> runnable.run(), toMillis(delay), TimeUnit.MILLISECONDS));
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, delay, 0L);
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.schedule(instrumented, delay));
+        }
+        if (asyncWheel != null) {
+            return setupTask(asyncWheel.schedule(instrumented, TaskKind.ASYNC, delay, 0L));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ASYNC, false);
+        return setupTask(task, asyncScheduler.runDelayed(plugin, task, toMillis(delay), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskLaterAsynchronously(@NotNull Runnable runnable, long delay, @NotNull TimeUnit unit) {
+        final Runnable instrumented = instrument(runnable, TaskKind.ASYNC, delay, 0L, unit);
+        if (virtualExecutor != null) {
+            return setupTask(virtualExecutor.schedule(instrumented, delay, unit));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ASYNC, false);
+        return setupTask(task, asyncScheduler.runDelayed(plugin, task, Math.max(0L, delay), unit));
     }
 
     /**
@@ -170,7 +509,9 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @Nullable WrappedTask runTaskLaterAtEntity(@NotNull Entity entity, @NotNull Runnable runnable, long delay) {
-        return setupTask(entity.getScheduler().runDelayed(plugin, __ -> runnable.run(), EMPTY_RUNNABLE, delay));
+        final Runnable instrumented = instrument(runnable, TaskKind.ENTITY, entity, delay, 0L);
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ENTITY, false);
+        return setupTask(task, entity.getScheduler().runDelayed(plugin, task, task.getRetiredCallback(), delay));
     }
 
     /**
@@ -178,21 +519,456 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
      */
     @Override
     public @NotNull WrappedTask runTaskLaterAtLocation(@NotNull Location location, @NotNull Runnable runnable, long delay) {
-        return setupTask(regionScheduler.runDelayed(plugin, location, __ -> runnable.run(), delay));
+        final Runnable instrumented = instrument(runnable, TaskKind.LOCATION, location, delay, 0L);
+        if (regionWheels != null) {
+            return setupTask(getRegionWheel(location).schedule(ownedBy(location, instrumented), TaskKind.LOCATION, delay, 0L));
+        }
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.LOCATION, false);
+        return setupTask(task, regionScheduler.runDelayed(plugin, location, task, delay));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer) {
+        return setupBatchTasks(group(locations, Function.identity()), TaskKind.LOCATION, 0L, 0L,
+            batch -> () -> runLocationBatch(batch, consumer),
+            (batch, task) -> regionScheduler.run(plugin, batch.getWorld(), batch.getChunkX(), batch.getChunkZ(), task)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskTimerAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer, long delay, long period) {
+        return setupBatchTasks(group(locations, Function.identity()), TaskKind.LOCATION, delay, period,
+            batch -> () -> runLocationBatch(batch, consumer),
+            (batch, task) -> regionScheduler.runAtFixedRate(plugin, batch.getWorld(), batch.getChunkX(), batch.getChunkZ(), task, delay, period)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskLaterAtLocations(@NotNull Collection<Location> locations, @NotNull Consumer<Location> consumer, long delay) {
+        return setupBatchTasks(group(locations, Function.identity()), TaskKind.LOCATION, delay, 0L,
+            batch -> () -> runLocationBatch(batch, consumer),
+            (batch, task) -> regionScheduler.runDelayed(plugin, batch.getWorld(), batch.getChunkX(), batch.getChunkZ(), task, delay)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskAtEntities(@NotNull Collection<? extends Entity> entities, @NotNull Consumer<Entity> consumer, @Nullable Consumer<Entity> retired) {
+        return setupBatchTasks(this.<Entity>group(entities, Entity::getLocation), TaskKind.ENTITY, 0L, 0L,
+            batch -> new EntityBatch(batch.getValues(), consumer, retired)::run,
+            (batch, task) -> regionScheduler.run(plugin, batch.getWorld(), batch.getChunkX(), batch.getChunkZ(), task)
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask runTaskTimerAtEntities(@NotNull Collection<? extends Entity> entities, @NotNull Consumer<Entity> consumer, @Nullable Consumer<Entity> retired, long delay, long period) {
+        return setupBatchTasks(this.<Entity>group(entities, Entity::getLocation), TaskKind.ENTITY, delay, period,
+            batch -> new EntityBatch(batch.getValues(), consumer, retired)::run,
+            (batch, task) -> regionScheduler.runAtFixedRate(plugin, batch.getWorld(), batch.getChunkX(), batch.getChunkZ(), task, delay, period)
+        );
     }
 
     /**
-     * Set up the wrapped task for the given task.
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @NotNull CompletableFuture<T> supplyAtEntity(@NotNull Entity entity, @NotNull Supplier<? extends T> supplier) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        final Runnable instrumented = instrument(future.supplying(supplier), TaskKind.ENTITY, entity, 0L, 0L);
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ENTITY, false);
+        return future.bind(setupTask(task, entity.getScheduler().run(plugin, task, retire(task, future))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> @NotNull CompletableFuture<T> supplyAtEntityLater(@NotNull Entity entity, @NotNull Supplier<? extends T> supplier, long delay) {
+        final WrappedTaskFuture<T> future = new WrappedTaskFuture<>();
+        final Runnable instrumented = instrument(future.supplying(supplier), TaskKind.ENTITY, entity, delay, 0L);
+        final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrumented, TaskKind.ENTITY, false);
+        return future.bind(setupTask(task, entity.getScheduler().runDelayed(plugin, task, retire(task, future), delay)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull CompletableFuture<Void> runYieldableAtEntity(@NotNull Entity entity, @NotNull YieldableTask task, @NotNull Duration budget) {
+        final YieldingRunner runner = new YieldingRunner(task, budget);
+        final WrappedTaskFuture<Void> future = runner.getFuture();
+        final FoliaWrappedTask wrappedTask = new FoliaWrappedTask(plugin, instrument(runner, TaskKind.ENTITY, entity, 1L, 1L), TaskKind.ENTITY, true);
+        return future.bind(setupTask(wrappedTask, entity.getScheduler().runAtFixedRate(plugin, wrappedTask, retire(wrappedTask, future), 1L, 1L)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask debounce(@NotNull Object key, long delay, @NotNull Runnable runnable) {
+        return keyedLimiter.debounce(TaskKind.GLOBAL, null, key, PacedTimer.toNanos(delay), HALF_TICK_NANOS, runnable,
+            (step, nanos) -> runTaskLater(step, PacedTimer.toTicks(nanos)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask debounceAsynchronously(@NotNull Object key, @NotNull Duration delay, @NotNull Runnable runnable) {
+        return keyedLimiter.debounce(TaskKind.ASYNC, null, key, delay.toNanos(), 0L, runnable,
+            (step, nanos) -> runTaskLaterAsynchronously(step, nanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable WrappedTask debounceAtEntity(@NotNull Entity entity, @NotNull Object key, long delay, @NotNull Runnable runnable) {
+        final WrappedTask task = keyedLimiter.debounce(TaskKind.ENTITY, entity, key, PacedTimer.toNanos(delay), HALF_TICK_NANOS, runnable,
+            (step, nanos) -> runTaskLaterAtEntity(entity, step, PacedTimer.toTicks(nanos)));
+        return task.isCancelled() ? null : task;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask debounceAtLocation(@NotNull Location location, @NotNull Object key, long delay, @NotNull Runnable runnable) {
+        return keyedLimiter.debounce(TaskKind.LOCATION, location, key, PacedTimer.toNanos(delay), HALF_TICK_NANOS, runnable,
+            (step, nanos) -> runTaskLaterAtLocation(location, step, PacedTimer.toTicks(nanos)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask throttle(@NotNull Object key, long period, @NotNull Runnable runnable) {
+        return keyedLimiter.throttle(TaskKind.GLOBAL, null, key, PacedTimer.toNanos(period), runnable,
+            (step, nanos) -> runTaskLater(step, PacedTimer.toTicks(nanos)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask throttleAsynchronously(@NotNull Object key, @NotNull Duration period, @NotNull Runnable runnable) {
+        return keyedLimiter.throttle(TaskKind.ASYNC, null, key, period.toNanos(), runnable,
+            (step, nanos) -> runTaskLaterAsynchronously(step, nanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable WrappedTask throttleAtEntity(@NotNull Entity entity, @NotNull Object key, long period, @NotNull Runnable runnable) {
+        final WrappedTask task = keyedLimiter.throttle(TaskKind.ENTITY, entity, key, PacedTimer.toNanos(period), runnable,
+            (step, nanos) -> runTaskLaterAtEntity(entity, step, PacedTimer.toTicks(nanos)));
+        return task.isCancelled() ? null : task;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull WrappedTask throttleAtLocation(@NotNull Location location, @NotNull Object key, long period, @NotNull Runnable runnable) {
+        return keyedLimiter.throttle(TaskKind.LOCATION, location, key, PacedTimer.toNanos(period), runnable,
+            (step, nanos) -> runTaskLaterAtLocation(location, step, PacedTimer.toTicks(nanos)));
+    }
+
+    /**
+     * Check if the current thread is the global region thread.
+     *
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    protected boolean isGlobalTickThread() {
+        return Bukkit.isGlobalTickThread();
+    }
+
+    /**
+     * Check if the current thread owns the given entity.
+     *
+     * @param entity Entity to check.
+     * @return {@code true} if it does, {@code false} otherwise.
+     */
+    protected boolean isOwnedByCurrentRegion(@NotNull Entity entity) {
+        return Bukkit.isOwnedByCurrentRegion(entity);
+    }
+
+    /**
+     * Check if the current thread owns the given location.
+     *
+     * @param location Location to check.
+     * @return {@code true} if it does, {@code false} otherwise.
+     */
+    protected boolean isOwnedByCurrentRegion(@NotNull Location location) {
+        return Bukkit.isOwnedByCurrentRegion(location);
+    }
+
+    /**
+     * Group the given values into batches, each scheduled as a single task.
+     *
+     * @param values Values to group.
+     * @param locator Function providing the location of each value.
+     * @param <T> Type of the grouped values.
+     * @return Collection of batches.
+     */
+    @NotNull
+    protected <T> Collection<RegionBatch<T>> group(@NotNull Collection<? extends T> values, @NotNull Function<? super T, Location> locator) {
+        return RegionBatch.group(values, locator);
+    }
+
+    /**
+     * Get the section whose timing wheel runs the location tasks of the given location.
+     *
+     * @param location Location, which must have a world.
+     * @return {@link RegionSection} section.
+     */
+    @NotNull
+    protected RegionSection sectionOf(@NotNull Location location) {
+        return RegionSection.of(location);
+    }
+
+    /**
+     * Get the retired callback for an entity task completing a future, rejecting the future once the entity is removed.
+     *
+     * @param task {@link FoliaWrappedTask} entity task.
+     * @param future {@link WrappedTaskFuture} future completed by the task.
+     * @return Retired callback.
+     */
+    @NotNull
+    private static Runnable retire(@NotNull FoliaWrappedTask task, @NotNull WrappedTaskFuture<?> future) {
+        return () -> {
+            // rejected first, completing the task would reject it with a vaguer message
+            future.reject("Entity was removed before the task could run!");
+            task.complete();
+        };
+    }
+
+    /**
+     * Run the consumer for every location of the batch. Locations not owned by the running region, which only happens
+     * when the server uses a smaller region grid than {@link RegionSection#SHIFT}, are dispatched on their own.
+     *
+     * @param batch Batch of locations.
+     * @param consumer Consumer to run for each location.
+     */
+    private void runLocationBatch(@NotNull RegionBatch<Location> batch, @NotNull Consumer<Location> consumer) {
+        for (Location location : batch.getValues()) {
+            if (isOwnedByCurrentRegion(location)) {
+                consumer.accept(location);
+            } else {
+                regionScheduler.execute(plugin, location, () -> consumer.accept(location));
+            }
+        }
+    }
+
+    /**
+     * Get the timing wheel for the region section of the given location, creating it if necessary. The wheel is driven
+     * from the chunk of the location that created it, and is discarded once it runs out of tasks.
+     *
+     * @param location Location to get the wheel for.
+     * @return {@link TimingWheel} wheel.
+     */
+    @NotNull
+    private TimingWheel getRegionWheel(@NotNull Location location) {
+        return regionWheels.computeIfAbsent(sectionOf(location), section -> {
+            final int chunkX = location.getBlockX() >> 4;
+            final int chunkZ = location.getBlockZ() >> 4;
+            return new TimingWheel(
+                plugin,
+                REGION_WHEEL_SIZE,
+                tick -> setupDriver(tick, TaskKind.LOCATION, task -> regionScheduler.runAtFixedRate(plugin, section.world(), chunkX, chunkZ, task, 1L, 1L)),
+                Runnable::run,
+                wheel -> regionWheels.remove(section, wheel)
+            );
+        });
+    }
+
+    /**
+     * Guard a runnable running from a region wheel, dispatching it on its own if the running region does not own the
+     * location, which only happens when the server uses a smaller region grid than {@link RegionSection#SHIFT}.
+     *
+     * @param location Location the runnable belongs to.
+     * @param runnable Runnable to guard.
+     * @return Guarded runnable, named after the runnable it guards.
+     */
+    @NotNull
+    private Runnable ownedBy(@NotNull Location location, @NotNull Runnable runnable) {
+        final Location target = location.clone();
+        return new NamedRunnable() {
+            @Override
+            public @NotNull String getTaskName() {
+                return SlowTaskWatchdog.nameOf(runnable);
+            }
+
+            @Override
+            public void run() {
+                if (isOwnedByCurrentRegion(target)) {
+                    runnable.run();
+                } else {
+                    regionScheduler.execute(plugin, target, runnable);
+                }
+            }
+        };
+    }
+
+    /**
+     * Set up a composite wrapped task, scheduling one task per batch.
      *
-     * @param task {@link ScheduledTask} task.
+     * @param batches Batches to schedule.
+     * @param kind {@link TaskKind} kind of the batch tasks.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if the batch tasks only run once.
+     * @param body Function creating the body of a single batch.
+     * @param scheduler Function scheduling a single batch.
+     * @param <T> Type of the batched values.
      * @return {@link WrappedTask} wrapped task.
      */
+    @NotNull
+    private <T> WrappedTask setupBatchTasks(
+        @NotNull Collection<RegionBatch<T>> batches,
+        @NotNull TaskKind kind,
+        long delay,
+        long period,
+        @NotNull Function<RegionBatch<T>, Runnable> body,
+        @NotNull BiFunction<RegionBatch<T>, FoliaWrappedTask, ScheduledTask> scheduler
+    ) {
+        final List<WrappedTask> tasks = new ArrayList<>(batches.size());
+        for (RegionBatch<T> batch : batches) {
+            final FoliaWrappedTask task = new FoliaWrappedTask(plugin, instrument(body.apply(batch), kind, batch, delay, period), kind, period > 0L);
+            final WrappedTask wrappedTask = setupTask(task, scheduler.apply(batch, task));
+            if (wrappedTask != null) {
+                tasks.add(wrappedTask);
+            }
+        }
+        return new CompositeWrappedTask(plugin, tasks);
+    }
+
+    /**
+     * Set up the wrapped task for the given task, registering it as live.
+     *
+     * @param task {@link FoliaWrappedTask} wrapped task.
+     * @param scheduled {@link ScheduledTask} scheduled task, {@code null} if the platform refused it.
+     * @return {@link WrappedTask} wrapped task, {@code null} if the platform refused it.
+     */
     @UnknownNullability
-    private WrappedTask setupTask(@Nullable ScheduledTask task) {
-        if (task == null) {
+    private WrappedTask setupTask(@NotNull FoliaWrappedTask task, @Nullable ScheduledTask scheduled) {
+        if (scheduled == null) {
+            task.complete();
             return null;
         }
-        return new FoliaWrappedTask(task);
+        return setupTask(task.bind(scheduled));
+    }
+
+    /**
+     * Instrument the runnable for the scheduler metrics, the slow task watchdog and the Flight Recorder, if enabled.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @return Instrumented runnable, or the same runnable if none is enabled.
+     */
+    @NotNull
+    private Runnable instrument(@NotNull Runnable runnable, @NotNull TaskKind kind, long delay, long period) {
+        return instrument(runnable, kind, null, delay, period);
+    }
+
+    /**
+     * Instrument the runnable for the scheduler metrics, the slow task watchdog and the Flight Recorder, if enabled.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param target {@link Entity}, {@link Location} or {@link RegionBatch} the task runs at, {@code null} if it has none.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @return Instrumented runnable, or the same runnable if none is enabled.
+     */
+    @NotNull
+    private Runnable instrument(@NotNull Runnable runnable, @NotNull TaskKind kind, @Nullable Object target, long delay, long period) {
+        return instrument(runnable, kind, target, toMillis(delay), toMillis(period), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Instrument the runnable for the scheduler metrics, the slow task watchdog and the Flight Recorder, if enabled.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return Instrumented runnable, or the same runnable if none is enabled.
+     */
+    @NotNull
+    private Runnable instrument(@NotNull Runnable runnable, @NotNull TaskKind kind, long delay, long period, @NotNull TimeUnit unit) {
+        return instrument(runnable, kind, null, delay, period, unit);
+    }
+
+    /**
+     * Instrument the runnable for the scheduler metrics, the slow task watchdog and the Flight Recorder, if enabled.
+     *
+     * @param runnable Runnable to instrument.
+     * @param kind {@link TaskKind} kind the task was requested as.
+     * @param target {@link Entity}, {@link Location} or {@link RegionBatch} the task runs at, {@code null} if it has none.
+     * @param delay Delay before first execution.
+     * @param period Delay between executions, zero if it only runs once.
+     * @param unit {@link TimeUnit} unit of the delay and period.
+     * @return Instrumented runnable, or the same runnable if none is enabled.
+     */
+    @NotNull
+    private Runnable instrument(
+        @NotNull Runnable runnable,
+        @NotNull TaskKind kind,
+        @Nullable Object target,
+        long delay,
+        long period,
+        @NotNull TimeUnit unit
+    ) {
+        Runnable instrumented = metrics == null ? runnable : metrics.instrument(runnable, kind, delay, period, unit);
+        if (watchdog != null) {
+            instrumented = watchdog.watch(instrumented, SlowTaskWatchdog.nameOf(runnable), kind);
+        }
+        // traced last, so the recorded runs include the time spent in the other instrumentation
+        return TaskEvents.trace(instrumented, runnable, plugin, kind, target, delay, period, unit);
+    }
+
+    /**
+     * Set up the wrapped task, registering it as live.
+     *
+     * @param task {@link AbstractWrappedTask} task.
+     * @return {@link WrappedTask} wrapped task.
+     */
+    @NotNull
+    private WrappedTask setupTask(@NotNull AbstractWrappedTask task) {
+        taskRegistry.register(task);
+        return task;
+    }
+
+    /**
+     * Set up the task driving a timing wheel. Drivers are internal and never registered as live tasks.
+     *
+     * @param tick Runnable ticking the wheel.
+     * @param kind {@link TaskKind} kind of the driver.
+     * @param scheduler Function scheduling the driver.
+     * @return {@link WrappedTask} wrapped task.
+     */
+    @NotNull
+    private WrappedTask setupDriver(@NotNull Runnable tick, @NotNull TaskKind kind, @NotNull Function<FoliaWrappedTask, ScheduledTask> scheduler) {
+        final FoliaWrappedTask driver = new FoliaWrappedTask(plugin, tick, kind, true);
+        return driver.bind(scheduler.apply(driver));
     }
 
     /**
@@ -204,4 +980,53 @@ public final class FoliaWrappedScheduler implements WrappedScheduler {
     public static long toMillis(long ticks) {
         return ticks * 50L;
     }
+
+    /**
+     * Batch of entities that shared a region when scheduled. Entities still owned by the running region are handled
+     * inline, the ones that moved away are handed to their own entity scheduler, and removed ones are reported once.
+     */
+    private final class EntityBatch {
+
+        private final List<Entity> entities;
+        private final Set<Entity> retiredEntities = ConcurrentHashMap.newKeySet();
+        private final Consumer<Entity> consumer;
+        private final Consumer<Entity> retired;
+
+        private EntityBatch(@NotNull List<Entity> entities, @NotNull Consumer<Entity> consumer, @Nullable Consumer<Entity> retired) {
+            this.entities = new ArrayList<>(entities);
+            this.consumer = consumer;
+            this.retired = retired;
+        }
+
+        private void run() {
+            final Iterator<Entity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                final Entity entity = iterator.next();
+                if (!retiredEntities.isEmpty() && retiredEntities.remove(entity)) {
+                    // already reported by its entity scheduler
+                    iterator.remove();
+                    continue;
+                }
+                if (isOwnedByCurrentRegion(entity)) {
+                    if (entity.isValid()) {
+                        consumer.accept(entity);
+                        continue;
+                    }
+                } else if (entity.getScheduler().execute(plugin, () -> consumer.accept(entity), () -> {
+                    retiredEntities.add(entity);
+                    retire(entity);
+                }, 1L)) {
+                    continue;
+                }
+                iterator.remove();
+                retire(entity);
+            }
+        }
+
+        private void retire(@NotNull Entity entity) {
+            if (retired != null) {
+                retired.accept(entity);
+            }
+        }
+    }
 }
@@ -0,0 +1,129 @@
+package me.nahu.scheduler.wrapper.implementation.folia.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Group of values that share the same region section, and are therefore always owned by the same region.
+ *
+ * @param <T> Type of the grouped values.
+ */
+public final class RegionBatch<T> {
+
+    private final World world;
+    private final int chunkX;
+    private final int chunkZ;
+    private final List<T> values = new ArrayList<>();
+
+    private RegionBatch(@NotNull World world, int chunkX, int chunkZ) {
+        this.world = world;
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+
+    /**
+     * Get the world of the batch.
+     *
+     * @return {@link World} world.
+     */
+    @NotNull
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Get the chunk the batch should be scheduled at, which is the chunk of its first value.
+     *
+     * @return Chunk X coordinate.
+     */
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    /**
+     * Get the chunk the batch should be scheduled at, which is the chunk of its first value.
+     *
+     * @return Chunk Z coordinate.
+     */
+    public int getChunkZ() {
+        return chunkZ;
+    }
+
+    /**
+     * Get the values of the batch.
+     *
+     * @return List of values, in the order they were provided.
+     */
+    @NotNull
+    public List<T> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return world.getName() + " [" + chunkX + ", " + chunkZ + "]";
+    }
+
+    /**
+     * Group the given values by the region section of their location.
+     *
+     * @param values Values to group.
+     * @param locator Function providing the location of each value.
+     * @param <T> Type of the grouped values.
+     * @return Collection of batches.
+     */
+    @NotNull
+    public static <T> Collection<RegionBatch<T>> group(@NotNull Collection<? extends T> values, @NotNull Function<? super T, Location> locator) {
+        final Map<RegionSection, RegionBatch<T>> batches = new HashMap<>();
+        for (T value : values) {
+            final Location location = locator.apply(value);
+            final World world = location.getWorld();
+            if (world == null) {
+                throw new IllegalArgumentException("Location must have a world!");
+            }
+            final int chunkX = location.getBlockX() >> 4;
+            final int chunkZ = location.getBlockZ() >> 4;
+            batches.computeIfAbsent(
+                RegionSection.of(world, chunkX, chunkZ),
+                __ -> new RegionBatch<>(world, chunkX, chunkZ)
+            ).values.add(value);
+        }
+        return batches.values();
+    }
+
+    /**
+     * Put every given value in a single batch, scheduled at the chunk of the first value. Only for servers where a
+     * single thread owns every region.
+     *
+     * @param values Values to group.
+     * @param locator Function providing the location of each value.
+     * @param <T> Type of the grouped values.
+     * @return Collection holding the batch, empty if there are no values.
+     */
+    @NotNull
+    public static <T> Collection<RegionBatch<T>> single(@NotNull Collection<? extends T> values, @NotNull Function<? super T, Location> locator) {
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Location location = locator.apply(values.iterator().next());
+        final World world = location.getWorld();
+        if (world == null) {
+            throw new IllegalArgumentException("Location must have a world!");
+        }
+        final RegionBatch<T> batch = new RegionBatch<>(world, location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        batch.values.addAll(values);
+        return Collections.singletonList(batch);
+    }
+}
@@ -0,0 +1,49 @@
+package me.nahu.scheduler.wrapper.implementation.folia.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Region section, the smallest area that is always owned by a single region.
+ *
+ * @param world World of the section.
+ * @param x Section X coordinate.
+ * @param z Section Z coordinate.
+ */
+public record RegionSection(@NotNull World world, int x, int z) {
+
+    /**
+     * Shift from chunk coordinates to region section coordinates. This matches Folia's default grid exponent, servers
+     * configured with a smaller one are still handled by re-dispatching work not owned by the running region.
+     */
+    public static final int SHIFT = 4;
+
+    /**
+     * Get the section of the given chunk.
+     *
+     * @param world World of the chunk.
+     * @param chunkX Chunk X coordinate.
+     * @param chunkZ Chunk Z coordinate.
+     * @return {@link RegionSection} section.
+     */
+    @NotNull
+    public static RegionSection of(@NotNull World world, int chunkX, int chunkZ) {
+        return new RegionSection(world, chunkX >> SHIFT, chunkZ >> SHIFT);
+    }
+
+    /**
+     * Get the section of the given location.
+     *
+     * @param location Location, which must have a world.
+     * @return {@link RegionSection} section.
+     */
+    @NotNull
+    public static RegionSection of(@NotNull Location location) {
+        final World world = location.getWorld();
+        if (world == null) {
+            throw new IllegalArgumentException("Location must have a world!");
+        }
+        return of(world, location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+}
@@ -1,32 +1,95 @@
 package me.nahu.scheduler.wrapper.implementation.folia.task;
 
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
-import me.nahu.scheduler.wrapper.task.WrappedTask;
+import me.nahu.scheduler.wrapper.task.AbstractWrappedTask;
+import me.nahu.scheduler.wrapper.task.TaskKind;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Consumer;
+
 /**
- * Bukkit implementation for wrapped tasks.
+ * Folia implementation for wrapped tasks.
+ * <p>
+ * The wrapped task is handed to the Folia schedulers directly as their task consumer, so no lambda is allocated per
+ * call, and bound to the resulting {@link ScheduledTask} afterwards. Entity tasks also carry the callback completing
+ * them once their entity is retired, created along with the task.
  */
-public class FoliaWrappedTask implements WrappedTask {
+public class FoliaWrappedTask extends AbstractWrappedTask implements Consumer<ScheduledTask> {
+
+    private final Plugin plugin;
+    private final Runnable retired;
 
-    private final ScheduledTask task;
+    private volatile ScheduledTask task;
+    private volatile boolean cancelRequested;
 
     /**
      * Main constructor for the wrapped task.
      *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param runnable Runnable to run.
+     * @param kind {@link TaskKind} kind of the task.
+     * @param repeating Whether the task is repeating.
+     */
+    public FoliaWrappedTask(@NotNull Plugin plugin, @NotNull Runnable runnable, @NotNull TaskKind kind, boolean repeating) {
+        super(runnable, kind, repeating);
+        this.plugin = plugin;
+        this.retired = kind == TaskKind.ENTITY ? this::complete : null;
+    }
+
+    /**
+     * Get the callback completing the task once its entity is retired, to hand to the entity scheduler.
+     *
+     * @return Retired callback.
+     * @throws IllegalStateException if the task is not an entity task.
+     */
+    @NotNull
+    public Runnable getRetiredCallback() throws IllegalStateException {
+        if (retired == null) {
+            throw new IllegalStateException("Task is not an entity task!");
+        }
+        return retired;
+    }
+
+    /**
+     * Bind the wrapped task to the scheduled Folia task.
+     *
      * @param task {@link ScheduledTask} task.
+     * @return This wrapped task.
      */
-    public FoliaWrappedTask(@NotNull ScheduledTask task) {
+    @NotNull
+    public FoliaWrappedTask bind(@NotNull ScheduledTask task) {
         this.task = task;
+        // async and regional tasks may have cancelled themselves before the scheduler returned
+        if (cancelRequested) {
+            task.cancel();
+        }
+        return this;
+    }
+
+    /**
+     * Run the task from the Folia schedulers, binding it first if it was not bound yet.
+     *
+     * @param task {@link ScheduledTask} task being run.
+     */
+    @Override
+    public void accept(@NotNull ScheduledTask task) {
+        if (this.task == null) {
+            this.task = task;
+        }
+        run();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void cancel() {
-        task.cancel();
+    protected void cancelTask() {
+        this.cancelRequested = true;
+        final ScheduledTask task = this.task;
+        if (task != null) {
+            task.cancel();
+        }
     }
 
     /**
@@ -34,7 +97,8 @@ public class FoliaWrappedTask implements WrappedTask {
      */
     @Override
     public boolean isCancelled() {
-        return task.isCancelled();
+        final ScheduledTask task = this.task;
+        return task == null ? cancelRequested : task.isCancelled();
     }
 
     /**
@@ -42,6 +106,6 @@ public class FoliaWrappedTask implements WrappedTask {
      */
     @Override
     public @NotNull Plugin getOwningPlugin() {
-        return task.getOwningPlugin();
+        return plugin;
     }
 }
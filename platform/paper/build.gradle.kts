@@ -0,0 +1,5 @@
+dependencies {
+    compileOnly("io.papermc.paper:paper-api:1.20.1-R0.1-SNAPSHOT")
+    implementation(project(":platform:common"))
+    implementation(project(":platform:folia"))
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package me.nahu.scheduler.wrapper.implementation.paper;
+
+import me.nahu.scheduler.wrapper.WrappedSchedulerOptions;
+import me.nahu.scheduler.wrapper.implementation.folia.FoliaWrappedScheduler;
+import me.nahu.scheduler.wrapper.implementation.folia.region.RegionBatch;
+import me.nahu.scheduler.wrapper.implementation.folia.region.RegionSection;
+import me.nahu.scheduler.wrapper.type.ImplementationType;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Paper's implementation for schedulers, for Paper 1.20 or newer without Folia.
+ * <p>
+ * Paper ships the global region, region, entity and async schedulers of Folia, but ticks every region on the server
+ * main thread. Tasks go through those native schedulers, async ones with millisecond precision, while ownership checks
+ * only compare against the main thread. Batched location and entity tasks are never split per region, and location
+ * timing wheels are shared per world.
+ */
+public final class PaperWrappedScheduler extends FoliaWrappedScheduler {
+
+    /**
+     * Main constructor for the wrapped scheduler.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     */
+    public PaperWrappedScheduler(@NotNull Plugin plugin) {
+        this(plugin, WrappedSchedulerOptions.defaults());
+    }
+
+    /**
+     * Constructor for the wrapped scheduler with custom options.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param options {@link WrappedSchedulerOptions} scheduler options.
+     */
+    public PaperWrappedScheduler(@NotNull Plugin plugin, @NotNull WrappedSchedulerOptions options) {
+        super(plugin, options, ImplementationType.PAPER);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The global region is ticked by the server main thread.
+     */
+    @Override
+    protected boolean isGlobalTickThread() {
+        return Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every entity is owned by the server main thread.
+     */
+    @Override
+    protected boolean isOwnedByCurrentRegion(@NotNull Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every location is owned by the server main thread.
+     */
+    @Override
+    protected boolean isOwnedByCurrentRegion(@NotNull Location location) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every value goes into a single batch, as a single thread owns every region.
+     */
+    @Override
+    protected <T> @NotNull Collection<RegionBatch<T>> group(@NotNull Collection<? extends T> values, @NotNull Function<? super T, Location> locator) {
+        return RegionBatch.single(values, locator);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every location of a world shares the same section.
+     */
+    @Override
+    protected @NotNull RegionSection sectionOf(@NotNull Location location) {
+        final World world = location.getWorld();
+        if (world == null) {
+            throw new IllegalArgumentException("Location must have a world!");
+        }
+        return new RegionSection(world, 0, 0);
+    }
+}
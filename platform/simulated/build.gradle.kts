@@ -0,0 +1,5 @@
+dependencies {
+    api("dev.folia:folia-api:1.20.1-R0.1-SNAPSHOT")
+    api(project(":platform:common"))
+    api(project(":platform:folia"))
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Factory for the simulated server objects.
+ * <p>
+ * {@link org.bukkit.World}, {@link org.bukkit.entity.Entity} and {@link org.bukkit.plugin.Plugin} are far too large to
+ * implement by hand, so they are backed by dynamic proxies answering only what the simulation models. Anything else
+ * throws an {@link UnsupportedOperationException}.
+ */
+final class Proxies {
+
+    private Proxies() {
+        throw new UnsupportedOperationException("This class cannot be instantiated!");
+    }
+
+    /**
+     * Create a proxy of the given interface. Equality is identity, and {@code toString} returns the given name.
+     *
+     * @param type Interface to proxy.
+     * @param name Name of the proxy.
+     * @param answers Answers per method name, given the arguments of the call.
+     * @param <T> Type of the interface.
+     * @return Proxy instance.
+     */
+    @NotNull
+    static <T> T create(@NotNull Class<T> type, @NotNull String name, @NotNull Map<String, Function<Object[], Object>> answers) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return args != null && args.length == 1 && proxy == args[0];
+                case "hashCode":
+                    if (method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    break;
+                case "toString":
+                    if (method.getParameterCount() == 0) {
+                        return name;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            final Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args == null ? new Object[0] : args);
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "#" + method.getName() + " is not simulated!");
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+}
@@ -0,0 +1,30 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+/**
+ * Region of the simulated server, the area ticked by a single simulated region thread.
+ *
+ * @param world World of the region.
+ * @param x Region X coordinate.
+ * @param z Region Z coordinate.
+ */
+public record RegionKey(@NotNull World world, int x, int z) implements Comparable<RegionKey> {
+
+    private static final Comparator<RegionKey> ORDER = Comparator.<RegionKey, String>comparing(key -> key.world().getName())
+        .thenComparingInt(RegionKey::x)
+        .thenComparingInt(RegionKey::z);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Regions are ordered by world name, then by X and Z, which is the order they are ticked in.
+     */
+    @Override
+    public int compareTo(@NotNull RegionKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,53 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Async scheduler of the simulated server, timed by the virtual clock.
+ */
+final class SimulatedAsyncScheduler implements AsyncScheduler {
+
+    private final SimulatedServer server;
+
+    SimulatedAsyncScheduler(@NotNull SimulatedServer server) {
+        this.server = server;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runNow(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task) {
+        return server.scheduleAsync(plugin, task, 0L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long delay, @NotNull TimeUnit unit) {
+        return server.scheduleAsync(plugin, task, unit.toNanos(delay), 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long initialDelay, long period, @NotNull TimeUnit unit) {
+        return server.scheduleAsync(plugin, task, unit.toNanos(initialDelay), Math.max(1L, unit.toNanos(period)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTasks(@NotNull Plugin plugin) {
+        server.cancelAsyncTasks(plugin);
+    }
+}
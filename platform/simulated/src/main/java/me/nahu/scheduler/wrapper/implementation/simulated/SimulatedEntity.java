@@ -0,0 +1,192 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.UUID;
+
+/**
+ * Entity of the simulated server, owned by the region of its location.
+ * <p>
+ * Tasks of the entity run on the region owning it when they are due. Once removed, every pending task is retired on the
+ * next tick and new tasks are rejected, like on Folia.
+ */
+public final class SimulatedEntity {
+
+    private final SimulatedServer server;
+    private final int id;
+    private final UUID uniqueId;
+    private final Queue<SimulatedTask> tasks = new PriorityQueue<>();
+    private final EntityScheduler scheduler;
+    private final Entity entity;
+
+    private Location location;
+    private boolean removed;
+
+    /**
+     * Main constructor for the entity, use {@link SimulatedServer#spawnEntity(Location)} instead.
+     *
+     * @param server {@link SimulatedServer} server of the entity.
+     * @param id Id of the entity.
+     * @param location Location of the entity.
+     */
+    SimulatedEntity(@NotNull SimulatedServer server, int id, @NotNull Location location) {
+        this.server = server;
+        this.id = id;
+        this.uniqueId = UUID.nameUUIDFromBytes(("SimulatedEntity:" + id).getBytes(StandardCharsets.UTF_8));
+        this.location = checkLocation(location);
+        this.scheduler = new SimulatedEntityScheduler(server, this);
+        this.entity = Proxies.create(Entity.class, "SimulatedEntity{id=" + id + "}", Map.of(
+            "getScheduler", args -> scheduler,
+            "getLocation", args -> args.length == 0 ? getLocation() : copyLocation((Location) args[0]),
+            "getWorld", args -> this.location.getWorld(),
+            "getEntityId", args -> id,
+            "getUniqueId", args -> uniqueId,
+            "isValid", args -> isValid(),
+            "isDead", args -> removed,
+            "teleport", this::teleport,
+            "remove", args -> {
+                remove();
+                return null;
+            }
+        ));
+    }
+
+    /**
+     * Get the Bukkit view of the entity.
+     *
+     * @return {@link Entity} entity.
+     */
+    @NotNull
+    public Entity getEntity() {
+        return entity;
+    }
+
+    /**
+     * Get the id of the entity, unique to its server.
+     *
+     * @return Entity id.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Get the location of the entity.
+     *
+     * @return Copy of the location.
+     */
+    @NotNull
+    public Location getLocation() {
+        return location.clone();
+    }
+
+    /**
+     * Move the entity, which moves it to the region owning the new location from the next tick on.
+     *
+     * @param location New location, which must have a world.
+     */
+    public void teleport(@NotNull Location location) {
+        this.location = checkLocation(location);
+    }
+
+    /**
+     * Remove the entity. Its pending tasks are retired on the next tick.
+     */
+    public void remove() {
+        this.removed = true;
+    }
+
+    /**
+     * Check if the entity was not removed.
+     *
+     * @return {@code true} if it was not, {@code false} otherwise.
+     */
+    public boolean isValid() {
+        return !removed;
+    }
+
+    /**
+     * Get the location of the entity, without copying it.
+     *
+     * @return {@link Location} location.
+     */
+    @NotNull
+    Location getLocationUnsafe() {
+        return location;
+    }
+
+    /**
+     * Get the queued tasks of the entity.
+     *
+     * @return Queue of tasks.
+     */
+    @NotNull
+    Queue<SimulatedTask> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Check if the entity has no task left.
+     *
+     * @return {@code true} if it has none, {@code false} otherwise.
+     */
+    boolean isIdle() {
+        return tasks.isEmpty();
+    }
+
+    /**
+     * Run the tasks of the entity due by the given tick, or retire them all if it was removed. Does nothing if the
+     * entity moved away from the ticking region during this tick.
+     *
+     * @param currentTick Current tick.
+     */
+    void tick(long currentTick) {
+        if (removed) {
+            SimulatedTask task;
+            while ((task = tasks.poll()) != null) {
+                task.retire();
+            }
+            return;
+        }
+        if (server.isOwnedByCurrentRegion(location)) {
+            server.drain(tasks);
+        }
+    }
+
+    @NotNull
+    private Object teleport(@NotNull Object[] args) {
+        if (args.length == 0 || !(args[0] instanceof Location target)) {
+            throw new UnsupportedOperationException("Entity#teleport is only simulated to a location!");
+        }
+        teleport(target);
+        return true;
+    }
+
+    @NotNull
+    private Location copyLocation(@NotNull Location target) {
+        target.setWorld(location.getWorld());
+        target.setX(location.getX());
+        target.setY(location.getY());
+        target.setZ(location.getZ());
+        target.setYaw(location.getYaw());
+        target.setPitch(location.getPitch());
+        return target;
+    }
+
+    @NotNull
+    private static Location checkLocation(@NotNull Location location) {
+        final World world = location.getWorld();
+        if (world == null) {
+            throw new IllegalArgumentException("Location must have a world!");
+        }
+        return location.clone();
+    }
+}
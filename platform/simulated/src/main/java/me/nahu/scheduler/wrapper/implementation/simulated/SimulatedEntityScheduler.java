@@ -0,0 +1,59 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import io.papermc.paper.threadedregions.scheduler.EntityScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Entity scheduler of a simulated entity, rejecting every task once the entity is removed.
+ */
+final class SimulatedEntityScheduler implements EntityScheduler {
+
+    private final SimulatedServer server;
+    private final SimulatedEntity entity;
+
+    SimulatedEntityScheduler(@NotNull SimulatedServer server, @NotNull SimulatedEntity entity) {
+        this.server = server;
+        this.entity = entity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean execute(@NotNull Plugin plugin, @NotNull Runnable run, @Nullable Runnable retired, long delay) {
+        if (!entity.isValid()) {
+            return false;
+        }
+        server.scheduleEntity(entity, plugin, __ -> run.run(), retired, delay, 0L);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask run(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired) {
+        return entity.isValid() ? server.scheduleEntity(entity, plugin, task, retired, 1L, 0L) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired, long delayTicks) {
+        return entity.isValid() ? server.scheduleEntity(entity, plugin, task, retired, delayTicks, 0L) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @Nullable ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, @Nullable Runnable retired, long initialDelayTicks, long periodTicks) {
+        return entity.isValid() ? server.scheduleEntity(entity, plugin, task, retired, initialDelayTicks, Math.max(1L, periodTicks)) : null;
+    }
+}
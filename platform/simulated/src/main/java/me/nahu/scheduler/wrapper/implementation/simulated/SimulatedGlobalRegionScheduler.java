@@ -0,0 +1,60 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Global region scheduler of the simulated server.
+ */
+final class SimulatedGlobalRegionScheduler implements GlobalRegionScheduler {
+
+    private final SimulatedServer server;
+
+    SimulatedGlobalRegionScheduler(@NotNull SimulatedServer server) {
+        this.server = server;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NotNull Plugin plugin, @NotNull Runnable run) {
+        server.scheduleGlobal(plugin, __ -> run.run(), 1L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask run(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task) {
+        return server.scheduleGlobal(plugin, task, 1L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long delayTicks) {
+        return server.scheduleGlobal(plugin, task, delayTicks, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> task, long initialDelayTicks, long periodTicks) {
+        return server.scheduleGlobal(plugin, task, initialDelayTicks, Math.max(1L, periodTicks));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelTasks(@NotNull Plugin plugin) {
+        server.cancelGlobalTasks(plugin);
+    }
+}
@@ -0,0 +1,53 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Region scheduler of the simulated server.
+ */
+final class SimulatedRegionScheduler implements RegionScheduler {
+
+    private final SimulatedServer server;
+
+    SimulatedRegionScheduler(@NotNull SimulatedServer server) {
+        this.server = server;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Runnable run) {
+        server.scheduleRegion(plugin, world, chunkX, chunkZ, __ -> run.run(), 1L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask run(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Consumer<ScheduledTask> task) {
+        return server.scheduleRegion(plugin, world, chunkX, chunkZ, task, 1L, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runDelayed(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Consumer<ScheduledTask> task, long delayTicks) {
+        return server.scheduleRegion(plugin, world, chunkX, chunkZ, task, delayTicks, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ScheduledTask runAtFixedRate(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Consumer<ScheduledTask> task, long initialDelayTicks, long periodTicks) {
+        return server.scheduleRegion(plugin, world, chunkX, chunkZ, task, initialDelayTicks, Math.max(1L, periodTicks));
+    }
+}
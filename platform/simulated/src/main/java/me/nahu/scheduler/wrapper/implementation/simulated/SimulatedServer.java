@@ -0,0 +1,438 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import io.papermc.paper.threadedregions.scheduler.AsyncScheduler;
+import io.papermc.paper.threadedregions.scheduler.GlobalRegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.RegionScheduler;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import me.nahu.scheduler.wrapper.implementation.folia.region.RegionSection;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Deterministic Folia server, driven by a virtual tick clock.
+ * <p>
+ * The server models a global region, a region per area of {@code 2^regionShift} by {@code 2^regionShift} chunks, entity
+ * ownership by the region of the entity location, and an async pool timed by the virtual clock. Everything runs on the
+ * thread calling {@link #tick()}, in a fixed order, so the same program always runs the same tasks in the same order:
+ * <ol>
+ *     <li>Async tasks due before the tick, in the order they were due.</li>
+ *     <li>Global region tasks.</li>
+ *     <li>Every region, ordered by {@link RegionKey}, running its location tasks and then the tasks of the entities it
+ *     owns.</li>
+ * </ol>
+ * While a task runs, the server answers ownership checks as its region thread would, so code can be load-tested for
+ * region contention on a plain JVM. The server is not thread-safe, tasks must be scheduled from the ticking thread or
+ * before ticking.
+ */
+public final class SimulatedServer {
+
+    /**
+     * Length of a tick on the virtual clock.
+     */
+    public static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(50L);
+
+    private final int regionShift;
+
+    private final Queue<SimulatedTask> globalTasks = new PriorityQueue<>();
+    private final Queue<SimulatedTask> asyncTasks = new PriorityQueue<>();
+    private final TreeMap<RegionKey, Region> regions = new TreeMap<>();
+    private final Set<SimulatedEntity> activeEntities = new LinkedHashSet<>();
+    private final Map<String, World> worlds = new HashMap<>();
+
+    private final GlobalRegionScheduler globalRegionScheduler = new SimulatedGlobalRegionScheduler(this);
+    private final RegionScheduler regionScheduler = new SimulatedRegionScheduler(this);
+    private final AsyncScheduler asyncScheduler = new SimulatedAsyncScheduler(this);
+
+    private Thread tickThread;
+    private Context context = Context.NONE;
+    private RegionKey currentRegion;
+
+    private long currentTick;
+    private long time;
+    private long sequence;
+    private long executedTasks;
+    private int entityIds;
+
+    /**
+     * Main constructor for the server, with Folia's default region grid of 16 by 16 chunks.
+     */
+    public SimulatedServer() {
+        this(RegionSection.SHIFT);
+    }
+
+    /**
+     * Constructor for the server with a custom region grid.
+     *
+     * @param regionShift Shift from chunk coordinates to region coordinates. Must be between 0 and 16.
+     */
+    public SimulatedServer(int regionShift) {
+        if (regionShift < 0 || regionShift > 16) {
+            throw new IllegalArgumentException("Region shift must be between 0 and 16!");
+        }
+        this.regionShift = regionShift;
+    }
+
+    /**
+     * Create a new world.
+     *
+     * @param name Name of the world, unique to this server.
+     * @return {@link World} world.
+     */
+    @NotNull
+    public World createWorld(@NotNull String name) {
+        Objects.requireNonNull(name, "Name cannot be null!");
+        if (worlds.containsKey(name)) {
+            throw new IllegalArgumentException("World already exists!");
+        }
+        final UUID uniqueId = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        final World world = Proxies.create(World.class, name, Map.of(
+            "getName", args -> name,
+            "getUID", args -> uniqueId
+        ));
+        worlds.put(name, world);
+        return world;
+    }
+
+    /**
+     * Create a new plugin, logging to a logger named after it.
+     *
+     * @param name Name of the plugin.
+     * @return {@link Plugin} plugin.
+     */
+    @NotNull
+    public Plugin createPlugin(@NotNull String name) {
+        Objects.requireNonNull(name, "Name cannot be null!");
+        final Logger logger = Logger.getLogger(name);
+        return Proxies.create(Plugin.class, name, Map.of(
+            "getName", args -> name,
+            "getLogger", args -> logger,
+            "isEnabled", args -> true
+        ));
+    }
+
+    /**
+     * Spawn a new entity at the given location.
+     *
+     * @param location Location of the entity, which must have a world.
+     * @return {@link SimulatedEntity} entity.
+     */
+    @NotNull
+    public SimulatedEntity spawnEntity(@NotNull Location location) {
+        return new SimulatedEntity(this, ++entityIds, location);
+    }
+
+    /**
+     * Get the global region scheduler of the server.
+     *
+     * @return {@link GlobalRegionScheduler} scheduler.
+     */
+    @NotNull
+    public GlobalRegionScheduler getGlobalRegionScheduler() {
+        return globalRegionScheduler;
+    }
+
+    /**
+     * Get the region scheduler of the server.
+     *
+     * @return {@link RegionScheduler} scheduler.
+     */
+    @NotNull
+    public RegionScheduler getRegionScheduler() {
+        return regionScheduler;
+    }
+
+    /**
+     * Get the async scheduler of the server.
+     *
+     * @return {@link AsyncScheduler} scheduler.
+     */
+    @NotNull
+    public AsyncScheduler getAsyncScheduler() {
+        return asyncScheduler;
+    }
+
+    /**
+     * Advance the virtual clock by a single tick, running every task due.
+     */
+    public void tick() {
+        if (tickThread != null) {
+            throw new IllegalStateException("Server is already ticking!");
+        }
+        tickThread = Thread.currentThread();
+        try {
+            currentTick++;
+            final long tickTime = currentTick * NANOS_PER_TICK;
+
+            context = Context.ASYNC;
+            SimulatedTask task;
+            while ((task = asyncTasks.peek()) != null && task.getDue() <= tickTime) {
+                asyncTasks.poll();
+                time = Math.max(time, task.getDue());
+                run(task);
+            }
+            time = tickTime;
+
+            context = Context.GLOBAL;
+            drain(globalTasks);
+
+            context = Context.REGION;
+            for (SimulatedEntity entity : activeEntities) {
+                region(regionOf(entity.getLocationUnsafe())).entities.add(entity);
+            }
+            // regions created while ticking wait for the next tick
+            for (Region region : new ArrayList<>(regions.values())) {
+                currentRegion = region.key;
+                drain(region.tasks);
+                for (SimulatedEntity entity : region.entities) {
+                    entity.tick(currentTick);
+                }
+                region.entities.clear();
+            }
+            regions.values().removeIf(region -> region.tasks.isEmpty());
+            activeEntities.removeIf(SimulatedEntity::isIdle);
+        } finally {
+            context = Context.NONE;
+            currentRegion = null;
+            tickThread = null;
+        }
+    }
+
+    /**
+     * Advance the virtual clock by the given amount of ticks.
+     *
+     * @param ticks Ticks to advance.
+     */
+    public void tick(long ticks) {
+        for (long tick = 0L; tick < ticks; tick++) {
+            tick();
+        }
+    }
+
+    /**
+     * Tick until no task is left, or the given amount of ticks passed. Repeating tasks keep the server busy until they
+     * are cancelled.
+     *
+     * @param maxTicks Maximum amount of ticks to advance.
+     * @return Amount of ticks advanced.
+     */
+    public long tickUntilIdle(long maxTicks) {
+        long ticks = 0L;
+        while (ticks < maxTicks && !isIdle()) {
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Check if no task is queued, including cancelled tasks not reached yet.
+     *
+     * @return {@code true} if none is, {@code false} otherwise.
+     */
+    public boolean isIdle() {
+        return globalTasks.isEmpty() && asyncTasks.isEmpty() && regions.isEmpty() && activeEntities.isEmpty();
+    }
+
+    /**
+     * Get the current tick, zero before the first tick.
+     *
+     * @return Current tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Get the time of the virtual clock.
+     *
+     * @return Time in nanoseconds.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Get the amount of tasks executed so far.
+     *
+     * @return Amount of executed tasks.
+     */
+    public long getExecutedTaskCount() {
+        return executedTasks;
+    }
+
+    /**
+     * Get the region owning the given location.
+     *
+     * @param location Location, which must have a world.
+     * @return {@link RegionKey} region.
+     */
+    @NotNull
+    public RegionKey regionOf(@NotNull Location location) {
+        final World world = location.getWorld();
+        if (world == null) {
+            throw new IllegalArgumentException("Location must have a world!");
+        }
+        return regionOf(world, location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * Check if the current thread is the global region thread.
+     *
+     * @return {@code true} if it is, {@code false} otherwise.
+     */
+    public boolean isGlobalTickThread() {
+        return context == Context.GLOBAL && Thread.currentThread() == tickThread;
+    }
+
+    /**
+     * Check if the current thread owns the given location.
+     *
+     * @param location Location to check.
+     * @return {@code true} if it does, {@code false} otherwise.
+     */
+    public boolean isOwnedByCurrentRegion(@NotNull Location location) {
+        return context == Context.REGION && Thread.currentThread() == tickThread && currentRegion.equals(regionOf(location));
+    }
+
+    /**
+     * Check if the current thread owns the given entity.
+     *
+     * @param entity Entity to check.
+     * @return {@code true} if it does, {@code false} otherwise.
+     */
+    public boolean isOwnedByCurrentRegion(@NotNull Entity entity) {
+        return isOwnedByCurrentRegion(entity.getLocation());
+    }
+
+    @NotNull
+    SimulatedTask scheduleGlobal(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> consumer, long delay, long period) {
+        return new SimulatedTask(plugin, consumer, null, globalTasks, period).queue(dueTick(delay), nextSequence());
+    }
+
+    @NotNull
+    SimulatedTask scheduleRegion(@NotNull Plugin plugin, @NotNull World world, int chunkX, int chunkZ, @NotNull Consumer<ScheduledTask> consumer, long delay, long period) {
+        final Region region = region(regionOf(world, chunkX, chunkZ));
+        return new SimulatedTask(plugin, consumer, null, region.tasks, period).queue(dueTick(delay), nextSequence());
+    }
+
+    @NotNull
+    SimulatedTask scheduleAsync(@NotNull Plugin plugin, @NotNull Consumer<ScheduledTask> consumer, long delay, long period) {
+        return new SimulatedTask(plugin, consumer, null, asyncTasks, period).queue(time + Math.max(0L, delay), nextSequence());
+    }
+
+    @NotNull
+    SimulatedTask scheduleEntity(
+        @NotNull SimulatedEntity entity,
+        @NotNull Plugin plugin,
+        @NotNull Consumer<ScheduledTask> consumer,
+        @Nullable Runnable retired,
+        long delay,
+        long period
+    ) {
+        activeEntities.add(entity);
+        return new SimulatedTask(plugin, consumer, retired, entity.getTasks(), period).queue(dueTick(delay), nextSequence());
+    }
+
+    void cancelGlobalTasks(@NotNull Plugin plugin) {
+        cancelTasks(globalTasks, plugin);
+    }
+
+    void cancelAsyncTasks(@NotNull Plugin plugin) {
+        cancelTasks(asyncTasks, plugin);
+    }
+
+    /**
+     * Run every task of the queue due by the current tick.
+     *
+     * @param tasks Queue of tasks.
+     */
+    void drain(@NotNull Queue<SimulatedTask> tasks) {
+        SimulatedTask task;
+        while ((task = tasks.peek()) != null && task.getDue() <= currentTick) {
+            tasks.poll();
+            run(task);
+        }
+    }
+
+    /**
+     * Get the order of the next task queued, among the ones due at the same time.
+     *
+     * @return Sequence number.
+     */
+    long nextSequence() {
+        return ++sequence;
+    }
+
+    private void run(@NotNull SimulatedTask task) {
+        if (task.run(this)) {
+            executedTasks++;
+        }
+    }
+
+    private long dueTick(long delay) {
+        // like Folia, nothing scheduled runs before the next tick
+        return currentTick + Math.max(1L, delay);
+    }
+
+    @NotNull
+    private RegionKey regionOf(@NotNull World world, int chunkX, int chunkZ) {
+        return new RegionKey(world, chunkX >> regionShift, chunkZ >> regionShift);
+    }
+
+    @NotNull
+    private Region region(@NotNull RegionKey key) {
+        return regions.computeIfAbsent(key, Region::new);
+    }
+
+    private static void cancelTasks(@NotNull Queue<SimulatedTask> tasks, @NotNull Plugin plugin) {
+        for (SimulatedTask task : tasks) {
+            if (task.getOwningPlugin().equals(plugin)) {
+                task.cancel();
+            }
+        }
+    }
+
+    /**
+     * Kind of thread the running task is on.
+     */
+    private enum Context {
+        NONE,
+        GLOBAL,
+        REGION,
+        ASYNC,
+    }
+
+    /**
+     * Queued tasks of a region, and the entities it owns during the current tick.
+     */
+    private static final class Region {
+
+        private final RegionKey key;
+        private final Queue<SimulatedTask> tasks = new PriorityQueue<>();
+        private final List<SimulatedEntity> entities = new ArrayList<>();
+
+        private Region(@NotNull RegionKey key) {
+            this.key = key;
+        }
+    }
+}
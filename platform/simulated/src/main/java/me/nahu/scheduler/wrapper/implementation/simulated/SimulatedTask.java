@@ -0,0 +1,179 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Task queued on the simulated server, following Folia's state transitions.
+ * <p>
+ * Sync tasks are due at a tick, async tasks at a time of the virtual clock in nanoseconds. Tasks due at the same time
+ * run in the order they were scheduled.
+ */
+final class SimulatedTask implements ScheduledTask, Comparable<SimulatedTask> {
+
+    private final Plugin plugin;
+    private final Consumer<ScheduledTask> consumer;
+    private final Runnable retired;
+    private final Queue<SimulatedTask> queue;
+    private final long period;
+
+    private long sequence;
+    private long due;
+    private ExecutionState executionState = ExecutionState.IDLE;
+
+    /**
+     * Main constructor for the task. The task is not queued until {@link #queue(long, long)} is called.
+     *
+     * @param plugin {@link Plugin} owning plugin.
+     * @param consumer Task body.
+     * @param retired Callback run if the entity of the task is removed, {@code null} if it has none.
+     * @param queue Queue the task lives in.
+     * @param period Period between runs, in the unit of the queue, zero or less if it only runs once.
+     */
+    SimulatedTask(
+        @NotNull Plugin plugin,
+        @NotNull Consumer<ScheduledTask> consumer,
+        @Nullable Runnable retired,
+        @NotNull Queue<SimulatedTask> queue,
+        long period
+    ) {
+        this.plugin = plugin;
+        this.consumer = consumer;
+        this.retired = retired;
+        this.queue = queue;
+        this.period = period;
+    }
+
+    /**
+     * Queue the task.
+     *
+     * @param due Time the task is due at, in the unit of the queue.
+     * @param sequence Order of the task among the ones due at the same time.
+     * @return This task.
+     */
+    @NotNull
+    SimulatedTask queue(long due, long sequence) {
+        this.due = due;
+        this.sequence = sequence;
+        queue.add(this);
+        return this;
+    }
+
+    /**
+     * Get the time the task is due at.
+     *
+     * @return Due time, in the unit of its queue.
+     */
+    long getDue() {
+        return due;
+    }
+
+    /**
+     * Run the task if it was not cancelled, queueing its next run if it is repeating.
+     *
+     * @param server {@link SimulatedServer} server running the task.
+     * @return {@code true} if the task ran, {@code false} if it was cancelled.
+     */
+    boolean run(@NotNull SimulatedServer server) {
+        if (executionState != ExecutionState.IDLE) {
+            return false;
+        }
+        executionState = ExecutionState.RUNNING;
+        try {
+            consumer.accept(this);
+        } catch (Throwable throwable) {
+            plugin.getLogger().log(Level.SEVERE, "Task generated an exception", throwable);
+        } finally {
+            if (executionState == ExecutionState.RUNNING) {
+                if (period > 0L) {
+                    executionState = ExecutionState.IDLE;
+                    queue(due + period, server.nextSequence());
+                } else {
+                    executionState = ExecutionState.FINISHED;
+                }
+            } else if (executionState == ExecutionState.CANCELLED_RUNNING) {
+                executionState = ExecutionState.CANCELLED;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retire the task, as its entity was removed, running the retired callback if it was not cancelled.
+     */
+    void retire() {
+        if (executionState != ExecutionState.IDLE) {
+            return;
+        }
+        executionState = ExecutionState.CANCELLED;
+        if (retired != null) {
+            try {
+                retired.run();
+            } catch (Throwable throwable) {
+                plugin.getLogger().log(Level.SEVERE, "Retired callback generated an exception", throwable);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int compareTo(@NotNull SimulatedTask other) {
+        final int byDue = Long.compare(due, other.due);
+        return byDue != 0 ? byDue : Long.compare(sequence, other.sequence);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull Plugin getOwningPlugin() {
+        return plugin;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRepeatingTask() {
+        return period > 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull CancelledState cancel() {
+        return switch (executionState) {
+            case IDLE -> {
+                executionState = ExecutionState.CANCELLED;
+                yield CancelledState.CANCELLED_BY_CALLER;
+            }
+            case RUNNING -> {
+                if (period <= 0L) {
+                    yield CancelledState.RUNNING;
+                }
+                executionState = ExecutionState.CANCELLED_RUNNING;
+                yield CancelledState.NEXT_RUNS_CANCELLED;
+            }
+            case FINISHED -> CancelledState.ALREADY_EXECUTED;
+            case CANCELLED_RUNNING -> CancelledState.NEXT_RUNS_CANCELLED_ALREADY;
+            case CANCELLED -> CancelledState.CANCELLED_ALREADY;
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NotNull ExecutionState getExecutionState() {
+        return executionState;
+    }
+}
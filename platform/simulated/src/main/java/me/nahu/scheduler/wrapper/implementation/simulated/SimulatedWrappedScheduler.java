@@ -0,0 +1,107 @@
+package me.nahu.scheduler.wrapper.implementation.simulated;
+
+import me.nahu.scheduler.wrapper.WrappedSchedulerOptions;
+import me.nahu.scheduler.wrapper.implementation.folia.FoliaWrappedScheduler;
+import me.nahu.scheduler.wrapper.type.ImplementationType;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Folia's implementation for schedulers, running on a {@link SimulatedServer} instead of a real server.
+ * <p>
+ * Every task goes through the simulated schedulers and ownership checks are answered by the simulated regions, so
+ * nothing runs until the server is ticked, and the same program always runs the same way. Reports
+ * {@link ImplementationType#FOLIA}, as it behaves like it. Timers, debounces, throttles, caches and metrics read the
+ * virtual clock of the server through {@link #nanoTime()}. Virtual threads would run outside of the virtual clock, so
+ * they cannot be enabled. Tick budgets still measure the real time spent in the task bodies.
+ */
+public final class SimulatedWrappedScheduler extends FoliaWrappedScheduler {
+
+    private final SimulatedServer server;
+
+    /**
+     * Main constructor for the wrapped scheduler.
+     *
+     * @param server {@link SimulatedServer} server running the tasks.
+     * @param plugin {@link Plugin} owning plugin.
+     */
+    public SimulatedWrappedScheduler(@NotNull SimulatedServer server, @NotNull Plugin plugin) {
+        this(server, plugin, WrappedSchedulerOptions.defaults());
+    }
+
+    /**
+     * Constructor for the wrapped scheduler with custom options.
+     *
+     * @param server {@link SimulatedServer} server running the tasks.
+     * @param plugin {@link Plugin} owning plugin.
+     * @param options {@link WrappedSchedulerOptions} scheduler options, without virtual threads.
+     */
+    public SimulatedWrappedScheduler(@NotNull SimulatedServer server, @NotNull Plugin plugin, @NotNull WrappedSchedulerOptions options) {
+        super(
+            plugin,
+            checkOptions(options),
+            ImplementationType.FOLIA,
+            server.getGlobalRegionScheduler(),
+            server.getAsyncScheduler(),
+            server.getRegionScheduler()
+        );
+        this.server = server;
+    }
+
+    /**
+     * Get the server running the tasks.
+     *
+     * @return {@link SimulatedServer} server.
+     */
+    @NotNull
+    public SimulatedServer getServer() {
+        return server;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The virtual clock of the server.
+     */
+    @Override
+    public long nanoTime() {
+        return server.getTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isGlobalTickThread() {
+        return server.isGlobalTickThread();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isOwnedByCurrentRegion(@NotNull Entity entity) {
+        return server.isOwnedByCurrentRegion(entity);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isOwnedByCurrentRegion(@NotNull Location location) {
+        return server.isOwnedByCurrentRegion(location);
+    }
+
+    @NotNull
+    private static WrappedSchedulerOptions checkOptions(@NotNull WrappedSchedulerOptions options) {
+        Objects.requireNonNull(options, "Options cannot be null!");
+        if (options.isVirtualThreads()) {
+            throw new IllegalArgumentException("Virtual threads cannot be simulated!");
+        }
+        return options;
+    }
+}
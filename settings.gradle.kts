@@ -2,5 +2,8 @@ rootProject.name = "folia-scheduler-wrapper"
 
 include("folia-scheduler-wrapper")
 include("platform:folia")
+include("platform:paper")
+include("platform:simulated")
 include("platform:bukkit")
-include("platform:common")
\ No newline at end of file
+include("platform:common")
+include("benchmarks")
\ No newline at end of file